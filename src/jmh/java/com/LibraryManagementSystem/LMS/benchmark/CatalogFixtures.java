@@ -0,0 +1,132 @@
+package com.LibraryManagementSystem.LMS.benchmark;
+
+import com.LibraryManagementSystem.LMS.entity.Author;
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.BookCopy;
+import com.LibraryManagementSystem.LMS.entity.Borrowed;
+import com.LibraryManagementSystem.LMS.entity.Genre;
+import com.LibraryManagementSystem.LMS.entity.Publisher;
+import com.LibraryManagementSystem.LMS.entity.User;
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+import com.LibraryManagementSystem.LMS.enums.BorrowStatus;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Detached entities shaped like a typical catalog row: a publisher, two authors, three genres
+final class CatalogFixtures {
+
+    static final List<String> LANGUAGES = List.of("English", "French", "German", "Spanish", "Urdu");
+
+    // Any value with a BCrypt prefix passes the entity check; nobody logs in with these
+    static final String PASSWORD_HASH = "$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchm";
+
+    private static final String[] WORDS = {
+            "history", "garden", "river", "night", "empire", "silent", "winter", "machine", "ocean", "letters",
+            "kingdom", "shadow", "city", "journey", "glass", "memory", "storm", "island", "north", "fire"
+    };
+
+    private CatalogFixtures() {
+    }
+
+    static Publisher publisher(int n) {
+        Publisher publisher = new Publisher();
+        publisher.setName("Publisher " + n);
+        publisher.setAddress(n + " Press Street");
+        publisher.setEmail("contact" + n + "@publisher.example");
+        publisher.setCountry("Country " + (n % 12));
+        return publisher;
+    }
+
+    static Author author(int n) {
+        Author author = new Author();
+        author.setName(word(n) + " Author " + n);
+        author.setBiography("Writes about " + word(n * 7) + " and " + word(n * 13) + ".");
+        author.setBirthDate(LocalDate.of(1940 + n % 60, 1 + n % 12, 1 + n % 28));
+        author.setNationality("Nation " + (n % 30));
+        return author;
+    }
+
+    static Genre genre(int n) {
+        Genre genre = new Genre();
+        genre.setName("Genre " + word(n) + " " + n);
+        genre.setDescription("Books about " + word(n));
+        return genre;
+    }
+
+    static Book book(int n, Publisher publisher, Set<Author> authors, Set<Genre> genres) {
+        Book book = new Book();
+        book.setIsbn(String.format("978%010d", n));
+        book.setTitle("The " + word(n) + " of the " + word(n / 3 + 5) + " " + n);
+        book.setDescription("A story of " + word(n * 3) + ", " + word(n * 5) + " and " + word(n * 11) + ".");
+        book.setPublicationDate(LocalDate.of(1950 + n % 75, 1 + n % 12, 1 + n % 28));
+        book.setLanguage(LANGUAGES.get(n % LANGUAGES.size()));
+        book.setPageCount(120 + n % 600);
+        book.setPublisher(publisher);
+        book.setAuthors(new HashSet<>(authors));
+        book.setGenres(new HashSet<>(genres));
+        return book;
+    }
+
+    static BookCopy copy(int n, Book book) {
+        BookCopy copy = new BookCopy();
+        copy.setBarcode(String.format("BC%010d", n));
+        copy.setCondition("GOOD");
+        copy.setStatus(BookCopyStatus.AVAILABLE);
+        copy.setAcquisitionDate(LocalDate.of(2020, 1 + n % 12, 1 + n % 28));
+        copy.setLocation("Shelf " + (n % 200));
+        copy.setBook(book);
+        return copy;
+    }
+
+    static User user(int n) {
+        User user = new User();
+        user.setName(word(n) + " Reader " + n);
+        user.setEmail("reader" + n + "@lms.example");
+        user.setPassword(PASSWORD_HASH);
+        user.setPhoneNumber(String.format("0300%07d", n));
+        user.setAddress(n + " Library Lane");
+        user.setMembershipDate(LocalDate.of(2022, 1 + n % 12, 1 + n % 28));
+        return user;
+    }
+
+    static Borrowed loan(BookCopy copy, User user, LocalDate borrowDate) {
+        Borrowed loan = new Borrowed();
+        loan.setBookCopy(copy);
+        loan.setUser(user);
+        loan.setBorrowDate(borrowDate);
+        loan.setDueDate(borrowDate.plusDays(14));
+        loan.setStatus(BorrowStatus.BORROWED);
+        return loan;
+    }
+
+    // Fully populated detached book with ids, as the mapper sees it after a fetch
+    static Book detachedBook(long id) {
+        int n = (int) id;
+        Publisher publisher = publisher(n % 20);
+        publisher.setId((long) (n % 20 + 1));
+
+        Set<Author> authors = new HashSet<>();
+        for (int i = 0; i < 2; i++) {
+            Author author = author(n + i);
+            author.setId((long) (n + i));
+            authors.add(author);
+        }
+        Set<Genre> genres = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            Genre genre = genre(n + i);
+            genre.setId((long) (n + i));
+            genres.add(genre);
+        }
+
+        Book book = book(n, publisher, authors, genres);
+        book.setId(id);
+        return book;
+    }
+
+    static String word(int n) {
+        return WORDS[Math.floorMod(n, WORDS.length)];
+    }
+}
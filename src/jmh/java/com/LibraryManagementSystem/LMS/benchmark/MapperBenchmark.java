@@ -0,0 +1,76 @@
+package com.LibraryManagementSystem.LMS.benchmark;
+
+import com.LibraryManagementSystem.LMS.dto.BookResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.BorrowedResponseDTO;
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.Borrowed;
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+import com.LibraryManagementSystem.LMS.mapper.AuthorMapper;
+import com.LibraryManagementSystem.LMS.mapper.BookCopyMapper;
+import com.LibraryManagementSystem.LMS.mapper.BookMapper;
+import com.LibraryManagementSystem.LMS.mapper.BorrowedMapper;
+import com.LibraryManagementSystem.LMS.mapper.GenreMapper;
+import com.LibraryManagementSystem.LMS.mapper.PublisherMapper;
+import com.LibraryManagementSystem.LMS.search.BookAvailabilityIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Entity -> DTO mapping on detached, fully loaded entities: the CPU cost per row of every listing endpoint
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private BookMapper bookMapper;
+    private BorrowedMapper borrowedMapper;
+    private Book book;
+    private Borrowed loan;
+
+    @Setup
+    public void setUp() {
+        BookAvailabilityIndex availability = new BookAvailabilityIndex();
+        // The repositories are only used when mapping requests back to entities
+        bookMapper = new BookMapper(new AuthorMapper(), new GenreMapper(), new PublisherMapper(),
+                                    null, null, null, availability);
+        borrowedMapper = new BorrowedMapper(new BookCopyMapper(bookMapper, null), null, null);
+
+        book = CatalogFixtures.detachedBook(42);
+        List<BookAvailabilityIndex.Row> copies = new ArrayList<>();
+        for (long copyId = 1; copyId <= 4; copyId++) {
+            copies.add(new BookAvailabilityIndex.Row(copyId, book.getId(), BookCopyStatus.AVAILABLE));
+        }
+        copies.add(new BookAvailabilityIndex.Row(5L, book.getId(), BookCopyStatus.BORROWED));
+        availability.reload(() -> copies);
+
+        loan = CatalogFixtures.loan(CatalogFixtures.copy(7, book), CatalogFixtures.user(7), LocalDate.of(2024, 3, 1));
+        loan.setId(1L);
+        loan.getBookCopy().setId(7L);
+        loan.getUser().setId(7L);
+    }
+
+    @Benchmark
+    public BookResponseDTO bookToResponseDTO() {
+        return bookMapper.toResponseDTO(book);
+    }
+
+    @Benchmark
+    public BorrowedResponseDTO borrowedToResponseDTO() {
+        return borrowedMapper.toResponseDTO(loan);
+    }
+}
@@ -0,0 +1,64 @@
+package com.LibraryManagementSystem.LMS.benchmark;
+
+import com.LibraryManagementSystem.LMS.dto.BookResponseDTO;
+import com.LibraryManagementSystem.LMS.mapper.AuthorMapper;
+import com.LibraryManagementSystem.LMS.mapper.BookMapper;
+import com.LibraryManagementSystem.LMS.mapper.GenreMapper;
+import com.LibraryManagementSystem.LMS.mapper.PublisherMapper;
+import com.LibraryManagementSystem.LMS.search.BookAvailabilityIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Writing a page of books the way the paginated listing endpoints do (Page<BookResponseDTO> -> JSON bytes)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<BookResponseDTO> page;
+
+    @Setup
+    public void setUp() {
+        // Same modules and features as the ObjectMapper Spring MVC builds (java.time support, no timestamps)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        BookMapper bookMapper = new BookMapper(new AuthorMapper(), new GenreMapper(), new PublisherMapper(),
+                                               null, null, null, new BookAvailabilityIndex());
+        List<BookResponseDTO> content = new ArrayList<>(pageSize);
+        for (int i = 1; i <= pageSize; i++) {
+            content.add(bookMapper.toResponseDTO(CatalogFixtures.detachedBook(i)));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("id").ascending()), 10_000);
+    }
+
+    @Benchmark
+    public byte[] writePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,185 @@
+package com.LibraryManagementSystem.LMS.benchmark;
+
+import com.LibraryManagementSystem.LMS.LmsApplication;
+import com.LibraryManagementSystem.LMS.dto.BookResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.BorrowedResponseDTO;
+import com.LibraryManagementSystem.LMS.entity.Author;
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.BookCopy;
+import com.LibraryManagementSystem.LMS.entity.Borrowed;
+import com.LibraryManagementSystem.LMS.entity.Genre;
+import com.LibraryManagementSystem.LMS.entity.Publisher;
+import com.LibraryManagementSystem.LMS.entity.User;
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+import com.LibraryManagementSystem.LMS.mapper.BookMapper;
+import com.LibraryManagementSystem.LMS.mapper.BorrowedMapper;
+import com.LibraryManagementSystem.LMS.repository.AuthorRepository;
+import com.LibraryManagementSystem.LMS.repository.BookCopyRepository;
+import com.LibraryManagementSystem.LMS.repository.BookRepository;
+import com.LibraryManagementSystem.LMS.repository.BorrowedRepository;
+import com.LibraryManagementSystem.LMS.repository.GenreRepository;
+import com.LibraryManagementSystem.LMS.repository.PublisherRepository;
+import com.LibraryManagementSystem.LMS.repository.UserRepository;
+import com.LibraryManagementSystem.LMS.service.interfaces.BookCopyService;
+import com.LibraryManagementSystem.LMS.service.interfaces.BookService;
+import com.LibraryManagementSystem.LMS.service.interfaces.BorrowedService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+// Service reads plus DTO mapping against the real application context on an in-memory H2 database.
+// Each call runs in one read-only transaction, as a request does with open-in-view, so lazy associations
+// are fetched the same way. Absolute numbers are not PostgreSQL's; compare runs of this suite with each other.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    @Param({"5000"})
+    public int books;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private BookService bookService;
+    private BorrowedService borrowedService;
+    private BookMapper bookMapper;
+    private BorrowedMapper borrowedMapper;
+    private List<Long> bookIds;
+    private List<Long> userIds;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(LmsApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:lms-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "server.port=0",
+                        "lms.overdue.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        bookService = context.getBean(BookService.class);
+        borrowedService = context.getBean(BorrowedService.class);
+        bookMapper = context.getBean(BookMapper.class);
+        borrowedMapper = context.getBean(BorrowedMapper.class);
+
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> seed());
+        // Indexes are built on ApplicationReadyEvent, before the seed data existed
+        bookService.rebuildSearchIndex();
+        context.getBean(BookCopyService.class).rebuildAvailabilityIndex();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<BookResponseDTO> bookPage() {
+        int page = ThreadLocalRandom.current().nextInt(books / 20);
+        return readOnly.execute(status -> bookService.getAllPaginated(PageRequest.of(page, 20, Sort.by("id")))
+                .map(bookMapper::toResponseDTO));
+    }
+
+    @Benchmark
+    public BookResponseDTO bookById() {
+        Long id = bookIds.get(ThreadLocalRandom.current().nextInt(bookIds.size()));
+        return readOnly.execute(status -> bookMapper.toResponseDTO(bookService.getById(id)));
+    }
+
+    @Benchmark
+    public List<BookResponseDTO> catalogSearch() {
+        String query = CatalogFixtures.word(ThreadLocalRandom.current().nextInt(100));
+        return readOnly.execute(status -> bookService.search(query, 20).stream()
+                .map(bookMapper::toResponseDTO)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public Page<BorrowedResponseDTO> loansByUser() {
+        Long userId = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+        return readOnly.execute(status -> borrowedService.findByUserId(userId, PageRequest.of(0, 20))
+                .map(borrowedMapper::toResponseDTO));
+    }
+
+    private void seed() {
+        List<Publisher> publishers = context.getBean(PublisherRepository.class).saveAll(
+                range(20, CatalogFixtures::publisher));
+        List<Author> authors = context.getBean(AuthorRepository.class).saveAll(
+                range(books / 5, CatalogFixtures::author));
+        List<Genre> genres = context.getBean(GenreRepository.class).saveAll(
+                range(30, CatalogFixtures::genre));
+
+        List<Book> catalog = new ArrayList<>(books);
+        for (int n = 0; n < books; n++) {
+            catalog.add(CatalogFixtures.book(n,
+                    publishers.get(n % publishers.size()),
+                    // copyOf, not of: the two picks can land on the same author or genre
+                    Set.copyOf(List.of(authors.get(n % authors.size()), authors.get((n * 7 + 1) % authors.size()))),
+                    Set.copyOf(List.of(genres.get(n % genres.size()), genres.get((n / 3 + 1) % genres.size())))));
+        }
+        catalog = context.getBean(BookRepository.class).saveAll(catalog);
+        bookIds = catalog.stream().map(Book::getId).toList();
+
+        // Two copies per title; the first copy of every fourth title is out on loan
+        List<BookCopy> copies = new ArrayList<>(books * 2);
+        for (int n = 0; n < books * 2; n++) {
+            copies.add(CatalogFixtures.copy(n, catalog.get(n / 2)));
+        }
+        copies = context.getBean(BookCopyRepository.class).saveAll(copies);
+
+        List<User> users = context.getBean(UserRepository.class).saveAll(
+                range(Math.max(1, books / 25), CatalogFixtures::user));
+        userIds = users.stream().map(User::getId).toList();
+
+        List<Borrowed> loans = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int n = 0; n < books; n += 4) {
+            BookCopy copy = copies.get(n * 2);
+            copy.setStatus(BookCopyStatus.BORROWED);
+            loans.add(CatalogFixtures.loan(copy, users.get(n % users.size()), today.minusDays(n % 20)));
+        }
+        context.getBean(BorrowedRepository.class).saveAll(loans);
+    }
+
+    private static <T> List<T> range(int count, IntFunction<T> factory) {
+        List<T> items = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            items.add(factory.apply(n));
+        }
+        return items;
+    }
+}
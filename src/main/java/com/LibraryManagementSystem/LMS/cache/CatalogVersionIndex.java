@@ -0,0 +1,55 @@
+package com.LibraryManagementSystem.LMS.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Change counters per catalog, used to build ETags without reading the rows they describe. A counter moves
+// after every committed write to its catalog, so a tag handed out before the write no longer matches.
+// Tags also carry a per-process nonce and a time window: this node cannot see writes made on other nodes,
+// so its tags are only trusted for one window (lms.http.etag.window-seconds) and never by other nodes.
+@Component
+public class CatalogVersionIndex {
+
+    public enum Catalog {
+        BOOKS,
+        AUTHORS,
+        GENRES,
+        PUBLISHERS
+    }
+
+    private final AtomicLongArray versions = new AtomicLongArray(Catalog.values().length);
+    private final String nonce = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    @Value("${lms.http.etag.window-seconds:300}")
+    private Long windowSeconds;
+
+    // Called by services inside the writing transaction; the counter moves once the data is visible
+    public void changed(Catalog catalog) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.incrementAndGet(catalog.ordinal());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.incrementAndGet(catalog.ordinal());
+            }
+        });
+    }
+
+    // Opaque, unquoted tag over the given catalogs; callers append anything else the representation depends on
+    public String tag(Catalog... catalogs) {
+        StringBuilder tag = new StringBuilder(nonce)
+                .append('-')
+                .append(Long.toString(System.currentTimeMillis() / 1000 / windowSeconds, 36));
+        for (Catalog catalog : catalogs) {
+            tag.append('-').append(versions.get(catalog.ordinal()));
+        }
+        return tag.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package com.LibraryManagementSystem.LMS.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+
+// Overdue fine policy, shared by returns and the nightly overdue sweep
+@Configuration
+public class FineConfig {
+
+    @Value("${lms.fines.daily-rate:5.00}")
+    private BigDecimal dailyRate;
+
+    @Value("${lms.fines.grace-days:0}")
+    private Integer graceDays;
+
+    @Value("${lms.fines.max-amount:#{null}}") // no cap when unset
+    private BigDecimal maxAmount;
+
+    public BigDecimal getDailyRate() {
+        return dailyRate;
+    }
+
+    public Integer getGraceDays() {
+        return graceDays;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    // Days charged for a loan due on dueDate as of the given day, after the grace period
+    public long chargeableDays(LocalDate dueDate, LocalDate asOf) {
+        return Math.max(0, ChronoUnit.DAYS.between(dueDate, asOf) - graceDays);
+    }
+
+    public BigDecimal amountFor(long chargeableDays) {
+        BigDecimal amount = dailyRate.multiply(BigDecimal.valueOf(chargeableDays));
+        return maxAmount != null && amount.compareTo(maxAmount) > 0 ? maxAmount : amount;
+    }
+}
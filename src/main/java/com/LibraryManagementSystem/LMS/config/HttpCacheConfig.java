@@ -0,0 +1,27 @@
+package com.LibraryManagementSystem.LMS.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+
+import java.util.concurrent.TimeUnit;
+
+
+// Cache-Control policies for conditional catalog GETs. Responses are per user (every endpoint is
+// authenticated), so shared caches must not store them.
+@Configuration
+public class HttpCacheConfig {
+
+    @Value("${lms.http.cache.reference-max-age-seconds:60}")
+    private Long referenceMaxAgeSeconds;
+
+    // Authors, genres and publishers: reuse for a short while, then revalidate with the ETag
+    public CacheControl referenceData() {
+        return CacheControl.maxAge(referenceMaxAgeSeconds, TimeUnit.SECONDS).cachePrivate();
+    }
+
+    // Books carry live copy availability, so every reuse is revalidated (usually a cheap 304)
+    public CacheControl books() {
+        return CacheControl.noCache().cachePrivate();
+    }
+}
@@ -13,6 +13,9 @@ public class JwtConfig {
     @Value("${jwt.expiration:86400000}") // 24 hours in ms
     private Long expiration;
 
+    @Value("${jwt.claims-cache.max-size:10000}") // 0 disables the cache
+    private Integer claimsCacheMaxSize;
+
     public String getSecret() {
         return secret;
     }
@@ -20,4 +23,8 @@ public class JwtConfig {
     public Long getExpiration() {
         return expiration;
     }
+
+    public Integer getClaimsCacheMaxSize() {
+        return claimsCacheMaxSize;
+    }
 }
@@ -0,0 +1,45 @@
+package com.LibraryManagementSystem.LMS.config;
+
+import com.LibraryManagementSystem.LMS.metrics.ServiceMetricsAspect;
+import com.LibraryManagementSystem.LMS.metrics.StatementProfilingFilter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+
+@Configuration
+public class MetricsConfig {
+
+    // Service and repository call timers, and the per-endpoint SQL profile
+    private static final Set<String> DISTRIBUTIONS = Set.of(
+            ServiceMetricsAspect.METRIC_NAME, "spring.data.repository.invocations",
+            StatementProfilingFilter.STATEMENTS_METRIC, StatementProfilingFilter.ENTITIES_METRIC,
+            StatementProfilingFilter.TIME_METRIC);
+
+    @Value("${lms.metrics.percentiles:0.5,0.95,0.99}")
+    private double[] percentiles;
+
+    // Histogram buckets let Prometheus compute percentiles across nodes; the client-side ones above cannot be summed
+    @Value("${lms.metrics.percentiles-histogram:true}")
+    private Boolean percentilesHistogram;
+
+    // Percentile defaults; anything set explicitly under management.metrics.distribution wins
+    @Bean
+    public MeterFilter latencyDistributionMeterFilter() {
+        DistributionStatisticConfig defaults = DistributionStatisticConfig.builder()
+                .percentiles(percentiles)
+                .percentilesHistogram(percentilesHistogram)
+                .build();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DISTRIBUTIONS.contains(id.getName()) ? config.merge(defaults) : config;
+            }
+        };
+    }
+}
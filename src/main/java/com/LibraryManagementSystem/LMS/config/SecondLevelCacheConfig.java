@@ -0,0 +1,71 @@
+package com.LibraryManagementSystem.LMS.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+
+// Hibernate second-level cache for reference data (authors, genres, publishers and the book -> author/genre
+// links), held in local Caffeine caches. Entries are READ_WRITE, so Hibernate replaces or invalidates them
+// when the services write through the entity manager; the TTL bounds staleness from writes made elsewhere.
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String AUTHORS_REGION = "reference.authors";
+    public static final String GENRES_REGION = "reference.genres";
+    public static final String PUBLISHERS_REGION = "reference.publishers";
+    public static final String BOOK_AUTHORS_REGION = "reference.book-authors";
+    public static final String BOOK_GENRES_REGION = "reference.book-genres";
+
+    private static final List<String> REGIONS = List.of(
+            AUTHORS_REGION, GENRES_REGION, PUBLISHERS_REGION, BOOK_AUTHORS_REGION, BOOK_GENRES_REGION);
+
+    @Value("${lms.cache.reference.ttl-seconds:3600}")
+    private Long ttlSeconds;
+
+    @Value("${lms.cache.reference.max-entries:10000}") // per region
+    private Long maxEntries;
+
+    @Value("${lms.cache.statistics:true}")
+    private Boolean statistics;
+
+    // Regions are created up front with explicit bounds; Hibernate is told to fail rather than invent unbounded ones
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+            configuration.setStatisticsEnabled(statistics);
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, configuration);
+            }
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Feeds hibernate.second.level.cache.* hit/miss meters under /actuator/metrics
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, statistics);
+        };
+    }
+}
@@ -1,16 +1,28 @@
 package com.LibraryManagementSystem.LMS.config;
 
+import com.LibraryManagementSystem.LMS.security.BoundedPasswordEncoder;
 import com.LibraryManagementSystem.LMS.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
@@ -18,15 +30,67 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity
 public class SecurityConfig {
     
+    private static final String SCRAPE_ROLE = "METRICS";
+    
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     
+    @Value("${lms.password-hashing.threads:0}") // 0 = half the available cores
+    private Integer passwordHashingThreads;
+    
+    @Value("${lms.password-hashing.queue-capacity:64}")
+    private Integer passwordHashingQueueCapacity;
+    
+    @Value("${lms.password-hashing.retry-after-seconds:2}")
+    private Long passwordHashingRetryAfterSeconds;
+    
+    @Value("${lms.metrics.scrape-username:}")
+    private String scrapeUsername;
+    
+    @Value("${lms.metrics.scrape-password:}") // {bcrypt}..., {noop}... etc.
+    private String scrapePassword;
+    
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
     
+    // BCrypt on its own bounded pool, so hashing cannot take over the request threads
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int threads = passwordHashingThreads > 0
+                ? passwordHashingThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, passwordHashingQueueCapacity,
+                passwordHashingRetryAfterSeconds, meterRegistry);
+    }
+    
+    // Actuator: health stays public for load balancers; metrics and prometheus need the scrape account over
+    // HTTP Basic (scrapers carry no JWT). Without lms.metrics.scrape-username every other endpoint answers 401.
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        InMemoryUserDetailsManager scrapeAccounts = new InMemoryUserDetailsManager();
+        if (!scrapeUsername.isBlank() && !scrapePassword.isBlank()) {
+            scrapeAccounts.createUser(User.withUsername(scrapeUsername)
+                    .password(scrapePassword)
+                    .roles(SCRAPE_ROLE)
+                    .build());
+        }
+        DaoAuthenticationProvider scrapeProvider = new DaoAuthenticationProvider();
+        scrapeProvider.setUserDetailsService(scrapeAccounts);
+        scrapeProvider.setPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        
+        http
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .csrf(csrf -> csrf.disable())
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                .anyRequest().hasRole(SCRAPE_ROLE)
+            )
+            .httpBasic(Customizer.withDefaults())
+            .authenticationManager(new ProviderManager(scrapeProvider))
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        
+        return http.build();
     }
     
     @Bean
@@ -50,6 +114,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/librarians/**").hasRole("ADMIN")
                 
                 // Book Management - Read: All authenticated, Write: Staff/Admin
+                .requestMatchers("/api/books/import/**").hasAnyRole("ADMIN", "STAFF")
                 .requestMatchers(HttpMethod.GET, "/api/books/**").authenticated()
                 .requestMatchers(HttpMethod.POST, "/api/books/**").hasAnyRole("ADMIN", "STAFF")
                 .requestMatchers(HttpMethod.PUT, "/api/books/**").hasAnyRole("ADMIN", "STAFF")
@@ -88,6 +153,10 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.PATCH, "/api/borrowed/**").hasAnyRole("ADMIN", "STAFF")
                 .requestMatchers(HttpMethod.DELETE, "/api/borrowed/**").hasAnyRole("ADMIN", "STAFF")
                 
+                // Holds - Users can place and cancel holds, priority holds are checked in the controller
+                .requestMatchers(HttpMethod.GET, "/api/holds/**").hasAnyRole("USER", "ADMIN", "STAFF")
+                .requestMatchers(HttpMethod.POST, "/api/holds/**").hasAnyRole("USER", "ADMIN", "STAFF")
+                
                 // Fine Management - Read: Users can see their fines, Write: Staff/Admin only
                 .requestMatchers(HttpMethod.GET, "/api/fines/**").hasAnyRole("USER", "ADMIN", "STAFF")
                 .requestMatchers(HttpMethod.POST, "/api/fines/**").hasAnyRole("ADMIN", "STAFF")
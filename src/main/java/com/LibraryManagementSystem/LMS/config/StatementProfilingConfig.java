@@ -0,0 +1,35 @@
+package com.LibraryManagementSystem.LMS.config;
+
+import com.LibraryManagementSystem.LMS.metrics.EntityLoadCountingIntegrator;
+import com.LibraryManagementSystem.LMS.metrics.JdbcTimingListener;
+import com.LibraryManagementSystem.LMS.metrics.StatementCountingInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+
+// Hibernate hooks feeding the per-request SQL profile that StatementProfilingFilter records. Outside a
+// request (scheduled jobs, startup loads) they find no profile and do nothing.
+@Configuration
+@ConditionalOnProperty(name = "lms.sql.profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementProfilingConfig {
+
+    // Read by Hibernate's JPA bootstrap; there is no AvailableSettings constant for it
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    // Anything set explicitly under spring.jpa.properties wins
+    @Bean
+    public HibernatePropertiesCustomizer statementProfilingHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+            properties.putIfAbsent(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingListener.class.getName());
+            properties.putIfAbsent(INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new EntityLoadCountingIntegrator()));
+        };
+    }
+}
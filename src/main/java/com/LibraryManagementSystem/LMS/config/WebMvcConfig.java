@@ -0,0 +1,20 @@
+package com.LibraryManagementSystem.LMS.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    // Streaming exports run as async requests; the container default would cut long exports off
+    @Value("${lms.streaming.timeout:3600000}") // 1 hour in ms
+    private Long streamingTimeout;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(streamingTimeout);
+    }
+}
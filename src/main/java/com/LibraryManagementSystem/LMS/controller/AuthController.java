@@ -9,6 +9,7 @@ import com.LibraryManagementSystem.LMS.entity.User;
 import com.LibraryManagementSystem.LMS.enums.Status;
 import com.LibraryManagementSystem.LMS.mapper.UserMapper;
 import com.LibraryManagementSystem.LMS.security.JwtUtil;
+import com.LibraryManagementSystem.LMS.security.VerifiedToken;
 import com.LibraryManagementSystem.LMS.service.interfaces.LibrarianService;
 import com.LibraryManagementSystem.LMS.service.interfaces.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -62,7 +63,8 @@ public class AuthController {
             @ApiResponse(responseCode = "201", description = "User registered successfully",
                     content = @Content(schema = @Schema(implementation = UserResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data - validation failed"),
-            @ApiResponse(responseCode = "409", description = "User with the same email already exists")
+            @ApiResponse(responseCode = "409", description = "User with the same email already exists"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent sign-ins; retry after the Retry-After delay")
     })
     @PostMapping("/register")
     public ResponseEntity<UserResponseDTO> register(
@@ -89,7 +91,8 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "Login successful",
                     content = @Content(schema = @Schema(implementation = AuthResponseDTO.class))),
             @ApiResponse(responseCode = "401", description = "Invalid email or password"),
-            @ApiResponse(responseCode = "403", description = "Account is disabled or inactive")
+            @ApiResponse(responseCode = "403", description = "Account is disabled or inactive"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent sign-ins; retry after the Retry-After delay")
     })
     @PostMapping("/user/login")
     public ResponseEntity<AuthResponseDTO> userLogin(
@@ -141,7 +144,8 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "Login successful",
                     content = @Content(schema = @Schema(implementation = AuthResponseDTO.class))),
             @ApiResponse(responseCode = "401", description = "Invalid email or password"),
-            @ApiResponse(responseCode = "403", description = "Account is disabled or inactive")
+            @ApiResponse(responseCode = "403", description = "Account is disabled or inactive"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent sign-ins; retry after the Retry-After delay")
     })
     @PostMapping("/librarian/login")
     public ResponseEntity<AuthResponseDTO> librarianLogin(
@@ -204,9 +208,10 @@ public class AuthController {
         
         String token = authHeader.substring(7);
         
-        if (jwtUtil.validateToken(token)) {
-            String email = jwtUtil.extractEmail(token);
-            String role = jwtUtil.extractRole(token);
+        VerifiedToken verified = jwtUtil.verify(token);
+        if (verified != null) {
+            String email = verified.email();
+            String role = verified.role();
             
             logger.info("Token verified for: {} with role: {}", email, role);
             
@@ -1,5 +1,7 @@
 package com.LibraryManagementSystem.LMS.controller;
 
+import com.LibraryManagementSystem.LMS.cache.CatalogVersionIndex;
+import com.LibraryManagementSystem.LMS.config.HttpCacheConfig;
 import com.LibraryManagementSystem.LMS.dto.AuthorRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.AuthorResponseDTO;
 import com.LibraryManagementSystem.LMS.entity.Author;
@@ -14,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,10 +31,15 @@ public class AuthorController {
     
     private final AuthorService authorService;
     private final AuthorMapper authorMapper;
+    private final CatalogVersionIndex catalogVersionIndex;
+    private final HttpCacheConfig httpCacheConfig;
     
-    public AuthorController(AuthorService authorService, AuthorMapper authorMapper) {
+    public AuthorController(AuthorService authorService, AuthorMapper authorMapper,
+                            CatalogVersionIndex catalogVersionIndex, HttpCacheConfig httpCacheConfig) {
         this.authorService = authorService;
         this.authorMapper = authorMapper;
+        this.catalogVersionIndex = catalogVersionIndex;
+        this.httpCacheConfig = httpCacheConfig;
     }
     
     @Operation(
@@ -61,15 +69,27 @@ public class AuthorController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Author found successfully",
                     content = @Content(schema = @Schema(implementation = AuthorResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Author unchanged since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Author not found with the given ID")
     })
     @GetMapping("/{id}")
     public ResponseEntity<AuthorResponseDTO> getAuthorById(
             @Parameter(description = "Author ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // A current client copy is confirmed from the version index without touching the database: the tag was
+        // only handed out for an existing author, and deleting it moves the counter
+        String etag = ConditionalResponses.weakETag(catalogVersionIndex.tag(CatalogVersionIndex.Catalog.AUTHORS), id);
+        if (ConditionalResponses.matchesTag(ifNoneMatch, etag)) {
+            return ConditionalResponses.notModified(etag, httpCacheConfig.referenceData());
+        }
         Author author = authorService.getById(id);
+        if (ConditionalResponses.isWildcard(ifNoneMatch)) {
+            return ConditionalResponses.notModified(etag, httpCacheConfig.referenceData());
+        }
         AuthorResponseDTO responseDTO = authorMapper.toResponseDTO(author);
-        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+        return ConditionalResponses.ok(responseDTO, etag, httpCacheConfig.referenceData());
     }
     
     @Operation(
@@ -78,15 +98,22 @@ public class AuthorController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Authors retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = AuthorResponseDTO.class)))
+                    content = @Content(schema = @Schema(implementation = AuthorResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Authors unchanged since the ETag sent in If-None-Match")
     })
     @GetMapping
-    public ResponseEntity<List<AuthorResponseDTO>> getAllAuthors() {
+    public ResponseEntity<List<AuthorResponseDTO>> getAllAuthors(
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ConditionalResponses.weakETag(catalogVersionIndex.tag(CatalogVersionIndex.Catalog.AUTHORS));
+        if (ConditionalResponses.matches(ifNoneMatch, etag)) {
+            return ConditionalResponses.notModified(etag, httpCacheConfig.referenceData());
+        }
         List<Author> authors = authorService.getAll();
         List<AuthorResponseDTO> responseDTOs = authors.stream()
                 .map(authorMapper::toResponseDTO)
                 .collect(Collectors.toList());
-        return new ResponseEntity<>(responseDTOs, HttpStatus.OK);
+        return ConditionalResponses.ok(responseDTOs, etag, httpCacheConfig.referenceData());
     }
     
     @Operation(
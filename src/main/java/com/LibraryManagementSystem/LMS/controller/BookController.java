@@ -4,15 +4,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.LibraryManagementSystem.LMS.cache.CatalogVersionIndex;
+import com.LibraryManagementSystem.LMS.config.HttpCacheConfig;
 import com.LibraryManagementSystem.LMS.dto.BookRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.BookResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.FacetSearchResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.SuggestionResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.WindowResponseDTO;
 import com.LibraryManagementSystem.LMS.entity.Book;
 import com.LibraryManagementSystem.LMS.enums.BookStatus;
 import com.LibraryManagementSystem.LMS.mapper.BookMapper;
+import com.LibraryManagementSystem.LMS.mapper.ScrollCursorMapper;
+import com.LibraryManagementSystem.LMS.search.BookAvailabilityIndex;
+import com.LibraryManagementSystem.LMS.search.FacetIndex;
+import com.LibraryManagementSystem.LMS.search.SuggestionIndex;
 import com.LibraryManagementSystem.LMS.service.interfaces.BookService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,6 +34,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -32,8 +43,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 
@@ -41,13 +54,30 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/books")
 @Tag(name = "Books", description = "Book management APIs - Manage book catalog including ISBN, titles, authors, genres, and availability status")
 public class BookController {
+    
+    private static final Set<String> SCROLL_SORT_FIELDS = Set.of("id", "isbn", "title");
 
     private final BookService bookService;
     private final BookMapper bookMapper;
+    private final ScrollCursorMapper scrollCursorMapper;
+    private final CatalogVersionIndex catalogVersionIndex;
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final FacetIndex facetIndex;
+    private final HttpCacheConfig httpCacheConfig;
 
-    public BookController(BookService bookService, BookMapper bookMapper) {
+    public BookController(BookService bookService, BookMapper bookMapper, ScrollCursorMapper scrollCursorMapper,
+                          CatalogVersionIndex catalogVersionIndex, BookAvailabilityIndex bookAvailabilityIndex,
+                          SuggestionIndex suggestionIndex, FacetIndex facetIndex,
+                          HttpCacheConfig httpCacheConfig) {
         this.bookService = bookService;
         this.bookMapper = bookMapper;
+        this.scrollCursorMapper = scrollCursorMapper;
+        this.catalogVersionIndex = catalogVersionIndex;
+        this.bookAvailabilityIndex = bookAvailabilityIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.facetIndex = facetIndex;
+        this.httpCacheConfig = httpCacheConfig;
     }
 
     // Create new Book
@@ -80,15 +110,31 @@ public class BookController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Book found successfully",
                     content = @Content(schema = @Schema(implementation = BookResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Book unchanged since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Book not found with the given ID")
     })
     @GetMapping("/{id}")
     public ResponseEntity<BookResponseDTO> getBookById(
             @Parameter(description = "Book ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // The response embeds publisher, authors, genres and live copy counts, so all of them go into the tag
+        BookAvailabilityIndex.Availability availability = bookAvailabilityIndex.get(id);
+        String etag = ConditionalResponses.weakETag(catalogVersionIndex.tag(
+                CatalogVersionIndex.Catalog.BOOKS, CatalogVersionIndex.Catalog.AUTHORS,
+                CatalogVersionIndex.Catalog.GENRES, CatalogVersionIndex.Catalog.PUBLISHERS)
+                + "-" + availability.available() + "." + availability.borrowed() + "." + availability.unavailable(), id);
+        if (ConditionalResponses.matchesTag(ifNoneMatch, etag)) {
+            return ConditionalResponses.notModified(etag, httpCacheConfig.books());
+        }
+        // "*" says nothing about this book, so an unknown id still ends in 404
         Book book = bookService.getById(id);
+        if (ConditionalResponses.isWildcard(ifNoneMatch)) {
+            return ConditionalResponses.notModified(etag, httpCacheConfig.books());
+        }
         BookResponseDTO responseDTO = bookMapper.toResponseDTO(book);
-        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+        return ConditionalResponses.ok(responseDTO, etag, httpCacheConfig.books());
     }
     
     // Get all books (with optional pagination)
@@ -129,6 +175,33 @@ public class BookController {
         }
     }
     
+    // Scroll through all books (keyset pagination)
+    @Operation(
+            summary = "Scroll through all books",
+            description = "Walks the whole catalog by id, ISBN or title, for exports and sync jobs that would otherwise page deep into /api/books"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Window retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or sort field")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<WindowResponseDTO<BookResponseDTO>> scrollBooks(
+            @Parameter(description = "Cursor returned as nextCursor by the previous window (omit for the first window)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per window (max 500)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Field to sort by: id, isbn, title (ignored when a cursor is given)", example = "id")
+            @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (ASC or DESC, ignored when a cursor is given)", example = "ASC")
+            @RequestParam(defaultValue = "ASC") String sortDirection) {
+        
+        ScrollCursorMapper.ScrollRequest scrollRequest = scrollCursorMapper.toScrollRequest(after, size, sortBy, sortDirection, Book.class,
+                SCROLL_SORT_FIELDS);
+        Window<Book> window = bookService.scrollAll(scrollRequest.position(), scrollRequest.sort(), scrollRequest.size());
+        WindowResponseDTO<BookResponseDTO> response = scrollCursorMapper.toResponseDTO(window, scrollRequest.sort(), bookMapper::toResponseDTO);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+    
     // Update book by ID
     @Operation(
             summary = "Update book",
@@ -191,6 +264,92 @@ public class BookController {
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
     
+    // Faceted catalog search
+    @Operation(
+            summary = "Filter the catalog by facets",
+            description = "Combines filters on language, genre, publisher, publication year and current availability. Several values of one facet are ORed, different facets are ANDed. Returns one page of matching books plus, for every facet, its values with the number of books each would give under the other facets' selections. Filtering and counting run on in-memory bitsets; only the returned page is read from the database."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching books and facet counts",
+                    content = @Content(schema = @Schema(implementation = FacetSearchResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "yearFrom is after yearTo")
+    })
+    @GetMapping("/facets")
+    public ResponseEntity<FacetSearchResponseDTO> searchByFacets(
+            @Parameter(description = "Languages to include (repeat the parameter for several)", example = "English")
+            @RequestParam(required = false) Set<String> language,
+            @Parameter(description = "Genre IDs to include", example = "1")
+            @RequestParam(required = false) Set<Long> genreId,
+            @Parameter(description = "Publisher IDs to include", example = "1")
+            @RequestParam(required = false) Set<Long> publisherId,
+            @Parameter(description = "Earliest publication year (inclusive)", example = "1990")
+            @RequestParam(required = false) Integer yearFrom,
+            @Parameter(description = "Latest publication year (inclusive)", example = "2010")
+            @RequestParam(required = false) Integer yearTo,
+            @Parameter(description = "true: only books with a copy available now; false: only books without one")
+            @RequestParam(required = false) Boolean available,
+            @Parameter(description = "Page number (0-indexed)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of books per page (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Maximum number of values listed per facet (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int facetLimit) {
+        if (yearFrom != null && yearTo != null && yearFrom > yearTo) {
+            throw new IllegalArgumentException("yearFrom must not be after yearTo");
+        }
+        int boundedPage = Math.max(0, page);
+        int boundedSize = Math.max(1, Math.min(size, 100));
+        int boundedFacetLimit = Math.max(1, Math.min(facetLimit, 100));
+        
+        FacetIndex.Query query = new FacetIndex.Query(language, genreId, publisherId, yearFrom, yearTo, available);
+        FacetIndex.Result result = facetIndex.search(query, boundedPage * boundedSize, boundedSize, boundedFacetLimit);
+        List<Book> books = bookService.findAllByIdInOrder(result.bookIds());
+        FacetSearchResponseDTO responseDTO = bookMapper.toFacetSearchResponseDTO(result, books, boundedPage, boundedSize);
+        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+    }
+    
+    // Type-ahead suggestions
+    @Operation(
+            summary = "Suggest titles, authors, genres and publishers",
+            description = "Autocomplete for the catalog search box. Matches the start of a title or name, or of any later word in it, and ranks by how often the titles involved have been borrowed. Prefixes shorter than 2 characters return no suggestions. Answered from memory without touching the database."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully, most borrowed first")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponseDTO>> suggest(
+            @Parameter(description = "What the user has typed so far", required = true, example = "harry po")
+            @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions (1-10)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, SuggestionIndex.TOP_K));
+        List<SuggestionResponseDTO> responseDTOs = suggestionIndex.suggest(prefix, boundedLimit).stream()
+                .map(bookMapper::toSuggestionDTO)
+                .collect(Collectors.toList());
+        return new ResponseEntity<>(responseDTOs, HttpStatus.OK);
+    }
+    
+    // Full-text catalog search
+    @Operation(
+            summary = "Search the catalog",
+            description = "Ranked full-text search over title, description, author names, genres and publisher. All terms must match; the last term is matched as a prefix."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Books retrieved successfully, best match first")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<BookResponseDTO>> searchCatalog(
+            @Parameter(description = "Search query", required = true, example = "clean code martin")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, 100));
+        List<BookResponseDTO> responseDTOs = bookService.search(q, boundedLimit).stream()
+                .map(bookMapper::toResponseDTO)
+                .collect(Collectors.toList());
+        return new ResponseEntity<>(responseDTOs, HttpStatus.OK);
+    }
+
     // Search books by title
     @Operation(
             summary = "Search books by title",
@@ -1,10 +1,14 @@
 package com.LibraryManagementSystem.LMS.controller;
 
+import com.LibraryManagementSystem.LMS.dto.BarcodeScanResponseDTO;
 import com.LibraryManagementSystem.LMS.dto.BookCopyRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.BookCopyResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.WindowResponseDTO;
 import com.LibraryManagementSystem.LMS.entity.BookCopy;
 import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
 import com.LibraryManagementSystem.LMS.mapper.BookCopyMapper;
+import com.LibraryManagementSystem.LMS.mapper.ScrollCursorMapper;
+import com.LibraryManagementSystem.LMS.search.BarcodeIndex;
 import com.LibraryManagementSystem.LMS.service.interfaces.BookCopyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,11 +22,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -30,12 +36,19 @@ import java.util.stream.Collectors;
 @Tag(name = "Book Copies", description = "Book copy management APIs - Manage individual physical copies of books including barcodes, locations, conditions, and availability status")
 public class BookCopyController {
     
+    private static final Set<String> SCROLL_SORT_FIELDS = Set.of("id", "barcode");
+    
     private final BookCopyService bookCopyService;
     private final BookCopyMapper bookCopyMapper;
+    private final ScrollCursorMapper scrollCursorMapper;
+    private final BarcodeIndex barcodeIndex;
     
-    public BookCopyController(BookCopyService bookCopyService, BookCopyMapper bookCopyMapper) {
+    public BookCopyController(BookCopyService bookCopyService, BookCopyMapper bookCopyMapper, ScrollCursorMapper scrollCursorMapper,
+                              BarcodeIndex barcodeIndex) {
         this.bookCopyService = bookCopyService;
         this.bookCopyMapper = bookCopyMapper;
+        this.scrollCursorMapper = scrollCursorMapper;
+        this.barcodeIndex = barcodeIndex;
     }
     
     // Create new BookCopy
@@ -114,6 +127,33 @@ public class BookCopyController {
         }
     }
     
+    // Scroll through all book copies (keyset pagination)
+    @Operation(
+            summary = "Scroll through all book copies",
+            description = "Walks every copy by id or barcode, e.g. for a stock-take against the shelves"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Window retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or sort field")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<WindowResponseDTO<BookCopyResponseDTO>> scrollBookCopies(
+            @Parameter(description = "Cursor returned as nextCursor by the previous window (omit for the first window)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per window (max 500)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Field to sort by: id, barcode (ignored when a cursor is given)", example = "id")
+            @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (ASC or DESC, ignored when a cursor is given)", example = "ASC")
+            @RequestParam(defaultValue = "ASC") String sortDirection) {
+        
+        ScrollCursorMapper.ScrollRequest scrollRequest = scrollCursorMapper.toScrollRequest(after, size, sortBy, sortDirection, BookCopy.class,
+                SCROLL_SORT_FIELDS);
+        Window<BookCopy> window = bookCopyService.scrollAll(scrollRequest.position(), scrollRequest.sort(), scrollRequest.size());
+        WindowResponseDTO<BookCopyResponseDTO> response = scrollCursorMapper.toResponseDTO(window, scrollRequest.sort(), bookCopyMapper::toResponseDTO);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+    
     // Update BookCopy by ID
     @Operation(
             summary = "Update book copy",
@@ -175,6 +215,26 @@ public class BookCopyController {
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
     
+    // Resolve a scanned barcode (circulation desk fast path)
+    @Operation(
+            summary = "Resolve a scanned barcode",
+            description = "Returns the copy's id, title and circulation status for a scanned barcode. Answered from the in-memory barcode index without a database round trip; a barcode the index does not know yet (a copy added on another node) is read from the database and indexed. Status reflects this node's writes immediately and other nodes' writes after the next index refresh."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Barcode resolved successfully",
+                    content = @Content(schema = @Schema(implementation = BarcodeScanResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Book copy not found with the given barcode")
+    })
+    @GetMapping("/scan/{barcode}")
+    public ResponseEntity<BarcodeScanResponseDTO> scanBarcode(
+            @Parameter(description = "Book copy barcode", required = true, example = "BC-001-12345")
+            @PathVariable String barcode) {
+        BarcodeScanResponseDTO responseDTO = barcodeIndex.find(barcode)
+                .map(bookCopyMapper::toScanResponseDTO)
+                .orElseGet(() -> bookCopyMapper.toScanResponseDTO(bookCopyService.findByBarcode(barcode)));
+        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+    }
+    
     // Get all copies of a specific book
     @Operation(
             summary = "Get all copies of a specific book",
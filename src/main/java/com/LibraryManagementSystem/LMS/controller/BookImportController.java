@@ -0,0 +1,91 @@
+package com.LibraryManagementSystem.LMS.controller;
+
+import com.LibraryManagementSystem.LMS.dto.ImportJobResponseDTO;
+import com.LibraryManagementSystem.LMS.entity.ImportJob;
+import com.LibraryManagementSystem.LMS.enums.ImportFormat;
+import com.LibraryManagementSystem.LMS.mapper.ImportJobMapper;
+import com.LibraryManagementSystem.LMS.service.interfaces.CatalogImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/books/import")
+@Tag(name = "Book Import", description = "Bulk catalog import APIs - Load CSV or MARC21 files into the catalog in committed chunks with resumable progress")
+public class BookImportController {
+
+    private final CatalogImportService catalogImportService;
+    private final ImportJobMapper importJobMapper;
+
+    public BookImportController(CatalogImportService catalogImportService, ImportJobMapper importJobMapper) {
+        this.catalogImportService = catalogImportService;
+        this.importJobMapper = importJobMapper;
+    }
+
+    // Import a catalog file sent as the raw request body
+    @Operation(
+            summary = "Bulk import books",
+            description = "Streams a CSV (header row with isbn, title, description, publication_date, language, page_count, publisher, authors, genres) or binary MARC21 file from the request body. Records are committed in chunks; titles whose ISBN already exists are skipped. Pass resumeJobId with the same file to continue a failed job from its checkpoint."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished",
+                    content = @Content(schema = @Schema(implementation = ImportJobResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown format, unreadable file, or job cannot be resumed"),
+            @ApiResponse(responseCode = "404", description = "Import job to resume not found")
+    })
+    @PostMapping
+    public ResponseEntity<ImportJobResponseDTO> importBooks(
+            @Parameter(description = "Source format: CSV or MARC", required = true)
+            @RequestParam String format,
+            @Parameter(description = "Id of a failed import job to resume")
+            @RequestParam(required = false) Long resumeJobId,
+            @Parameter(hidden = true) InputStream body) {
+        ImportFormat importFormat = ImportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        ImportJob job = catalogImportService.importCatalog(importFormat, body, resumeJobId);
+        return ResponseEntity.ok(importJobMapper.toResponseDTO(job));
+    }
+
+    // Get import job progress
+    @Operation(
+            summary = "Get import job",
+            description = "Returns counters and checkpoint of an import job; counters advance as each chunk commits"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import job found",
+                    content = @Content(schema = @Schema(implementation = ImportJobResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Import job not found")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobResponseDTO> getImportJob(
+            @Parameter(description = "Import job ID", required = true)
+            @PathVariable Long id) {
+        return ResponseEntity.ok(importJobMapper.toResponseDTO(catalogImportService.getJob(id)));
+    }
+
+    // Get all import jobs, newest first
+    @Operation(
+            summary = "Get all import jobs",
+            description = "Lists import jobs, newest first"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import jobs retrieved successfully")
+    })
+    @GetMapping
+    public ResponseEntity<List<ImportJobResponseDTO>> getAllImportJobs() {
+        List<ImportJobResponseDTO> jobs = catalogImportService.getAllJobs().stream()
+                .map(importJobMapper::toResponseDTO)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(jobs);
+    }
+}
@@ -1,11 +1,17 @@
 package com.LibraryManagementSystem.LMS.controller;
 
+import com.LibraryManagementSystem.LMS.dto.BatchCheckoutRequestDTO;
+import com.LibraryManagementSystem.LMS.dto.BatchResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.BatchReturnRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.BorrowedRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.BorrowedResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.WindowResponseDTO;
 import com.LibraryManagementSystem.LMS.entity.Borrowed;
 import com.LibraryManagementSystem.LMS.enums.BorrowStatus;
 import com.LibraryManagementSystem.LMS.mapper.BorrowedMapper;
+import com.LibraryManagementSystem.LMS.mapper.ScrollCursorMapper;
 import com.LibraryManagementSystem.LMS.service.interfaces.BorrowedService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,13 +24,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -32,12 +41,19 @@ import java.util.stream.Collectors;
 @Tag(name = "Borrowed Records", description = "Borrowed record management APIs - Track book borrowing transactions, due dates, returns, and overdue status")
 public class BorrowedController {
     
+    private static final Set<String> SCROLL_SORT_FIELDS = Set.of("id", "borrowDate", "dueDate");
+    
     private final BorrowedService borrowedService;
     private final BorrowedMapper borrowedMapper;
+    private final ScrollCursorMapper scrollCursorMapper;
+    private final ObjectMapper objectMapper;
     
-    public BorrowedController(BorrowedService borrowedService, BorrowedMapper borrowedMapper) {
+    public BorrowedController(BorrowedService borrowedService, BorrowedMapper borrowedMapper,
+                              ScrollCursorMapper scrollCursorMapper, ObjectMapper objectMapper) {
         this.borrowedService = borrowedService;
         this.borrowedMapper = borrowedMapper;
+        this.scrollCursorMapper = scrollCursorMapper;
+        this.objectMapper = objectMapper;
     }
     
     // Create new Borrowed record (Borrow a book)
@@ -116,6 +132,46 @@ public class BorrowedController {
         }
     }
     
+    // Stream all borrowed records as NDJSON
+    @Operation(
+            summary = "Export all borrowed records as NDJSON",
+            description = "Selected with 'Accept: application/x-ndjson'. Rows are read through a database cursor and written one JSON document per line as they are mapped, so memory use does not grow with the table."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream started successfully")
+    })
+    @GetMapping(produces = NdjsonResponses.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllBorrowed() {
+        return NdjsonResponses.stream(objectMapper, borrowedService::streamAll, borrowedMapper::toResponseDTO);
+    }
+    
+    // Scroll through all borrowed records (keyset pagination)
+    @Operation(
+            summary = "Scroll through all borrowed records",
+            description = "Walks all loans by id, borrow date or due date; descending due date puts the loans falling due last first"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Window retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or sort field")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<WindowResponseDTO<BorrowedResponseDTO>> scrollBorrowed(
+            @Parameter(description = "Cursor returned as nextCursor by the previous window (omit for the first window)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per window (max 500)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Field to sort by: id, borrowDate, dueDate (ignored when a cursor is given)", example = "borrowDate")
+            @RequestParam(defaultValue = "borrowDate") String sortBy,
+            @Parameter(description = "Sort direction (ASC or DESC, ignored when a cursor is given)", example = "DESC")
+            @RequestParam(defaultValue = "DESC") String sortDirection) {
+        
+        ScrollCursorMapper.ScrollRequest scrollRequest = scrollCursorMapper.toScrollRequest(after, size, sortBy, sortDirection, Borrowed.class,
+                SCROLL_SORT_FIELDS);
+        Window<Borrowed> window = borrowedService.scrollAll(scrollRequest.position(), scrollRequest.sort(), scrollRequest.size());
+        WindowResponseDTO<BorrowedResponseDTO> response = scrollCursorMapper.toResponseDTO(window, scrollRequest.sort(), borrowedMapper::toResponseDTO);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+    
     // Update Borrowed record by ID
     @Operation(
             summary = "Update borrowed record",
@@ -179,6 +235,52 @@ public class BorrowedController {
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
     
+    // Borrow a stack of copies at once (self-checkout kiosk)
+    @Operation(
+            summary = "Borrow several book copies by barcode",
+            description = "Lends every scanned copy that can be lent to the user in a single transaction. Copies are looked up with one query and the user is checked once. Each barcode gets its own result; copies that are unknown, scanned twice or not available are skipped without failing the rest."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see the per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data - validation failed"),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "409", description = "Copies kept changing concurrently; retry the batch")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponseDTO> checkoutBatch(
+            @Parameter(description = "User and scanned barcodes (max 100)", required = true)
+            @Valid @RequestBody BatchCheckoutRequestDTO requestDTO) {
+        LocalDate borrowDate = requestDTO.getBorrowDate() != null ? requestDTO.getBorrowDate() : LocalDate.now();
+        if (requestDTO.getDueDate() != null && requestDTO.getDueDate().isBefore(borrowDate)) {
+            throw new IllegalArgumentException("Due date cannot be before borrow date");
+        }
+        
+        List<BorrowedService.BatchItem> results = borrowedService.checkoutBatch(
+                requestDTO.getUserId(), requestDTO.getBarcodes(), borrowDate, requestDTO.getDueDate());
+        return new ResponseEntity<>(borrowedMapper.toBatchResponseDTO(results), HttpStatus.OK);
+    }
+    
+    // Return a stack of copies at once (self-checkout kiosk, book drop)
+    @Operation(
+            summary = "Return several book copies by barcode",
+            description = "Returns every scanned copy with an open loan in a single transaction, assessing late fines and passing copies to waiting holds as a single return does. Each barcode gets its own result; copies that are unknown, scanned twice or not on loan are skipped without failing the rest."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see the per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data - validation failed"),
+            @ApiResponse(responseCode = "409", description = "Copies kept changing concurrently; retry the batch")
+    })
+    @PostMapping("/return/batch")
+    public ResponseEntity<BatchResponseDTO> returnBatch(
+            @Parameter(description = "Scanned barcodes (max 100) and optional return date", required = true)
+            @Valid @RequestBody BatchReturnRequestDTO requestDTO) {
+        LocalDate returnDate = requestDTO.getReturnDate() != null ? requestDTO.getReturnDate() : LocalDate.now();
+        List<BorrowedService.BatchItem> results = borrowedService.returnBatch(requestDTO.getBarcodes(), returnDate);
+        return new ResponseEntity<>(borrowedMapper.toBatchResponseDTO(results), HttpStatus.OK);
+    }
+    
     // Get borrowed records by User ID
     @Operation(
             summary = "Get borrowed records by user",
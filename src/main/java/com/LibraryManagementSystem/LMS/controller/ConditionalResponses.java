@@ -0,0 +1,65 @@
+package com.LibraryManagementSystem.LMS.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+// Conditional GET helpers. Tags are weak: the JSON for an unchanged entity is equivalent but not
+// byte-stable (sets serialize in hash order), and If-None-Match uses weak comparison anyway.
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    static String weakETag(String tag) {
+        return "W/\"" + tag + "\"";
+    }
+
+    // True when the If-None-Match header lists the given ETag (or "*"). Only for representations that always
+    // exist, such as collections; single entities check matchesTag first and isWildcard once resolved.
+    static boolean matches(String ifNoneMatch, String etag) {
+        return matchesTag(ifNoneMatch, etag) || isWildcard(ifNoneMatch);
+    }
+
+    // True when the If-None-Match header lists the given ETag itself
+    static boolean matchesTag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String expected = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            if (opaque(candidate.trim()).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // True for "If-None-Match: *", which matches any current representation of the resource
+    static boolean isWildcard(String ifNoneMatch) {
+        return ifNoneMatch != null && ifNoneMatch.trim().equals("*");
+    }
+
+    // Tag for one entity: the id keeps copies of different entities apart under the same catalog versions
+    static String weakETag(String tag, Long id) {
+        return weakETag(tag + "-" + id);
+    }
+
+    static <T> ResponseEntity<T> notModified(String etag, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .build();
+    }
+
+    static <T> ResponseEntity<T> ok(T body, String etag, CacheControl cacheControl) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(body);
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
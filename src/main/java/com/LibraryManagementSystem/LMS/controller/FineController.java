@@ -2,9 +2,11 @@ package com.LibraryManagementSystem.LMS.controller;
 
 import com.LibraryManagementSystem.LMS.dto.FineRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.FineResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.WindowResponseDTO;
 import com.LibraryManagementSystem.LMS.entity.Fine;
 import com.LibraryManagementSystem.LMS.enums.FineStatus;
 import com.LibraryManagementSystem.LMS.mapper.FineMapper;
+import com.LibraryManagementSystem.LMS.mapper.ScrollCursorMapper;
 import com.LibraryManagementSystem.LMS.service.interfaces.FineService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,12 +20,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -31,12 +35,16 @@ import java.util.stream.Collectors;
 @Tag(name = "Fines", description = "Fine management APIs - Manage library fines for overdue books, track payments, and calculate penalties")
 public class FineController {
     
+    private static final Set<String> SCROLL_SORT_FIELDS = Set.of("id", "amount", "assessedDate");
+    
     private final FineService fineService;
     private final FineMapper fineMapper;
+    private final ScrollCursorMapper scrollCursorMapper;
     
-    public FineController(FineService fineService, FineMapper fineMapper) {
+    public FineController(FineService fineService, FineMapper fineMapper, ScrollCursorMapper scrollCursorMapper) {
         this.fineService = fineService;
         this.fineMapper = fineMapper;
+        this.scrollCursorMapper = scrollCursorMapper;
     }
     
     // Create new Fine
@@ -115,6 +123,33 @@ public class FineController {
         }
     }
     
+    // Scroll through all fines (keyset pagination)
+    @Operation(
+            summary = "Scroll through all fines",
+            description = "Walks all fines by id, amount or assessed date"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Window retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or sort field")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<WindowResponseDTO<FineResponseDTO>> scrollFines(
+            @Parameter(description = "Cursor returned as nextCursor by the previous window (omit for the first window)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per window (max 500)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Field to sort by: id, amount, assessedDate (ignored when a cursor is given)", example = "assessedDate")
+            @RequestParam(defaultValue = "assessedDate") String sortBy,
+            @Parameter(description = "Sort direction (ASC or DESC, ignored when a cursor is given)", example = "DESC")
+            @RequestParam(defaultValue = "DESC") String sortDirection) {
+        
+        ScrollCursorMapper.ScrollRequest scrollRequest = scrollCursorMapper.toScrollRequest(after, size, sortBy, sortDirection, Fine.class,
+                SCROLL_SORT_FIELDS);
+        Window<Fine> window = fineService.scrollAll(scrollRequest.position(), scrollRequest.sort(), scrollRequest.size());
+        WindowResponseDTO<FineResponseDTO> response = scrollCursorMapper.toResponseDTO(window, scrollRequest.sort(), fineMapper::toResponseDTO);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+    
     // Update Fine by ID
     @Operation(
             summary = "Update fine by ID",
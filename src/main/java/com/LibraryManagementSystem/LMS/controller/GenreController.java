@@ -1,5 +1,7 @@
 package com.LibraryManagementSystem.LMS.controller;
 
+import com.LibraryManagementSystem.LMS.cache.CatalogVersionIndex;
+import com.LibraryManagementSystem.LMS.config.HttpCacheConfig;
 import com.LibraryManagementSystem.LMS.dto.GenreRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.GenreResponseDTO;
 import com.LibraryManagementSystem.LMS.entity.Genre;
@@ -14,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,10 +31,15 @@ public class GenreController {
     
     private final GenreService genreService;
     private final GenreMapper genreMapper;
+    private final CatalogVersionIndex catalogVersionIndex;
+    private final HttpCacheConfig httpCacheConfig;
     
-    public GenreController(GenreService genreService, GenreMapper genreMapper) {
+    public GenreController(GenreService genreService, GenreMapper genreMapper,
+                           CatalogVersionIndex catalogVersionIndex, HttpCacheConfig httpCacheConfig) {
         this.genreService = genreService;
         this.genreMapper = genreMapper;
+        this.catalogVersionIndex = catalogVersionIndex;
+        this.httpCacheConfig = httpCacheConfig;
     }
     
     // Create a new genre
@@ -63,15 +71,27 @@ public class GenreController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre found successfully",
                     content = @Content(schema = @Schema(implementation = GenreResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Genre unchanged since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Genre not found with the given ID")
     })
     @GetMapping("/{id}")
     public ResponseEntity<GenreResponseDTO> getGenreById(
             @Parameter(description = "Genre ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // A current client copy is confirmed from the version index without touching the database: the tag was
+        // only handed out for an existing genre, and deleting it moves the counter
+        String etag = ConditionalResponses.weakETag(catalogVersionIndex.tag(CatalogVersionIndex.Catalog.GENRES), id);
+        if (ConditionalResponses.matchesTag(ifNoneMatch, etag)) {
+            return ConditionalResponses.notModified(etag, httpCacheConfig.referenceData());
+        }
         Genre genre = genreService.getById(id);
+        if (ConditionalResponses.isWildcard(ifNoneMatch)) {
+            return ConditionalResponses.notModified(etag, httpCacheConfig.referenceData());
+        }
         GenreResponseDTO responseDTO = genreMapper.toResponseDTO(genre);
-        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+        return ConditionalResponses.ok(responseDTO, etag, httpCacheConfig.referenceData());
     }
     
     // Get all genres
@@ -80,15 +100,22 @@ public class GenreController {
             description = "Retrieves a complete list of all book genres in the system"
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Genres retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Genres retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Genres unchanged since the ETag sent in If-None-Match")
     })
     @GetMapping
-    public ResponseEntity<List<GenreResponseDTO>> getAllGenres() {
+    public ResponseEntity<List<GenreResponseDTO>> getAllGenres(
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ConditionalResponses.weakETag(catalogVersionIndex.tag(CatalogVersionIndex.Catalog.GENRES));
+        if (ConditionalResponses.matches(ifNoneMatch, etag)) {
+            return ConditionalResponses.notModified(etag, httpCacheConfig.referenceData());
+        }
         List<Genre> genres = genreService.getAll();
         List<GenreResponseDTO> responseDTOs = genres.stream()
                 .map(genreMapper::toResponseDTO)
                 .collect(Collectors.toList());
-        return new ResponseEntity<>(responseDTOs, HttpStatus.OK);
+        return ConditionalResponses.ok(responseDTOs, etag, httpCacheConfig.referenceData());
     }
     
     // Update genre by ID
@@ -0,0 +1,155 @@
+package com.LibraryManagementSystem.LMS.controller;
+
+import com.LibraryManagementSystem.LMS.dto.HoldRequestDTO;
+import com.LibraryManagementSystem.LMS.dto.HoldResponseDTO;
+import com.LibraryManagementSystem.LMS.entity.Hold;
+import com.LibraryManagementSystem.LMS.mapper.HoldMapper;
+import com.LibraryManagementSystem.LMS.service.interfaces.HoldService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/holds")
+@Tag(name = "Holds", description = "Hold queue APIs - Reserve titles with no copy on the shelf and collect the copy set aside when one comes back")
+public class HoldController {
+    
+    // Roles allowed to place priority holds
+    private static final Set<String> STAFF_AUTHORITIES = Set.of("ROLE_ADMIN", "ROLE_STAFF");
+    
+    private final HoldService holdService;
+    private final HoldMapper holdMapper;
+    
+    public HoldController(HoldService holdService, HoldMapper holdMapper) {
+        this.holdService = holdService;
+        this.holdMapper = holdMapper;
+    }
+    
+    // Place a hold on a title
+    @Operation(
+            summary = "Place a hold on a book",
+            description = "Queues the user for the next copy of the title. Staff holds (priority=true) are served before patron holds; within each group holds are served first come, first served. If a copy is on the shelf it is set aside immediately and the hold is READY."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Hold placed successfully",
+                    content = @Content(schema = @Schema(implementation = HoldResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, or a priority hold requested without a staff role"),
+            @ApiResponse(responseCode = "404", description = "Book or user not found"),
+            @ApiResponse(responseCode = "409", description = "User already has an active hold on the book")
+    })
+    @PostMapping
+    public ResponseEntity<HoldResponseDTO> placeHold(
+            @Parameter(description = "Hold details", required = true)
+            @Valid @RequestBody HoldRequestDTO requestDTO,
+            Authentication authentication) {
+        boolean priority = Boolean.TRUE.equals(requestDTO.getPriority());
+        if (priority && !isStaff(authentication)) {
+            throw new IllegalArgumentException("Only staff can place priority holds");
+        }
+        
+        Hold hold = holdService.place(requestDTO.getBookId(), requestDTO.getUserId(), priority);
+        return new ResponseEntity<>(toResponseDTO(hold), HttpStatus.CREATED);
+    }
+    
+    // Get hold by ID
+    @Operation(
+            summary = "Get hold by ID",
+            description = "Retrieves a hold with its current place in the title's queue"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Hold found successfully",
+                    content = @Content(schema = @Schema(implementation = HoldResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Hold not found with the given ID")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<HoldResponseDTO> getHoldById(
+            @Parameter(description = "Hold ID", required = true, example = "1")
+            @PathVariable Long id) {
+        Hold hold = holdService.getById(id);
+        return new ResponseEntity<>(toResponseDTO(hold), HttpStatus.OK);
+    }
+    
+    // Get holds by user
+    @Operation(
+            summary = "Get holds by user",
+            description = "Retrieves every hold a user has placed, newest first"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Holds retrieved successfully")
+    })
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<HoldResponseDTO>> getHoldsByUser(
+            @Parameter(description = "User ID", required = true, example = "1")
+            @PathVariable Long userId) {
+        List<HoldResponseDTO> responseDTOs = holdService.findByUserId(userId).stream()
+                .map(this::toResponseDTO)
+                .collect(Collectors.toList());
+        return new ResponseEntity<>(responseDTOs, HttpStatus.OK);
+    }
+    
+    // Get the hold queue of a title
+    @Operation(
+            summary = "Get the hold queue of a book",
+            description = "Retrieves the waiting holds on a title in the order returned copies will be assigned to them"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Queue retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Book not found")
+    })
+    @GetMapping("/book/{bookId}")
+    public ResponseEntity<List<HoldResponseDTO>> getQueue(
+            @Parameter(description = "Book ID", required = true, example = "1")
+            @PathVariable Long bookId) {
+        List<HoldResponseDTO> responseDTOs = holdMapper.toQueueDTOs(holdService.getQueue(bookId));
+        return new ResponseEntity<>(responseDTOs, HttpStatus.OK);
+    }
+    
+    // Cancel a hold
+    @Operation(
+            summary = "Cancel a hold",
+            description = "Cancels a waiting or ready hold. A copy already set aside for it passes to the next hold in the queue, or back to the shelf."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Hold cancelled successfully",
+                    content = @Content(schema = @Schema(implementation = HoldResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Hold not found"),
+            @ApiResponse(responseCode = "409", description = "Hold is already fulfilled, cancelled or expired")
+    })
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<HoldResponseDTO> cancelHold(
+            @Parameter(description = "Hold ID", required = true, example = "1")
+            @PathVariable Long id) {
+        Hold hold = holdService.cancel(id);
+        return new ResponseEntity<>(toResponseDTO(hold), HttpStatus.OK);
+    }
+    
+    private HoldResponseDTO toResponseDTO(Hold hold) {
+        return holdMapper.toResponseDTO(hold, holdService.queuePosition(hold));
+    }
+    
+    private static boolean isStaff(Authentication authentication) {
+        if (authentication == null) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (STAFF_AUTHORITIES.contains(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,10 +3,12 @@ package com.LibraryManagementSystem.LMS.controller;
 import com.LibraryManagementSystem.LMS.dto.LibrarianPatchDTO;
 import com.LibraryManagementSystem.LMS.dto.LibrarianRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.LibrarianResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.WindowResponseDTO;
 import com.LibraryManagementSystem.LMS.entity.Librarian;
 import com.LibraryManagementSystem.LMS.enums.Role;
 import com.LibraryManagementSystem.LMS.enums.Status;
 import com.LibraryManagementSystem.LMS.mapper.LibrarianMapper;
+import com.LibraryManagementSystem.LMS.mapper.ScrollCursorMapper;
 import com.LibraryManagementSystem.LMS.service.interfaces.LibrarianService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,6 +22,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -34,12 +38,17 @@ import java.util.stream.Collectors;
 @Tag(name = "Librarians", description = "Librarian management APIs - Manage library staff accounts with role-based access control")
 public class LibrarianController {
     
+    // Sorting by email puts the last row's address into the cursor, and so into the next request's URL
+    private static final Set<String> SCROLL_SORT_FIELDS = Set.of("id", "name", "email", "hireDate");
+    
     private final LibrarianService librarianService;
     private final LibrarianMapper librarianMapper;
+    private final ScrollCursorMapper scrollCursorMapper;
     
-    public LibrarianController(LibrarianService librarianService, LibrarianMapper librarianMapper) {
+    public LibrarianController(LibrarianService librarianService, LibrarianMapper librarianMapper, ScrollCursorMapper scrollCursorMapper) {
         this.librarianService = librarianService;
         this.librarianMapper = librarianMapper;
+        this.scrollCursorMapper = scrollCursorMapper;
     }
     
     // Create new Librarian
@@ -118,6 +127,33 @@ public class LibrarianController {
         }
     }
     
+    // Scroll through all librarians (keyset pagination)
+    @Operation(
+            summary = "Scroll through all librarians",
+            description = "Walks staff accounts by id, name, email or hire date"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Window retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or sort field")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<WindowResponseDTO<LibrarianResponseDTO>> scrollLibrarians(
+            @Parameter(description = "Cursor returned as nextCursor by the previous window (omit for the first window)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per window (max 500)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Field to sort by: id, name, email, hireDate (ignored when a cursor is given)", example = "name")
+            @RequestParam(defaultValue = "name") String sortBy,
+            @Parameter(description = "Sort direction (ASC or DESC, ignored when a cursor is given)", example = "ASC")
+            @RequestParam(defaultValue = "ASC") String sortDirection) {
+        
+        ScrollCursorMapper.ScrollRequest scrollRequest = scrollCursorMapper.toScrollRequest(after, size, sortBy, sortDirection, Librarian.class,
+                SCROLL_SORT_FIELDS);
+        Window<Librarian> window = librarianService.scrollAll(scrollRequest.position(), scrollRequest.sort(), scrollRequest.size());
+        WindowResponseDTO<LibrarianResponseDTO> response = scrollCursorMapper.toResponseDTO(window, scrollRequest.sort(), librarianMapper::toResponseDTO);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+    
     // Update Librarian by ID
     @Operation(
             summary = "Update librarian by ID",
@@ -278,6 +314,27 @@ public class LibrarianController {
         }
     }
     
+    // Fuzzy librarian search
+    @Operation(
+            summary = "Search librarians",
+            description = "Typo-tolerant search over name, email and phone number, best match first. Words may be misspelled or partially typed; a query made only of digits is matched against phone numbers, including their last digits. Runs under a fixed time budget, so on very broad queries the results are the best matches found within it."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Librarians retrieved successfully, best match first")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<LibrarianResponseDTO>> searchLibrarians(
+            @Parameter(description = "Name, email or phone number, possibly misspelled", required = true, example = "sara")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, 100));
+        List<LibrarianResponseDTO> responseDTOs = librarianService.search(q, boundedLimit).stream()
+                .map(librarianMapper::toResponseDTO)
+                .collect(Collectors.toList());
+        return new ResponseEntity<>(responseDTOs, HttpStatus.OK);
+    }
+    
 
     @Operation(
             summary = "Change librarian password",
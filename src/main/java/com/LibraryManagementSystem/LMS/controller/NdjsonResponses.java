@@ -0,0 +1,61 @@
+package com.LibraryManagementSystem.LMS.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Builds newline-delimited JSON responses that are written row by row instead of collected into a list
+final class NdjsonResponses {
+
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    // Rows written between explicit flushes to the client
+    private static final int FLUSH_INTERVAL = 500;
+
+    private NdjsonResponses() {
+    }
+
+    // source is handed a sink and must push every entity into it (typically a transactional service stream)
+    static <E, D> ResponseEntity<StreamingResponseBody> stream(ObjectMapper objectMapper,
+                                                                Consumer<Consumer<E>> source,
+                                                                Function<E, D> mapper) {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // One document per line, no separator between root values other than the newline
+                generator.setRootValueSeparator(null);
+                int[] written = {0};
+                try {
+                    source.accept(entity -> {
+                        try {
+                            writer.writeValue(generator, mapper.apply(entity));
+                            generator.writeRaw('\n');
+                            if (++written[0] % FLUSH_INTERVAL == 0) {
+                                generator.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+}
@@ -2,11 +2,14 @@ package com.LibraryManagementSystem.LMS.controller;
 
 import com.LibraryManagementSystem.LMS.dto.PaymentRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.PaymentResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.WindowResponseDTO;
 import com.LibraryManagementSystem.LMS.entity.Payment;
 import com.LibraryManagementSystem.LMS.enums.PaymentMethod;
 import com.LibraryManagementSystem.LMS.enums.PaymentStatus;
 import com.LibraryManagementSystem.LMS.mapper.PaymentMapper;
+import com.LibraryManagementSystem.LMS.mapper.ScrollCursorMapper;
 import com.LibraryManagementSystem.LMS.service.interfaces.PaymentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,11 +22,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -31,12 +37,19 @@ import java.util.stream.Collectors;
 @Tag(name = "Payments", description = "Payment management APIs - Process and track fine payments with various payment methods and statuses")
 public class PaymentController {
     
+    private static final Set<String> SCROLL_SORT_FIELDS = Set.of("id", "amount", "paymentDate");
+    
     private final PaymentService paymentService;
     private final PaymentMapper paymentMapper;
+    private final ScrollCursorMapper scrollCursorMapper;
+    private final ObjectMapper objectMapper;
     
-    public PaymentController(PaymentService paymentService, PaymentMapper paymentMapper) {
+    public PaymentController(PaymentService paymentService, PaymentMapper paymentMapper,
+                             ScrollCursorMapper scrollCursorMapper, ObjectMapper objectMapper) {
         this.paymentService = paymentService;
         this.paymentMapper = paymentMapper;
+        this.scrollCursorMapper = scrollCursorMapper;
+        this.objectMapper = objectMapper;
     }
     
     // Create new Payment
@@ -115,6 +128,46 @@ public class PaymentController {
         }
     }
     
+    // Stream all payments as NDJSON
+    @Operation(
+            summary = "Export all payments as NDJSON",
+            description = "Selected with 'Accept: application/x-ndjson'. Rows are read through a database cursor and written one JSON document per line as they are mapped, so memory use does not grow with the table."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream started successfully")
+    })
+    @GetMapping(produces = NdjsonResponses.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllPayments() {
+        return NdjsonResponses.stream(objectMapper, paymentService::streamAll, paymentMapper::toResponseDTO);
+    }
+    
+    // Scroll through all payments (keyset pagination)
+    @Operation(
+            summary = "Scroll through all payments",
+            description = "Walks all payments by id, amount or payment date, e.g. for reconciliation with the till"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Window retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or sort field")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<WindowResponseDTO<PaymentResponseDTO>> scrollPayments(
+            @Parameter(description = "Cursor returned as nextCursor by the previous window (omit for the first window)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per window (max 500)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Field to sort by: id, amount, paymentDate (ignored when a cursor is given)", example = "paymentDate")
+            @RequestParam(defaultValue = "paymentDate") String sortBy,
+            @Parameter(description = "Sort direction (ASC or DESC, ignored when a cursor is given)", example = "DESC")
+            @RequestParam(defaultValue = "DESC") String sortDirection) {
+        
+        ScrollCursorMapper.ScrollRequest scrollRequest = scrollCursorMapper.toScrollRequest(after, size, sortBy, sortDirection, Payment.class,
+                SCROLL_SORT_FIELDS);
+        Window<Payment> window = paymentService.scrollAll(scrollRequest.position(), scrollRequest.sort(), scrollRequest.size());
+        WindowResponseDTO<PaymentResponseDTO> response = scrollCursorMapper.toResponseDTO(window, scrollRequest.sort(), paymentMapper::toResponseDTO);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+    
     // Update Payment by ID
     @Operation(
             summary = "Update payment by ID",
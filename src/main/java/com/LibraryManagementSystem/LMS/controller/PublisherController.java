@@ -1,5 +1,7 @@
 package com.LibraryManagementSystem.LMS.controller;
 
+import com.LibraryManagementSystem.LMS.cache.CatalogVersionIndex;
+import com.LibraryManagementSystem.LMS.config.HttpCacheConfig;
 import com.LibraryManagementSystem.LMS.dto.PublisherRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.PublisherResponseDTO;
 import com.LibraryManagementSystem.LMS.entity.Publisher;
@@ -14,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,10 +31,15 @@ public class PublisherController {
     
     private final PublisherService publisherService;
     private final PublisherMapper publisherMapper;
+    private final CatalogVersionIndex catalogVersionIndex;
+    private final HttpCacheConfig httpCacheConfig;
     
-    public PublisherController(PublisherService publisherService, PublisherMapper publisherMapper) {
+    public PublisherController(PublisherService publisherService, PublisherMapper publisherMapper,
+                               CatalogVersionIndex catalogVersionIndex, HttpCacheConfig httpCacheConfig) {
         this.publisherService = publisherService;
         this.publisherMapper = publisherMapper;
+        this.catalogVersionIndex = catalogVersionIndex;
+        this.httpCacheConfig = httpCacheConfig;
     }
     
     // Create a new publisher
@@ -63,15 +71,27 @@ public class PublisherController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Publisher found successfully",
                     content = @Content(schema = @Schema(implementation = PublisherResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Publisher unchanged since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Publisher not found with the given ID")
     })
     @GetMapping("/{id}")
     public ResponseEntity<PublisherResponseDTO> getPublisherById(
             @Parameter(description = "Publisher ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // A current client copy is confirmed from the version index without touching the database: the tag was
+        // only handed out for an existing publisher, and deleting it moves the counter
+        String etag = ConditionalResponses.weakETag(catalogVersionIndex.tag(CatalogVersionIndex.Catalog.PUBLISHERS), id);
+        if (ConditionalResponses.matchesTag(ifNoneMatch, etag)) {
+            return ConditionalResponses.notModified(etag, httpCacheConfig.referenceData());
+        }
         Publisher publisher = publisherService.getById(id);
+        if (ConditionalResponses.isWildcard(ifNoneMatch)) {
+            return ConditionalResponses.notModified(etag, httpCacheConfig.referenceData());
+        }
         PublisherResponseDTO responseDTO = publisherMapper.toResponseDTO(publisher);
-        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+        return ConditionalResponses.ok(responseDTO, etag, httpCacheConfig.referenceData());
     }
     
     // Get all publishers
@@ -80,15 +100,22 @@ public class PublisherController {
             description = "Retrieves a complete list of all book publishers in the system"
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Publishers retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Publishers retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Publishers unchanged since the ETag sent in If-None-Match")
     })
     @GetMapping
-    public ResponseEntity<List<PublisherResponseDTO>> getAllPublishers() {
+    public ResponseEntity<List<PublisherResponseDTO>> getAllPublishers(
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ConditionalResponses.weakETag(catalogVersionIndex.tag(CatalogVersionIndex.Catalog.PUBLISHERS));
+        if (ConditionalResponses.matches(ifNoneMatch, etag)) {
+            return ConditionalResponses.notModified(etag, httpCacheConfig.referenceData());
+        }
         List<Publisher> publishers = publisherService.getAll();
         List<PublisherResponseDTO> responseDTOs = publishers.stream()
                 .map(publisherMapper::toResponseDTO)
                 .collect(Collectors.toList());
-        return new ResponseEntity<>(responseDTOs, HttpStatus.OK);
+        return ConditionalResponses.ok(responseDTOs, etag, httpCacheConfig.referenceData());
     }
     
     // Update publisher by ID
@@ -3,9 +3,11 @@ package com.LibraryManagementSystem.LMS.controller;
 import com.LibraryManagementSystem.LMS.dto.UserPatchDTO;
 import com.LibraryManagementSystem.LMS.dto.UserRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.UserResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.WindowResponseDTO;
 import com.LibraryManagementSystem.LMS.entity.User;
 import com.LibraryManagementSystem.LMS.enums.Status;
 import com.LibraryManagementSystem.LMS.mapper.UserMapper;
+import com.LibraryManagementSystem.LMS.mapper.ScrollCursorMapper;
 import com.LibraryManagementSystem.LMS.service.interfaces.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -33,12 +37,17 @@ import java.util.stream.Collectors;
 @Tag(name = "Users", description = "User management APIs - Manage library member accounts, memberships, and borrowing privileges")
 public class UserController {
     
+    // Sorting by email puts the last row's address into the cursor, and so into the next request's URL
+    private static final Set<String> SCROLL_SORT_FIELDS = Set.of("id", "name", "email", "membershipDate");
+    
     private final UserService userService;
     private final UserMapper userMapper;
+    private final ScrollCursorMapper scrollCursorMapper;
     
-    public UserController(UserService userService, UserMapper userMapper) {
+    public UserController(UserService userService, UserMapper userMapper, ScrollCursorMapper scrollCursorMapper) {
         this.userService = userService;
         this.userMapper = userMapper;
+        this.scrollCursorMapper = scrollCursorMapper;
     }
     
     
@@ -97,6 +106,33 @@ public class UserController {
         }
     }
     
+    // Scroll through all users (keyset pagination)
+    @Operation(
+            summary = "Scroll through all users",
+            description = "Walks member accounts by id, name, email or membership date"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Window retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or sort field")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<WindowResponseDTO<UserResponseDTO>> scrollUsers(
+            @Parameter(description = "Cursor returned as nextCursor by the previous window (omit for the first window)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per window (max 500)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Field to sort by: id, name, email, membershipDate (ignored when a cursor is given)", example = "name")
+            @RequestParam(defaultValue = "name") String sortBy,
+            @Parameter(description = "Sort direction (ASC or DESC, ignored when a cursor is given)", example = "ASC")
+            @RequestParam(defaultValue = "ASC") String sortDirection) {
+        
+        ScrollCursorMapper.ScrollRequest scrollRequest = scrollCursorMapper.toScrollRequest(after, size, sortBy, sortDirection, User.class,
+                SCROLL_SORT_FIELDS);
+        Window<User> window = userService.scrollAll(scrollRequest.position(), scrollRequest.sort(), scrollRequest.size());
+        WindowResponseDTO<UserResponseDTO> response = scrollCursorMapper.toResponseDTO(window, scrollRequest.sort(), userMapper::toResponseDTO);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+    
     // Update User by ID
     @Operation(
             summary = "Update user",
@@ -220,6 +256,27 @@ public class UserController {
         }
     }
     
+    // Fuzzy user search
+    @Operation(
+            summary = "Search users",
+            description = "Typo-tolerant search over name, email and phone number, best match first. Words may be misspelled or partially typed; a query made only of digits is matched against phone numbers, including their last digits. Runs under a fixed time budget, so on very broad queries the results are the best matches found within it."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users retrieved successfully, best match first")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<UserResponseDTO>> searchUsers(
+            @Parameter(description = "Name, email or phone number, possibly misspelled", required = true, example = "jon smiht")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, 100));
+        List<UserResponseDTO> responseDTOs = userService.search(q, boundedLimit).stream()
+                .map(userMapper::toResponseDTO)
+                .collect(Collectors.toList());
+        return new ResponseEntity<>(responseDTOs, HttpStatus.OK);
+    }
+    
     // Search Users by Name
     @Operation(
             summary = "Search users by name",
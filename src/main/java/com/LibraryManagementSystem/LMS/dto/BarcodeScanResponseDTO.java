@@ -0,0 +1,63 @@
+package com.LibraryManagementSystem.LMS.dto;
+
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+
+public class BarcodeScanResponseDTO {
+
+    private Long copyId;
+    private String barcode;
+    private Long bookId;
+    private String title;
+    private BookCopyStatus status;
+
+    public BarcodeScanResponseDTO() {
+    }
+
+    public BarcodeScanResponseDTO(Long copyId, String barcode, Long bookId, String title, BookCopyStatus status) {
+        this.copyId = copyId;
+        this.barcode = barcode;
+        this.bookId = bookId;
+        this.title = title;
+        this.status = status;
+    }
+
+    public Long getCopyId() {
+        return copyId;
+    }
+
+    public void setCopyId(Long copyId) {
+        this.copyId = copyId;
+    }
+
+    public String getBarcode() {
+        return barcode;
+    }
+
+    public void setBarcode(String barcode) {
+        this.barcode = barcode;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public void setBookId(Long bookId) {
+        this.bookId = bookId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public BookCopyStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BookCopyStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,64 @@
+package com.LibraryManagementSystem.LMS.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+
+public class BatchCheckoutRequestDTO {
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    @NotEmpty(message = "At least one barcode is required")
+    @Size(max = 100, message = "At most 100 barcodes per batch")
+    private List<@NotBlank(message = "Barcode must not be blank") String> barcodes;
+
+    private LocalDate borrowDate; // Optional - defaults to today
+
+    private LocalDate dueDate; // Optional - will be auto-calculated if not provided (borrowDate + 14 days)
+
+    public BatchCheckoutRequestDTO() {
+    }
+
+    public BatchCheckoutRequestDTO(Long userId, List<String> barcodes, LocalDate borrowDate, LocalDate dueDate) {
+        this.userId = userId;
+        this.barcodes = barcodes;
+        this.borrowDate = borrowDate;
+        this.dueDate = dueDate;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public List<String> getBarcodes() {
+        return barcodes;
+    }
+
+    public void setBarcodes(List<String> barcodes) {
+        this.barcodes = barcodes;
+    }
+
+    public LocalDate getBorrowDate() {
+        return borrowDate;
+    }
+
+    public void setBorrowDate(LocalDate borrowDate) {
+        this.borrowDate = borrowDate;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+}
@@ -0,0 +1,53 @@
+package com.LibraryManagementSystem.LMS.dto;
+
+import com.LibraryManagementSystem.LMS.enums.BatchItemStatus;
+
+public class BatchItemResultDTO {
+
+    private String barcode;
+    private BatchItemStatus status;
+    private String message; // Why the item was skipped, null when OK
+    private BorrowedResponseDTO borrowed; // The new or returned loan when OK
+
+    public BatchItemResultDTO() {
+    }
+
+    public BatchItemResultDTO(String barcode, BatchItemStatus status, String message, BorrowedResponseDTO borrowed) {
+        this.barcode = barcode;
+        this.status = status;
+        this.message = message;
+        this.borrowed = borrowed;
+    }
+
+    public String getBarcode() {
+        return barcode;
+    }
+
+    public void setBarcode(String barcode) {
+        this.barcode = barcode;
+    }
+
+    public BatchItemStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BatchItemStatus status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public BorrowedResponseDTO getBorrowed() {
+        return borrowed;
+    }
+
+    public void setBorrowed(BorrowedResponseDTO borrowed) {
+        this.borrowed = borrowed;
+    }
+}
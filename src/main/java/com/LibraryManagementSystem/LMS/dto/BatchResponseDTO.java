@@ -0,0 +1,43 @@
+package com.LibraryManagementSystem.LMS.dto;
+
+import java.util.List;
+
+public class BatchResponseDTO {
+
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResultDTO> items; // One per scanned barcode, in request order
+
+    public BatchResponseDTO() {
+    }
+
+    public BatchResponseDTO(int succeeded, int failed, List<BatchItemResultDTO> items) {
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.items = items;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BatchItemResultDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BatchItemResultDTO> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,40 @@
+package com.LibraryManagementSystem.LMS.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+
+public class BatchReturnRequestDTO {
+
+    @NotEmpty(message = "At least one barcode is required")
+    @Size(max = 100, message = "At most 100 barcodes per batch")
+    private List<@NotBlank(message = "Barcode must not be blank") String> barcodes;
+
+    private LocalDate returnDate; // Optional - defaults to today
+
+    public BatchReturnRequestDTO() {
+    }
+
+    public BatchReturnRequestDTO(List<String> barcodes, LocalDate returnDate) {
+        this.barcodes = barcodes;
+        this.returnDate = returnDate;
+    }
+
+    public List<String> getBarcodes() {
+        return barcodes;
+    }
+
+    public void setBarcodes(List<String> barcodes) {
+        this.barcodes = barcodes;
+    }
+
+    public LocalDate getReturnDate() {
+        return returnDate;
+    }
+
+    public void setReturnDate(LocalDate returnDate) {
+        this.returnDate = returnDate;
+    }
+}
@@ -21,6 +21,11 @@ public class BookResponseDTO {
     private PublisherResponseDTO publisher;
     private Set<AuthorResponseDTO> authors;
     private Set<GenreResponseDTO> genres;
+    private Integer totalCopies;
+    private Integer availableCopies;
+    private Integer borrowedCopies;
+    private Integer unavailableCopies;
+    private Integer onHoldCopies;
 
     public BookResponseDTO() {
     }
@@ -107,4 +112,34 @@ public class BookResponseDTO {
     public void setGenres(Set<GenreResponseDTO> genres) {
         this.genres = genres;
     }
+    public Integer getTotalCopies() {
+        return totalCopies;
+    }
+    public void setTotalCopies(Integer totalCopies) {
+        this.totalCopies = totalCopies;
+    }
+    public Integer getAvailableCopies() {
+        return availableCopies;
+    }
+    public void setAvailableCopies(Integer availableCopies) {
+        this.availableCopies = availableCopies;
+    }
+    public Integer getBorrowedCopies() {
+        return borrowedCopies;
+    }
+    public void setBorrowedCopies(Integer borrowedCopies) {
+        this.borrowedCopies = borrowedCopies;
+    }
+    public Integer getUnavailableCopies() {
+        return unavailableCopies;
+    }
+    public void setUnavailableCopies(Integer unavailableCopies) {
+        this.unavailableCopies = unavailableCopies;
+    }
+    public Integer getOnHoldCopies() {
+        return onHoldCopies;
+    }
+    public void setOnHoldCopies(Integer onHoldCopies) {
+        this.onHoldCopies = onHoldCopies;
+    }
 }
@@ -0,0 +1,66 @@
+package com.LibraryManagementSystem.LMS.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// One page of a faceted catalog query, with value counts per facet (language, genre, publisher, year, availability)
+public class FacetSearchResponseDTO {
+
+    private int totalElements;
+    private int page;
+    private int size;
+    private List<BookResponseDTO> content;
+    private Map<String, List<FacetCountDTO>> facets;
+
+    public FacetSearchResponseDTO() {
+    }
+
+    public FacetSearchResponseDTO(int totalElements, int page, int size, List<BookResponseDTO> content,
+                                  Map<String, List<FacetCountDTO>> facets) {
+        this.totalElements = totalElements;
+        this.page = page;
+        this.size = size;
+        this.content = content;
+        this.facets = facets;
+    }
+
+    public int getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(int totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public List<BookResponseDTO> getContent() {
+        return content;
+    }
+
+    public void setContent(List<BookResponseDTO> content) {
+        this.content = content;
+    }
+
+    public Map<String, List<FacetCountDTO>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, List<FacetCountDTO>> facets) {
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,47 @@
+package com.LibraryManagementSystem.LMS.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public class HoldRequestDTO {
+
+    @NotNull(message = "Book ID is required")
+    private Long bookId;
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    private Boolean priority; // Optional - staff only, jumps the hold ahead of patron holds
+
+    public HoldRequestDTO() {
+    }
+
+    public HoldRequestDTO(Long bookId, Long userId, Boolean priority) {
+        this.bookId = bookId;
+        this.userId = userId;
+        this.priority = priority;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public void setBookId(Long bookId) {
+        this.bookId = bookId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Boolean getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Boolean priority) {
+        this.priority = priority;
+    }
+}
@@ -0,0 +1,142 @@
+package com.LibraryManagementSystem.LMS.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.LibraryManagementSystem.LMS.enums.HoldStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class HoldResponseDTO {
+
+    private Long id;
+    private Long bookId;
+    private String bookTitle;
+    private UserSummaryDTO user;
+    private Boolean priority;
+    private HoldStatus status;
+    
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime requestedAt;
+    
+    // Place in the title's queue while WAITING, 0 otherwise
+    private Long queuePosition;
+    
+    // Copy set aside once READY
+    private Long bookCopyId;
+    private String barcode;
+    
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime readyAt;
+    
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate pickupBy;
+    
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime closedAt;
+
+    public HoldResponseDTO() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public void setBookId(Long bookId) {
+        this.bookId = bookId;
+    }
+
+    public String getBookTitle() {
+        return bookTitle;
+    }
+
+    public void setBookTitle(String bookTitle) {
+        this.bookTitle = bookTitle;
+    }
+
+    public UserSummaryDTO getUser() {
+        return user;
+    }
+
+    public void setUser(UserSummaryDTO user) {
+        this.user = user;
+    }
+
+    public Boolean getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Boolean priority) {
+        this.priority = priority;
+    }
+
+    public HoldStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(HoldStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getRequestedAt() {
+        return requestedAt;
+    }
+
+    public void setRequestedAt(LocalDateTime requestedAt) {
+        this.requestedAt = requestedAt;
+    }
+
+    public Long getQueuePosition() {
+        return queuePosition;
+    }
+
+    public void setQueuePosition(Long queuePosition) {
+        this.queuePosition = queuePosition;
+    }
+
+    public Long getBookCopyId() {
+        return bookCopyId;
+    }
+
+    public void setBookCopyId(Long bookCopyId) {
+        this.bookCopyId = bookCopyId;
+    }
+
+    public String getBarcode() {
+        return barcode;
+    }
+
+    public void setBarcode(String barcode) {
+        this.barcode = barcode;
+    }
+
+    public LocalDateTime getReadyAt() {
+        return readyAt;
+    }
+
+    public void setReadyAt(LocalDateTime readyAt) {
+        this.readyAt = readyAt;
+    }
+
+    public LocalDate getPickupBy() {
+        return pickupBy;
+    }
+
+    public void setPickupBy(LocalDate pickupBy) {
+        this.pickupBy = pickupBy;
+    }
+
+    public LocalDateTime getClosedAt() {
+        return closedAt;
+    }
+
+    public void setClosedAt(LocalDateTime closedAt) {
+        this.closedAt = closedAt;
+    }
+}
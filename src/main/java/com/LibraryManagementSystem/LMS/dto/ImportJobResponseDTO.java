@@ -0,0 +1,112 @@
+package com.LibraryManagementSystem.LMS.dto;
+
+import com.LibraryManagementSystem.LMS.enums.ImportFormat;
+import com.LibraryManagementSystem.LMS.enums.ImportJobStatus;
+
+import java.time.LocalDateTime;
+
+public class ImportJobResponseDTO {
+    
+    private Long id;
+    private ImportFormat format;
+    private ImportJobStatus status;
+    private Long recordsRead;
+    private Long booksCreated;
+    private Long duplicatesSkipped;
+    private Long recordsRejected;
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+    
+    public ImportJobResponseDTO() {
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public ImportFormat getFormat() {
+        return format;
+    }
+    
+    public void setFormat(ImportFormat format) {
+        this.format = format;
+    }
+    
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ImportJobStatus status) {
+        this.status = status;
+    }
+    
+    public Long getRecordsRead() {
+        return recordsRead;
+    }
+    
+    public void setRecordsRead(Long recordsRead) {
+        this.recordsRead = recordsRead;
+    }
+    
+    public Long getBooksCreated() {
+        return booksCreated;
+    }
+    
+    public void setBooksCreated(Long booksCreated) {
+        this.booksCreated = booksCreated;
+    }
+    
+    public Long getDuplicatesSkipped() {
+        return duplicatesSkipped;
+    }
+    
+    public void setDuplicatesSkipped(Long duplicatesSkipped) {
+        this.duplicatesSkipped = duplicatesSkipped;
+    }
+    
+    public Long getRecordsRejected() {
+        return recordsRejected;
+    }
+    
+    public void setRecordsRejected(Long recordsRejected) {
+        this.recordsRejected = recordsRejected;
+    }
+    
+    public String getLastError() {
+        return lastError;
+    }
+    
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
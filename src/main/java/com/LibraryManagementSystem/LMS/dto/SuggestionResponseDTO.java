@@ -0,0 +1,43 @@
+package com.LibraryManagementSystem.LMS.dto;
+
+import com.LibraryManagementSystem.LMS.search.SuggestionIndex;
+
+public class SuggestionResponseDTO {
+    
+    private SuggestionIndex.Kind type;
+    private Long id;
+    private String text;
+    
+    public SuggestionResponseDTO() {
+    }
+    
+    public SuggestionResponseDTO(SuggestionIndex.Kind type, Long id, String text) {
+        this.type = type;
+        this.id = id;
+        this.text = text;
+    }
+    
+    public SuggestionIndex.Kind getType() {
+        return type;
+    }
+    
+    public void setType(SuggestionIndex.Kind type) {
+        this.type = type;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getText() {
+        return text;
+    }
+    
+    public void setText(String text) {
+        this.text = text;
+    }
+}
@@ -0,0 +1,59 @@
+package com.LibraryManagementSystem.LMS.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+// One window of a keyset (cursor) paginated listing; there is deliberately no total count.
+// ScrollCursorMapper describes what the cursor holds.
+@Schema(description = "One window of a /scroll listing. There is no total count, and every window costs the same however deep. "
+        + "While hasNext is true, pass nextCursor as 'after' to get the next window; the cursor keeps the sort of the first request.")
+public class WindowResponseDTO<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public WindowResponseDTO() {
+    }
+
+    public WindowResponseDTO(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
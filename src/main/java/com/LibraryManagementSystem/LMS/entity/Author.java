@@ -1,12 +1,17 @@
 package com.LibraryManagementSystem.LMS.entity;
 
+import com.LibraryManagementSystem.LMS.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.AUTHORS_REGION)
 @Table(name = "authors")
 @Data
 @NoArgsConstructor
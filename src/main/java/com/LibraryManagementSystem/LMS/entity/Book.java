@@ -1,9 +1,13 @@
 package com.LibraryManagementSystem.LMS.entity;
 
+import com.LibraryManagementSystem.LMS.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
@@ -11,6 +15,12 @@ import com.LibraryManagementSystem.LMS.enums.BookStatus;
 
 
 @Entity
+// What the response mappers walk, joined into the listing query. The other *.details graphs reach down to
+// this one; authors and genres are left to batch fetching below, so a page costs a fixed number of statements.
+@NamedEntityGraph(
+    name = "Book.details",
+    attributeNodes = @NamedAttributeNode("publisher")
+)
 @Table(name = "books")
 @Data
 @NoArgsConstructor
@@ -18,7 +28,9 @@ import com.LibraryManagementSystem.LMS.enums.BookStatus;
 public class Book {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+    @SequenceGenerator(name = "books_seq", sequenceName = "books_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true, length = 20)
@@ -48,7 +60,11 @@ public class Book {
     private Publisher publisher;
     
     // MANY-TO-MANY: A book can have multiple authors
+    // Batch-fetched rather than joined: joining two collections multiplies rows and breaks SQL paging
+    // Cached as id lists; the authors themselves come from their own region
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.BOOK_AUTHORS_REGION)
     @JoinTable(
         name = "book_authors",
         joinColumns = @JoinColumn(name = "book_id"),
@@ -58,6 +74,8 @@ public class Book {
     
     // MANY-TO-MANY: A book can have multiple genres
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.BOOK_GENRES_REGION)
     @JoinTable(
         name = "book_genres",
         joinColumns = @JoinColumn(name = "book_id"),
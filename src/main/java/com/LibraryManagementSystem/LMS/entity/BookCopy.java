@@ -4,11 +4,18 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
 import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
 
 
 @Entity
+// A copy is listed with its title and publisher
+@NamedEntityGraph(
+    name = "BookCopy.details",
+    attributeNodes = @NamedAttributeNode(value = "book", subgraph = "book"),
+    subgraphs = @NamedSubgraph(name = "book", attributeNodes = @NamedAttributeNode("publisher"))
+)
 @Table(name = "book_copies")
 @Data
 @NoArgsConstructor
@@ -16,9 +23,17 @@ import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
 public class BookCopy {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_copies_seq")
+    @SequenceGenerator(name = "book_copies_seq", sequenceName = "book_copies_seq", allocationSize = 50)
     private Long id;
     
+    // Guards read-modify-write updates of the copy (status flips on checkout and return, staff edits)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+    
     @Column(nullable = false, unique = true, length = 50)
     private String barcode;
     
@@ -4,11 +4,24 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
 import com.LibraryManagementSystem.LMS.enums.BorrowStatus;
 
 
 @Entity
+// Borrower and copy, down to the copy's publisher
+@NamedEntityGraph(
+    name = "Borrowed.details",
+    attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode(value = "bookCopy", subgraph = "bookCopy")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "bookCopy", attributeNodes = @NamedAttributeNode(value = "book", subgraph = "book")),
+        @NamedSubgraph(name = "book", attributeNodes = @NamedAttributeNode("publisher"))
+    }
+)
 @Table(name = "borrowed")
 @Data
 @NoArgsConstructor
@@ -16,9 +29,17 @@ import com.LibraryManagementSystem.LMS.enums.BorrowStatus;
 public class Borrowed {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "borrowed_seq")
+    @SequenceGenerator(name = "borrowed_seq", sequenceName = "borrowed_seq", allocationSize = 50)
     private Long id;
     
+    // Concurrent returns, edits and the overdue sweep touch the same loan; a stale write fails instead of winning
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+    
     @Column(name = "borrow_date", nullable = false)
     private LocalDate borrowDate;
     
@@ -4,11 +4,25 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import com.LibraryManagementSystem.LMS.enums.FineStatus;
 
 @Entity
+// The loan behind the fine, joined as deep as Borrowed.details
+@NamedEntityGraph(
+    name = "Fine.details",
+    attributeNodes = @NamedAttributeNode(value = "borrowed", subgraph = "borrowed"),
+    subgraphs = {
+        @NamedSubgraph(name = "borrowed", attributeNodes = {
+            @NamedAttributeNode("user"),
+            @NamedAttributeNode(value = "bookCopy", subgraph = "bookCopy")
+        }),
+        @NamedSubgraph(name = "bookCopy", attributeNodes = @NamedAttributeNode(value = "book", subgraph = "book")),
+        @NamedSubgraph(name = "book", attributeNodes = @NamedAttributeNode("publisher"))
+    }
+)
 @Table(name = "fines")
 @Data
 @NoArgsConstructor
@@ -16,9 +30,18 @@ import com.LibraryManagementSystem.LMS.enums.FineStatus;
 public class Fine {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fines_seq")
+    @SequenceGenerator(name = "fines_seq", sequenceName = "fines_seq", allocationSize = 50)
     private Long id;
     
+    // The overdue sweep rewrites accruing fines without touching their loan, so a fine settled by a
+    // concurrent return must fail the sweep's write rather than be overwritten by it
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+    
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal amount;
     
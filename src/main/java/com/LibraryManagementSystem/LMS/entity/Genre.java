@@ -1,11 +1,16 @@
 package com.LibraryManagementSystem.LMS.entity;
 
+import com.LibraryManagementSystem.LMS.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor; // needed by JPA
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.GENRES_REGION)
 @Table(name = "genres")
 @Data
 @NoArgsConstructor
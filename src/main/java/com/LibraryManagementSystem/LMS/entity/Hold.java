@@ -0,0 +1,86 @@
+package com.LibraryManagementSystem.LMS.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import com.LibraryManagementSystem.LMS.enums.HoldStatus;
+
+
+@Entity
+// Associations walked by the response mapper, fetched together for DTO listings
+@NamedEntityGraph(
+    name = "Hold.details",
+    attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("book"),
+        @NamedAttributeNode("bookCopy")
+    }
+)
+// The queue of a title is read in (book, status, priority, requested) order on every return
+@Table(name = "holds", indexes = {
+    @Index(name = "idx_holds_queue", columnList = "book_id, status, priority, requested_at"),
+    @Index(name = "idx_holds_user", columnList = "user_id, status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Hold {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holds_seq")
+    @SequenceGenerator(name = "holds_seq", sequenceName = "holds_seq", allocationSize = 50)
+    private Long id;
+    
+    // Two returns of the same title race for the head of its queue; the loser's write fails and is retried
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+    
+    // MANY-TO-ONE: Holds are placed on a title, not on a particular copy
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id", nullable = false)
+    private Book book;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    // Staff holds (course reserves, inter-library requests) are served before patron holds
+    @Column(nullable = false)
+    private Boolean priority = false;
+    
+    @Column(length = 20, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private HoldStatus status = HoldStatus.WAITING;
+    
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+    
+    // The copy set aside once the hold is READY
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_copy_id")
+    private BookCopy bookCopy;
+    
+    @Column(name = "ready_at")
+    private LocalDateTime readyAt;
+    
+    // Last day the READY copy waits for pickup
+    @Column(name = "pickup_by")
+    private LocalDate pickupBy;
+    
+    // When the hold was fulfilled, cancelled or expired
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+    
+    @PrePersist
+    private void beforeSave() {
+        if (this.requestedAt == null) {
+            this.requestedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.LibraryManagementSystem.LMS.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import com.LibraryManagementSystem.LMS.enums.ImportFormat;
+import com.LibraryManagementSystem.LMS.enums.ImportJobStatus;
+
+
+@Entity
+@Table(name = "import_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(length = 10, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ImportFormat format;
+    
+    @Column(length = 20, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ImportJobStatus status = ImportJobStatus.RUNNING;
+    
+    // Checkpoint: source records covered by committed chunks; a resumed run skips this many
+    @Column(name = "records_read", nullable = false)
+    private Long recordsRead = 0L;
+    
+    @Column(name = "books_created", nullable = false)
+    private Long booksCreated = 0L;
+    
+    @Column(name = "duplicates_skipped", nullable = false)
+    private Long duplicatesSkipped = 0L;
+    
+    @Column(name = "records_rejected", nullable = false)
+    private Long recordsRejected = 0L;
+    
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+    
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
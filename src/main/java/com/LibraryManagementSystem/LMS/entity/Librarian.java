@@ -7,8 +7,6 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import com.LibraryManagementSystem.LMS.enums.*;
 
 
@@ -19,7 +17,6 @@ import com.LibraryManagementSystem.LMS.enums.*;
 @AllArgsConstructor
 public class Librarian {
 
-    private static final transient PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -55,8 +52,9 @@ public class Librarian {
     @PreUpdate
     private void beforeSave() {
         if (this.password != null && !this.password.isBlank()) {
+            // Hashed by the service through the bounded encoder, never on the request thread
             if (!(this.password.startsWith("$2a$") || this.password.startsWith("$2b$") || this.password.startsWith("$2y$"))) {
-                this.password = passwordEncoder.encode(this.password);
+                throw new IllegalStateException("Password must be hashed before the librarian is saved");
             }
         }
 
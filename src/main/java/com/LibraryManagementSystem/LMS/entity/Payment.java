@@ -11,6 +11,20 @@ import com.LibraryManagementSystem.LMS.enums.PaymentMethod;
 
 
 @Entity
+// Fine and loan, joined as deep as Fine.details
+@NamedEntityGraph(
+    name = "Payment.details",
+    attributeNodes = @NamedAttributeNode(value = "fine", subgraph = "fine"),
+    subgraphs = {
+        @NamedSubgraph(name = "fine", attributeNodes = @NamedAttributeNode(value = "borrowed", subgraph = "borrowed")),
+        @NamedSubgraph(name = "borrowed", attributeNodes = {
+            @NamedAttributeNode("user"),
+            @NamedAttributeNode(value = "bookCopy", subgraph = "bookCopy")
+        }),
+        @NamedSubgraph(name = "bookCopy", attributeNodes = @NamedAttributeNode(value = "book", subgraph = "book")),
+        @NamedSubgraph(name = "book", attributeNodes = @NamedAttributeNode("publisher"))
+    }
+)
 @Table(name = "payments")
 @Data
 @NoArgsConstructor
@@ -18,7 +32,9 @@ import com.LibraryManagementSystem.LMS.enums.PaymentMethod;
 public class Payment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, precision = 10, scale = 2)
@@ -1,11 +1,16 @@
 package com.LibraryManagementSystem.LMS.entity;
 
+import com.LibraryManagementSystem.LMS.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PUBLISHERS_REGION)
 @Table(name = "publishers")
 @Data
 @NoArgsConstructor
@@ -0,0 +1,39 @@
+package com.LibraryManagementSystem.LMS.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+
+// Time-limited claim on one partition of a background sweep, plus that partition's keyset checkpoint.
+// A node that dies simply stops renewing; once leasedUntil passes another node can take over.
+@Entity
+@Table(name = "sweep_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SweepLease {
+    
+    @Id
+    @Column(length = 100)
+    private String name;
+    
+    @Column(length = 200)
+    private String owner;
+    
+    @Column(name = "leased_until")
+    private LocalDateTime leasedUntil;
+    
+    // Day the checkpoint below belongs to
+    @Column(name = "sweep_date")
+    private LocalDate sweepDate;
+    
+    @Column(name = "last_id", nullable = false)
+    private Long lastId = 0L;
+    
+    @Column(nullable = false)
+    private Boolean completed = false;
+}
@@ -6,8 +6,6 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.LibraryManagementSystem.LMS.enums.Status;
 
@@ -19,7 +17,6 @@ import com.LibraryManagementSystem.LMS.enums.Status;
 @AllArgsConstructor
 public class User {
 
-    private static final transient PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -51,8 +48,10 @@ public class User {
     @PreUpdate
     private void beforeSave() {
         if (this.password == null || this.password.isBlank()) return;
+        // Hashing is done by the service through the bounded encoder; BCrypt here would run on the request
+        // (possibly virtual) thread and hold its carrier for the whole hash
         if (!(this.password.startsWith("$2a$") || this.password.startsWith("$2b$") || this.password.startsWith("$2y$"))) {
-            this.password = passwordEncoder.encode(this.password);
+            throw new IllegalStateException("Password must be hashed before the user is saved");
         }
 
         if(this.status == null) {
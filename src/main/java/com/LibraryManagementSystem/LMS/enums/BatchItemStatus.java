@@ -0,0 +1,11 @@
+package com.LibraryManagementSystem.LMS.enums;
+
+// Outcome of one barcode in a batch checkout or return
+public enum BatchItemStatus {
+    OK,
+    NOT_FOUND,     // no copy has the barcode
+    DUPLICATE,     // scanned more than once in the same batch
+    NOT_AVAILABLE, // checkout: copy is lent, set aside for someone else or out of circulation
+    NOT_BORROWED,  // return: copy has no open loan
+    INVALID_DATE   // return: return date falls before the loan's borrow date
+}
@@ -3,5 +3,7 @@ package com.LibraryManagementSystem.LMS.enums;
 public enum BookCopyStatus {
     AVAILABLE,
     BORROWED,
-    UNAVAILABLE
+    UNAVAILABLE,
+    // Set aside for the patron at the head of the title's hold queue, awaiting pickup
+    ON_HOLD
 }
@@ -0,0 +1,9 @@
+package com.LibraryManagementSystem.LMS.enums;
+
+public enum HoldStatus {
+    WAITING,   // in the title's queue
+    READY,     // a copy is set aside for pickup until the hold's expiry date
+    FULFILLED, // the patron borrowed the copy
+    CANCELLED,
+    EXPIRED    // not picked up in time; the copy went to the next hold
+}
@@ -0,0 +1,6 @@
+package com.LibraryManagementSystem.LMS.enums;
+
+public enum ImportFormat {
+    CSV,
+    MARC
+}
@@ -0,0 +1,7 @@
+package com.LibraryManagementSystem.LMS.enums;
+
+public enum ImportJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,20 @@
+package com.LibraryManagementSystem.LMS.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Tells patrons their hold is ready. Fires only once the assignment has committed, so a return that is rolled
+// back or retried never notifies anyone; a mail or push sender plugs in here.
+@Component
+public class HoldNotificationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(HoldNotificationListener.class);
+
+    @TransactionalEventListener
+    public void onHoldReady(HoldReadyEvent event) {
+        logger.info("Hold {} ready: '{}' (copy {}) waits for {} until {}", event.holdId(), event.bookTitle(),
+                event.barcode(), event.userEmail(), event.pickupBy());
+    }
+}
@@ -0,0 +1,8 @@
+package com.LibraryManagementSystem.LMS.event;
+
+import java.time.LocalDate;
+
+// A copy has been set aside for a hold and waits for the patron until pickupBy
+public record HoldReadyEvent(Long holdId, Long bookId, String bookTitle, Long userId, String userEmail,
+                             Long bookCopyId, String barcode, LocalDate pickupBy) {
+}
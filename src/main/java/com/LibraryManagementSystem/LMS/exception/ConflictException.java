@@ -0,0 +1,9 @@
+package com.LibraryManagementSystem.LMS.exception;
+
+// The request is valid but clashes with the record's current state (a duplicate or an already closed record)
+public class ConflictException extends RuntimeException {
+    
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.LibraryManagementSystem.LMS.exception;
+
+// Load shedding: the request was refused before any work was done and may be retried after the given delay
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
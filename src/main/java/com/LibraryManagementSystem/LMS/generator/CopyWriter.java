@@ -0,0 +1,110 @@
+package com.LibraryManagementSystem.LMS.generator;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+// Streams rows into a single COPY ... FROM STDIN (CSV) on one connection, handing the driver about 1 MB at a time.
+// Nothing is visible until finish(); closing an unfinished writer cancels the COPY.
+final class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_CHARS = 1 << 20;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 4096);
+    private boolean rowStarted;
+
+    CopyWriter(Connection connection, String table, String columns) throws SQLException {
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)");
+    }
+
+    CopyWriter text(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        separator();
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+        return this;
+    }
+
+    CopyWriter number(long value) {
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    CopyWriter decimal(BigDecimal value) {
+        if (value == null) {
+            return nullValue();
+        }
+        separator();
+        buffer.append(value.toPlainString());
+        return this;
+    }
+
+    CopyWriter date(LocalDate value) {
+        if (value == null) {
+            return nullValue();
+        }
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    // An unquoted empty field is NULL in CSV COPY
+    CopyWriter nullValue() {
+        separator();
+        return this;
+    }
+
+    void endRow() throws SQLException {
+        buffer.append('\n');
+        rowStarted = false;
+        if (buffer.length() >= FLUSH_CHARS) {
+            flush();
+        }
+    }
+
+    // Completes the COPY and returns the number of rows the server accepted
+    long finish() throws SQLException {
+        flush();
+        return copyIn.endCopy();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    private void separator() {
+        if (rowStarted) {
+            buffer.append(',');
+        }
+        rowStarted = true;
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
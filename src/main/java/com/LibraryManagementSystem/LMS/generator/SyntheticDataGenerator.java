@@ -0,0 +1,574 @@
+package com.LibraryManagementSystem.LMS.generator;
+
+import com.LibraryManagementSystem.LMS.config.FineConfig;
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+import com.LibraryManagementSystem.LMS.enums.BookStatus;
+import com.LibraryManagementSystem.LMS.enums.BorrowStatus;
+import com.LibraryManagementSystem.LMS.enums.FineStatus;
+import com.LibraryManagementSystem.LMS.enums.PaymentMethod;
+import com.LibraryManagementSystem.LMS.enums.PaymentStatus;
+import com.LibraryManagementSystem.LMS.enums.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Fills an empty PostgreSQL database with a synthetic library for load and scale testing. Enabled with the
+// generate-data profile; runs once at startup, before the in-memory indexes are built from what it wrote.
+//
+// Rows go in through COPY with explicit ids, bypassing Hibernate. Loans are written in independent chunks on
+// several connections, each chunk followed by its fines and payments. Popularity follows Zipf distributions
+// (titles, borrowers, authors, publishers, genres) and borrow dates follow a seasonal, weekday-weighted calendar.
+@Component
+@Profile("generate-data")
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    // Same loan period Borrowed assumes when no due date is given
+    private static final int LOAN_DAYS = 14;
+    // Loans younger than this may still be out; older ones have all come back
+    private static final int OPEN_LOAN_WINDOW_DAYS = 45;
+    private static final int MAX_LATE_DAYS = 60;
+    private static final int MAX_EXTRA_COPIES = 20;
+    private static final double PAID_FINE_RATE = 0.75;
+    private static final double WAIVED_FINE_RATE = 0.05;
+    private static final double INACTIVE_USER_RATE = 0.03;
+
+    // January to December; summer holidays and the start of term borrow the most
+    private static final double[] MONTH_WEIGHTS = {1.1, 1.0, 1.0, 0.9, 0.9, 1.3, 1.5, 1.4, 1.2, 1.0, 0.9, 0.7};
+    private static final double MAX_MONTH_WEIGHT = 1.5;
+    private static final double SUNDAY_WEIGHT = 0.4;
+
+    private static final String[] LANGUAGES = {"English", "Urdu", "Spanish", "French", "German", "Arabic", "Chinese"};
+    private static final String[] COUNTRIES = {"Pakistan", "United Kingdom", "United States", "India", "Spain",
+            "France", "Germany", "Egypt", "China", "Canada"};
+    private static final String[] CONDITIONS = {"NEW", "GOOD", "GOOD", "GOOD", "FAIR", "POOR"};
+    private static final String[] FIRST_NAMES = {"Ayesha", "Ali", "Sara", "Omar", "Fatima", "Hassan", "Zainab",
+            "Bilal", "Emma", "James", "Olivia", "Noah", "Maria", "Lucas", "Hana", "Yusuf", "Amina", "David", "Lina",
+            "Daniel", "Mei", "Carlos", "Nadia", "Ibrahim"};
+    private static final String[] LAST_NAMES = {"Khan", "Ahmed", "Malik", "Hussain", "Smith", "Johnson", "Brown",
+            "Garcia", "Martin", "Müller", "Chen", "Rossi", "Qureshi", "Sheikh", "Wilson", "Lopez", "Haddad", "Ali",
+            "Taylor", "Nguyen"};
+    private static final String[] TITLE_WORDS = {"Silent", "River", "Empire", "Garden", "Night", "Shadow", "Glass",
+            "Winter", "Kingdom", "Memory", "Storm", "Island", "North", "Fire", "Ocean", "Letters", "Machine", "City",
+            "Journey", "Salt", "Crown", "Lantern", "Harvest", "Mountain", "Desert", "Stars", "Bridge", "Orchard"};
+    private static final String[] GENRE_NAMES = {"Fiction", "Mystery", "Science Fiction", "Fantasy", "Romance",
+            "History", "Biography", "Poetry", "Philosophy", "Science", "Mathematics", "Computer Science", "Travel",
+            "Children", "Young Adult", "Horror", "Thriller", "Religion", "Economics", "Politics", "Art", "Music",
+            "Cooking", "Health", "Law", "Education", "Drama", "Classics", "Graphic Novels", "Self-Help"};
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final FineConfig fineConfig;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${lms.generator.publishers:200}")
+    private Integer publishers;
+
+    @Value("${lms.generator.authors:5000}")
+    private Integer authors;
+
+    @Value("${lms.generator.genres:40}")
+    private Integer genres;
+
+    @Value("${lms.generator.books:20000}")
+    private Integer books;
+
+    @Value("${lms.generator.copies-per-book:3}")
+    private Integer copiesPerBook;
+
+    @Value("${lms.generator.users:10000}")
+    private Integer users;
+
+    @Value("${lms.generator.loans:200000}")
+    private Long loans;
+
+    @Value("${lms.generator.history-days:1095}")
+    private Integer historyDays;
+
+    @Value("${lms.generator.late-return-rate:0.12}")
+    private Double lateReturnRate;
+
+    @Value("${lms.generator.title-skew:1.1}")
+    private Double titleSkew;
+
+    @Value("${lms.generator.borrower-skew:0.8}")
+    private Double borrowerSkew;
+
+    @Value("${lms.generator.seed:42}")
+    private Long seed;
+
+    @Value("${lms.generator.threads:4}")
+    private Integer threads;
+
+    @Value("${lms.generator.chunk-size:100000}")
+    private Integer chunkSize;
+
+    @Value("${lms.generator.user-password:password}")
+    private String userPassword;
+
+    @FunctionalInterface
+    private interface Rows {
+        void write(CopyWriter writer) throws SQLException;
+    }
+
+    // Copies of the title at index i have ids firstCopy[i] .. firstCopy[i] + copyCount[i] - 1.
+    // bookByRank maps popularity rank to title index, so popular titles are spread over the id range.
+    private record Catalog(int[] bookByRank, long[] firstCopy, int[] copyCount, long copies) {
+    }
+
+    private record ChunkCounts(long loans, long fines, long payments) {
+    }
+
+    public SyntheticDataGenerator(DataSource dataSource, JdbcTemplate jdbcTemplate, FineConfig fineConfig,
+                                  PasswordEncoder passwordEncoder) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.fineConfig = fineConfig;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (publishers < 1 || authors < 1 || genres < 1 || books < 1 || copiesPerBook < 1 || users < 1
+                || loans < 0 || historyDays < 1 || threads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("lms.generator counts must be positive");
+        }
+        requireEmptyDatabase();
+
+        long start = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed);
+        logger.info("Generating {} publishers, {} authors, {} genres, {} books, {} users and {} loans",
+                publishers, authors, genres, books, users, loans);
+
+        log("publishers", copy("publishers", "id, name, address, email, country",
+                writer -> writePublishers(writer, random.split())));
+        log("authors", copy("authors", "id, name, biography, birth_date, nationality",
+                writer -> writeAuthors(writer, random.split())));
+        log("genres", copy("genres", "id, name, description", this::writeGenres));
+        log("books", copy("books",
+                "id, isbn, title, description, publication_date, language, page_count, status, publisher_id",
+                writer -> writeBooks(writer, random.split())));
+        // Links go in after the books have committed, as the join tables reference them
+        ZipfSampler authorSampler = new ZipfSampler(authors, 0.9);
+        ZipfSampler genreSampler = new ZipfSampler(genres, 0.8);
+        SplittableRandom linkRandom = random.split();
+        log("book-author links", copy("book_authors", "book_id, author_id",
+                writer -> writeLinks(writer, authorSampler, 1, 2, linkRandom)));
+        log("book-genre links", copy("book_genres", "book_id, genre_id",
+                writer -> writeLinks(writer, genreSampler, 1, 3, linkRandom)));
+
+        ZipfSampler titleSampler = new ZipfSampler(books, titleSkew);
+        Catalog catalog = layOutCopies(titleSampler, random.split());
+        log("book copies", copy("book_copies",
+                "id, version, barcode, condition, status, acquisition_date, location, book_id",
+                writer -> writeCopies(writer, catalog, random.split())));
+        String passwordHash = passwordEncoder.encode(userPassword);
+        log("users", copy("users", "id, name, email, password, phone_number, address, membership_date, status",
+                writer -> writeUsers(writer, passwordHash, random.split())));
+
+        writeLoans(catalog, titleSampler, shuffled(users, random.split()), LocalDate.now());
+        finish();
+
+        logger.info("Synthetic data generated in {} s", (System.currentTimeMillis() - start) / 1000);
+    }
+
+    private void requireEmptyDatabase() {
+        for (String table : List.of("books", "users", "borrowed")) {
+            Boolean populated = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + table + ")",
+                    Boolean.class);
+            if (Boolean.TRUE.equals(populated)) {
+                throw new IllegalStateException("Synthetic data needs an empty database, but " + table + " has rows");
+            }
+        }
+    }
+
+    private void writePublishers(CopyWriter writer, SplittableRandom random) throws SQLException {
+        for (int id = 1; id <= publishers; id++) {
+            writer.number(id)
+                    .text(pick(TITLE_WORDS, random) + " " + pick(TITLE_WORDS, random) + " Press " + id)
+                    .text(random.nextInt(1, 500) + " Publishers Row")
+                    .text("rights" + id + "@publisher.example")
+                    .text(pick(COUNTRIES, random));
+            writer.endRow();
+        }
+    }
+
+    private void writeAuthors(CopyWriter writer, SplittableRandom random) throws SQLException {
+        long earliest = LocalDate.of(1920, 1, 1).toEpochDay();
+        long latest = LocalDate.of(2000, 1, 1).toEpochDay();
+        for (int id = 1; id <= authors; id++) {
+            String name = pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random);
+            writer.number(id)
+                    .text(name)
+                    .text(name + " writes about " + pick(TITLE_WORDS, random).toLowerCase() + " and "
+                            + pick(TITLE_WORDS, random).toLowerCase() + ".")
+                    .date(LocalDate.ofEpochDay(random.nextLong(earliest, latest)))
+                    .text(pick(COUNTRIES, random));
+            writer.endRow();
+        }
+    }
+
+    private void writeGenres(CopyWriter writer) throws SQLException {
+        for (int id = 1; id <= genres; id++) {
+            String name = GENRE_NAMES[(id - 1) % GENRE_NAMES.length];
+            // Names are unique; past the built-in list, numbered sub-genres
+            if (id > GENRE_NAMES.length) {
+                name = name + " " + ((id - 1) / GENRE_NAMES.length + 1);
+            }
+            writer.number(id).text(name).text("Books filed under " + name.toLowerCase());
+            writer.endRow();
+        }
+    }
+
+    // Big publishers and the main languages carry most of the catalog; publication dates lean recent
+    private void writeBooks(CopyWriter writer, SplittableRandom random) throws SQLException {
+        ZipfSampler publisherSampler = new ZipfSampler(publishers, 1.0);
+        ZipfSampler languageSampler = new ZipfSampler(LANGUAGES.length, 1.6);
+        long firstDay = LocalDate.of(1900, 1, 1).toEpochDay();
+        long span = LocalDate.now().toEpochDay() - firstDay;
+
+        for (int id = 1; id <= books; id++) {
+            writer.number(id)
+                    .text(String.format("978%010d", id))
+                    .text("The " + pick(TITLE_WORDS, random) + " of " + pick(TITLE_WORDS, random) + " " + id)
+                    .text("A story of " + pick(TITLE_WORDS, random).toLowerCase() + ", "
+                            + pick(TITLE_WORDS, random).toLowerCase() + " and "
+                            + pick(TITLE_WORDS, random).toLowerCase() + ".")
+                    .date(LocalDate.ofEpochDay(firstDay + (long) (span * Math.sqrt(random.nextDouble()))))
+                    .text(LANGUAGES[languageSampler.sample(random)])
+                    .number(random.nextInt(64, 900))
+                    .number(BookStatus.AVAILABLE.ordinal())
+                    .number(publisherSampler.sample(random) + 1L);
+            writer.endRow();
+        }
+    }
+
+    // Between min and max distinct targets per book, drawn by popularity (prolific authors, common genres)
+    private void writeLinks(CopyWriter writer, ZipfSampler targets, int min, int max, SplittableRandom random)
+            throws SQLException {
+        int[] chosen = new int[max];
+        for (int bookId = 1; bookId <= books; bookId++) {
+            int wanted = random.nextInt(min, max + 1);
+            int count = 0;
+            for (int attempt = 0; attempt < wanted * 4 && count < wanted; attempt++) {
+                int rank = targets.sample(random);
+                boolean duplicate = false;
+                for (int i = 0; i < count && !duplicate; i++) {
+                    duplicate = chosen[i] == rank;
+                }
+                if (!duplicate) {
+                    chosen[count++] = rank;
+                    writer.number(bookId).number(rank + 1L);
+                    writer.endRow();
+                }
+            }
+        }
+    }
+
+    // Titles in demand get extra copies, roughly in proportion to the loans they will draw
+    private Catalog layOutCopies(ZipfSampler titleSampler, SplittableRandom random) {
+        int[] bookByRank = shuffled(books, random);
+        int[] copyCount = new int[books];
+        for (int rank = 0; rank < books; rank++) {
+            int extra = (int) Math.min(MAX_EXTRA_COPIES, Math.round(titleSampler.weight(rank) * books));
+            copyCount[bookByRank[rank]] = 1 + random.nextInt(2 * copiesPerBook - 1) + extra;
+        }
+
+        long[] firstCopy = new long[books];
+        long next = 1;
+        for (int index = 0; index < books; index++) {
+            firstCopy[index] = next;
+            next += copyCount[index];
+        }
+        return new Catalog(bookByRank, firstCopy, copyCount, next - 1);
+    }
+
+    private void writeCopies(CopyWriter writer, Catalog catalog, SplittableRandom random) throws SQLException {
+        long today = LocalDate.now().toEpochDay();
+        for (int index = 0; index < books; index++) {
+            for (int i = 0; i < catalog.copyCount()[index]; i++) {
+                long id = catalog.firstCopy()[index] + i;
+                writer.number(id)
+                        .number(0)
+                        .text(String.format("LMS%010d", id))
+                        .text(pick(CONDITIONS, random))
+                        .number(BookCopyStatus.AVAILABLE.ordinal())
+                        .date(LocalDate.ofEpochDay(today - random.nextInt(historyDays + 3650)))
+                        .text("Floor " + random.nextInt(1, 5) + ", Shelf " + random.nextInt(1, 400))
+                        .number(index + 1L);
+                writer.endRow();
+            }
+        }
+    }
+
+    private void writeUsers(CopyWriter writer, String passwordHash, SplittableRandom random) throws SQLException {
+        long today = LocalDate.now().toEpochDay();
+        for (int id = 1; id <= users; id++) {
+            writer.number(id)
+                    .text(pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random))
+                    .text("reader" + id + "@members.example")
+                    .text(passwordHash)
+                    .text(String.format("+92%010d", 3_000_000_000L + id))
+                    .text(random.nextInt(1, 300) + " Library Road, " + pick(COUNTRIES, random))
+                    .date(LocalDate.ofEpochDay(today - random.nextInt(historyDays + 365)))
+                    .text((random.nextDouble() < INACTIVE_USER_RATE ? Status.INACTIVE : Status.ACTIVE).name());
+            writer.endRow();
+        }
+    }
+
+    // Chunks run in parallel, one connection each; a copy is lent to at most one open loan at a time
+    private void writeLoans(Catalog catalog, ZipfSampler titleSampler, int[] userByRank, LocalDate today)
+            throws InterruptedException, SQLException {
+        ZipfSampler borrowerSampler = new ZipfSampler(users, borrowerSkew);
+        AtomicLongArray onLoan = new AtomicLongArray((int) ((catalog.copies() + 63) / 64));
+        long chunks = (loans + chunkSize - 1) / chunkSize;
+        long start = System.currentTimeMillis();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ChunkCounts>> futures = new ArrayList<>();
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                long firstId = chunk * chunkSize + 1;
+                int count = (int) Math.min(chunkSize, loans - firstId + 1);
+                SplittableRandom random = new SplittableRandom(seed + chunk * 0x9E3779B97F4A7C15L);
+                futures.add(pool.submit(() -> writeLoanChunk(firstId, count, catalog, titleSampler, userByRank,
+                        borrowerSampler, onLoan, today, random)));
+            }
+
+            long written = 0;
+            long fines = 0;
+            long payments = 0;
+            for (int i = 0; i < futures.size(); i++) {
+                ChunkCounts counts = futures.get(i).get();
+                written += counts.loans();
+                fines += counts.fines();
+                payments += counts.payments();
+                if ((i + 1) % Math.max(1, futures.size() / 10) == 0) {
+                    logger.info("Loans: {} of {} written ({} s)", written, loans,
+                            (System.currentTimeMillis() - start) / 1000);
+                }
+            }
+            logger.info("Wrote {} loans, {} fines and {} payments in {} ms", written, fines, payments,
+                    System.currentTimeMillis() - start);
+        } catch (ExecutionException e) {
+            // Chunks already written stay; regenerate into a fresh database
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new IllegalStateException("Loan generation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private ChunkCounts writeLoanChunk(long firstId, int count, Catalog catalog, ZipfSampler titleSampler,
+                                       int[] userByRank, ZipfSampler borrowerSampler, AtomicLongArray onLoan,
+                                       LocalDate today, SplittableRandom random) throws SQLException {
+        long todayDay = today.toEpochDay();
+        long[] copyIds = new long[count];
+        long[] userIds = new long[count];
+        long[] borrowDays = new long[count];
+        // Epoch day of the return, or -1 while the copy is still out
+        long[] returnDays = new long[count];
+
+        for (int i = 0; i < count; i++) {
+            int index = catalog.bookByRank()[titleSampler.sample(random)];
+            long copyId = catalog.firstCopy()[index] + random.nextInt(catalog.copyCount()[index]);
+            long borrowDay = seasonalDay(todayDay - historyDays, todayDay, random);
+            long dueDay = borrowDay + LOAN_DAYS;
+            long age = todayDay - borrowDay;
+
+            copyIds[i] = copyId;
+            userIds[i] = userByRank[borrowerSampler.sample(random)] + 1L;
+            borrowDays[i] = borrowDay;
+            // The younger the loan, the likelier it is still out
+            if (age < OPEN_LOAN_WINDOW_DAYS && random.nextDouble() * OPEN_LOAN_WINDOW_DAYS > age
+                    && claim(onLoan, copyId - 1)) {
+                returnDays[i] = -1;
+            } else {
+                long returnDay = random.nextDouble() < lateReturnRate
+                        ? dueDay + random.nextInt(1, MAX_LATE_DAYS + 1)
+                        : borrowDay + random.nextInt(1, LOAN_DAYS + 1);
+                returnDays[i] = Math.min(returnDay, todayDay);
+            }
+        }
+
+        // One connection, three COPYs in order: each commits before the next references it
+        try (Connection connection = dataSource.getConnection()) {
+            long loanRows = copy(connection, "borrowed",
+                    "id, version, borrow_date, due_date, return_date, status, user_id, book_copy_id", writer -> {
+                for (int i = 0; i < count; i++) {
+                    long dueDay = borrowDays[i] + LOAN_DAYS;
+                    BorrowStatus status = returnDays[i] >= 0 ? BorrowStatus.RETURNED
+                            : dueDay < todayDay ? BorrowStatus.OVERDUE : BorrowStatus.BORROWED;
+                    writer.number(firstId + i)
+                            .number(0)
+                            .date(LocalDate.ofEpochDay(borrowDays[i]))
+                            .date(LocalDate.ofEpochDay(dueDay))
+                            .date(returnDays[i] >= 0 ? LocalDate.ofEpochDay(returnDays[i]) : null)
+                            .number(status.ordinal())
+                            .number(userIds[i])
+                            .number(copyIds[i]);
+                    writer.endRow();
+                }
+            });
+
+            // A fine shares its loan's id and a payment its fine's id, so no id bookkeeping is needed
+            FineStatus[] fineStatuses = new FineStatus[count];
+            BigDecimal[] fineAmounts = new BigDecimal[count];
+            long fineRows = copy(connection, "fines",
+                    "id, version, amount, assessed_date, status, reason, borrowed_id", writer -> {
+                for (int i = 0; i < count; i++) {
+                    LocalDate dueDate = LocalDate.ofEpochDay(borrowDays[i] + LOAN_DAYS);
+                    boolean returned = returnDays[i] >= 0;
+                    LocalDate assessed = returned ? LocalDate.ofEpochDay(returnDays[i]) : today;
+                    long days = fineConfig.chargeableDays(dueDate, assessed);
+                    BigDecimal amount = fineConfig.amountFor(days);
+                    if (days == 0 || amount.signum() <= 0) {
+                        continue;
+                    }
+
+                    double outcome = random.nextDouble();
+                    FineStatus status = !returned ? FineStatus.PENDING
+                            : outcome < PAID_FINE_RATE ? FineStatus.PAID
+                            : outcome < PAID_FINE_RATE + WAIVED_FINE_RATE ? FineStatus.WAIVED
+                            : FineStatus.PENDING;
+                    fineStatuses[i] = status;
+                    fineAmounts[i] = amount;
+                    writer.number(firstId + i)
+                            .number(0)
+                            .decimal(amount)
+                            .date(assessed)
+                            .number(status.ordinal())
+                            .text((returned ? "Overdue return: " : "Overdue: ") + days + " day(s) late at $"
+                                    + fineConfig.getDailyRate() + " per day" + (returned ? "" : ", accruing"))
+                            .number(firstId + i);
+                    writer.endRow();
+                }
+            });
+
+            long paymentRows = copy(connection, "payments",
+                    "id, amount, payment_date, payment_method, transaction_id, status, fine_id", writer -> {
+                for (int i = 0; i < count; i++) {
+                    if (fineStatuses[i] != FineStatus.PAID) {
+                        continue;
+                    }
+                    long paidDay = Math.min(todayDay, returnDays[i] + random.nextInt(0, 11));
+                    writer.number(firstId + i)
+                            .decimal(fineAmounts[i])
+                            .date(LocalDate.ofEpochDay(paidDay))
+                            .number(pick(PaymentMethod.values(), random).ordinal())
+                            .text("SYN-" + (firstId + i))
+                            .number(PaymentStatus.COMPLETED.ordinal())
+                            .number(firstId + i);
+                    writer.endRow();
+                }
+            });
+            return new ChunkCounts(loanRows, fineRows, paymentRows);
+        }
+    }
+
+    // Marks copies with open loans as lent out, moves id sequences past the generated rows and refreshes statistics
+    private void finish() {
+        int lent = jdbcTemplate.update("UPDATE book_copies SET status = ? WHERE id IN "
+                + "(SELECT book_copy_id FROM borrowed WHERE return_date IS NULL)", BookCopyStatus.BORROWED.ordinal());
+        logger.info("Marked {} copies as borrowed", lent);
+
+        for (String table : List.of("publishers", "authors", "genres", "users")) {
+            jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                    + "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + "), false)", Long.class);
+        }
+        for (String table : List.of("books", "book_copies", "borrowed", "fines", "payments")) {
+            jdbcTemplate.queryForObject("SELECT setval('" + table + "_seq', "
+                    + "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + "))", Long.class);
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    // Uniform over the range, thinned by month and weekday weights
+    private static long seasonalDay(long firstDay, long lastDay, SplittableRandom random) {
+        while (true) {
+            long day = random.nextLong(firstDay, lastDay + 1);
+            LocalDate date = LocalDate.ofEpochDay(day);
+            double weight = MONTH_WEIGHTS[date.getMonthValue() - 1] / MAX_MONTH_WEIGHT;
+            if (date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                weight *= SUNDAY_WEIGHT;
+            }
+            if (random.nextDouble() < weight) {
+                return day;
+            }
+        }
+    }
+
+    // Sets the copy's bit unless another open loan already holds it
+    private static boolean claim(AtomicLongArray bits, long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << (index & 63);
+        while (true) {
+            long current = bits.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (bits.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    private long copy(String table, String columns, Rows rows) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return copy(connection, table, columns, rows);
+        }
+    }
+
+    private static long copy(Connection connection, String table, String columns, Rows rows) throws SQLException {
+        try (CopyWriter writer = new CopyWriter(connection, table, columns)) {
+            rows.write(writer);
+            return writer.finish();
+        }
+    }
+
+    private void log(String what, long rows) {
+        logger.info("Wrote {} {}", rows, what);
+    }
+
+    private static int[] shuffled(int n, SplittableRandom random) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    private static <T> T pick(T[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+}
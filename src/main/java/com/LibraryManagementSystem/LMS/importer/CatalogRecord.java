@@ -0,0 +1,27 @@
+package com.LibraryManagementSystem.LMS.importer;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// One title read from an import source, before any lookups against the database.
+// problem is set when the reader could frame the record but not parse it; the import rejects it and moves on.
+public record CatalogRecord(String isbn,
+                            String title,
+                            String description,
+                            LocalDate publicationDate,
+                            String language,
+                            Integer pageCount,
+                            String publisher,
+                            List<String> authors,
+                            List<String> genres,
+                            String problem) {
+
+    public CatalogRecord(String isbn, String title, String description, LocalDate publicationDate, String language,
+                         Integer pageCount, String publisher, List<String> authors, List<String> genres) {
+        this(isbn, title, description, publicationDate, language, pageCount, publisher, authors, genres, null);
+    }
+
+    static CatalogRecord malformed(String problem) {
+        return new CatalogRecord(null, null, null, null, null, null, null, List.of(), List.of(), problem);
+    }
+}
@@ -0,0 +1,23 @@
+package com.LibraryManagementSystem.LMS.importer;
+
+import com.LibraryManagementSystem.LMS.enums.ImportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Pulls catalog records off an import stream one at a time, so a file is never held in memory.
+// A record that is framed but unreadable comes back with CatalogRecord.problem set, keeping its place in the
+// record count. Damage the reader cannot skip past (lost framing) is reported as IllegalArgumentException.
+public interface CatalogRecordReader extends Closeable {
+
+    // Returns null once the source is exhausted
+    CatalogRecord next() throws IOException;
+
+    static CatalogRecordReader open(ImportFormat format, InputStream input) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvCatalogRecordReader(input);
+            case MARC -> new MarcCatalogRecordReader(input);
+        };
+    }
+}
@@ -0,0 +1,183 @@
+package com.LibraryManagementSystem.LMS.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// RFC 4180 CSV with a header row. Recognised columns: isbn, title, description, publication_date,
+// language, page_count, publisher, authors, genres. Authors and genres are separated by ';' or '|'.
+// A row with text after a closing quote, or with more non-empty fields than the header, is returned as
+// malformed; only a quote left open to the end of the file loses the row boundaries.
+final class CsvCatalogRecordReader implements CatalogRecordReader {
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int headerWidth;
+    private long rowNumber;
+    // Set by readRow when the row it returned is damaged
+    private String rowProblem;
+
+    CsvCatalogRecordReader(InputStream input) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        List<String> header = readRow();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import has no header row");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim()
+                    .toLowerCase(Locale.ROOT)
+                    .replace(' ', '_')
+                    .replace('-', '_');
+            columns.putIfAbsent(name, i);
+        }
+        if (!columns.containsKey("isbn") || !columns.containsKey("title")) {
+            throw new IllegalArgumentException("CSV import header must contain 'isbn' and 'title' columns");
+        }
+        headerWidth = header.size();
+    }
+
+    @Override
+    public CatalogRecord next() throws IOException {
+        List<String> row;
+        do {
+            row = readRow();
+            if (row == null) {
+                return null;
+            }
+        } while (row.stream().allMatch(String::isBlank));
+
+        if (rowProblem != null) {
+            return CatalogRecord.malformed(rowProblem);
+        }
+        for (int i = headerWidth; i < row.size(); i++) {
+            if (!row.get(i).isBlank()) {
+                return CatalogRecord.malformed("CSV row " + rowNumber + " has " + row.size()
+                        + " fields but the header has " + headerWidth);
+            }
+        }
+
+        return new CatalogRecord(
+                value(row, "isbn"),
+                value(row, "title"),
+                value(row, "description"),
+                parseDate(value(row, "publication_date")),
+                value(row, "language"),
+                parseInteger(value(row, "page_count")),
+                value(row, "publisher"),
+                split(value(row, "authors")),
+                split(value(row, "genres")));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String value(List<String> row, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= row.size()) {
+            return null;
+        }
+        String value = row.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> split(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split("[;|]"))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .toList();
+    }
+
+    // Accepts a full ISO date or a bare year; anything else leaves the date empty
+    private LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (value.matches("\\d{4}")) {
+                return LocalDate.of(Integer.parseInt(value), 1, 1);
+            }
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private Integer parseInteger(String value) {
+        if (value == null || !value.matches("\\d{1,9}")) {
+            return null;
+        }
+        return Integer.parseInt(value);
+    }
+
+    // Reads one logical row; quoted fields may contain commas, doubled quotes and line breaks
+    private List<String> readRow() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        rowNumber++;
+        rowProblem = null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        // The current field's closing quote has been read; only a delimiter or the end of the row may follow
+        boolean closed = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field in CSV row " + rowNumber);
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                        closed = true;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty() && !closed) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                closed = false;
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                if (closed && rowProblem == null && !Character.isWhitespace(c)) {
+                    rowProblem = "Text after a closing quote in CSV row " + rowNumber;
+                }
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.LibraryManagementSystem.LMS.importer;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// MARC21 bibliographic records in ISO 2709 transmission format.
+// Fields used: 008 (date, language), 020 ISBN, 100/700 authors, 245 title, 260/264 imprint,
+// 300 extent, 520 summary, 650/655 genres. Records not flagged as Unicode (leader/09 != 'a')
+// are MARC-8; they are decoded as Latin-1, which is exact for ASCII and close for the rest.
+final class MarcCatalogRecordReader implements CatalogRecordReader {
+
+    private static final int LEADER_LENGTH = 24;
+    private static final int DIRECTORY_ENTRY_LENGTH = 12;
+    private static final byte FIELD_TERMINATOR = 0x1E;
+    private static final byte SUBFIELD_DELIMITER = 0x1F;
+
+    private static final Pattern YEAR = Pattern.compile("(\\d{4})");
+    private static final Pattern PAGES = Pattern.compile("(\\d+)\\s*p");
+
+    private final InputStream input;
+    private long recordNumber;
+
+    MarcCatalogRecordReader(InputStream input) {
+        this.input = new BufferedInputStream(input);
+    }
+
+    @Override
+    public CatalogRecord next() throws IOException {
+        // Some exporters put line breaks between records
+        int first;
+        do {
+            first = input.read();
+        } while (first == '\n' || first == '\r');
+        if (first == -1) {
+            return null;
+        }
+        recordNumber++;
+
+        // The record length is the only framing; without it the rest of the stream cannot be located
+        byte[] lengthDigits = new byte[5];
+        lengthDigits[0] = (byte) first;
+        readFully(lengthDigits, 1, 4);
+        int length = parseNumber(lengthDigits, 0, 5);
+        if (length <= LEADER_LENGTH) {
+            throw new IllegalArgumentException("Invalid MARC record length in record " + recordNumber);
+        }
+
+        byte[] record = new byte[length];
+        System.arraycopy(lengthDigits, 0, record, 0, 5);
+        readFully(record, 5, length - 5);
+
+        // The whole record has been consumed, so damage inside it only costs this record
+        try {
+            return toCatalogRecord(parseFields(record));
+        } catch (IllegalArgumentException e) {
+            return CatalogRecord.malformed(e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    private List<Field> parseFields(byte[] record) {
+        Charset charset = record[9] == 'a' ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1;
+        int baseAddress = parseNumber(record, 12, 5);
+
+        List<Field> fields = new ArrayList<>();
+        for (int entry = LEADER_LENGTH; entry + DIRECTORY_ENTRY_LENGTH <= record.length
+                && record[entry] != FIELD_TERMINATOR; entry += DIRECTORY_ENTRY_LENGTH) {
+            String tag = new String(record, entry, 3, StandardCharsets.US_ASCII);
+            int fieldLength = parseNumber(record, entry + 3, 4);
+            int start = baseAddress + parseNumber(record, entry + 7, 5);
+            int end = start + fieldLength;
+            if (end > record.length) {
+                throw new IllegalArgumentException("MARC field " + tag + " overruns record " + recordNumber);
+            }
+            // Drop the field terminator
+            if (end > start && record[end - 1] == FIELD_TERMINATOR) {
+                end--;
+            }
+
+            if (tag.startsWith("00")) {
+                fields.add(new Field(tag, new String(record, start, end - start, charset), List.of()));
+                continue;
+            }
+
+            // Data field: two indicators, then subfields each introduced by the delimiter and a code
+            List<Subfield> subfields = new ArrayList<>();
+            int position = start + 2;
+            while (position < end) {
+                if (record[position] != SUBFIELD_DELIMITER || position + 1 >= end) {
+                    position++;
+                    continue;
+                }
+                char code = (char) record[position + 1];
+                int valueStart = position + 2;
+                int valueEnd = valueStart;
+                while (valueEnd < end && record[valueEnd] != SUBFIELD_DELIMITER) {
+                    valueEnd++;
+                }
+                subfields.add(new Subfield(code, new String(record, valueStart, valueEnd - valueStart, charset)));
+                position = valueEnd;
+            }
+            fields.add(new Field(tag, null, subfields));
+        }
+        return fields;
+    }
+
+    private CatalogRecord toCatalogRecord(List<Field> fields) {
+        String isbn = null;
+        String title = null;
+        String description = null;
+        String publisher = null;
+        String imprintDate = null;
+        String fixedData = null;
+        String language = null;
+        Integer pageCount = null;
+        Set<String> authors = new LinkedHashSet<>();
+        Set<String> genres = new LinkedHashSet<>();
+
+        for (Field field : fields) {
+            switch (field.tag()) {
+                case "008" -> fixedData = field.value();
+                case "020" -> {
+                    String value = field.subfield('a');
+                    if (isbn == null && value != null) {
+                        // "9780306406157 (pbk.)" -> "9780306406157"
+                        isbn = value.trim().split("[\\s(]", 2)[0].replace("-", "");
+                    }
+                }
+                case "041" -> {
+                    if (language == null) {
+                        language = field.subfield('a');
+                    }
+                }
+                case "100", "700" -> addIfPresent(authors, trimPunctuation(field.subfield('a')));
+                case "245" -> {
+                    String main = field.subfield('a');
+                    String remainder = field.subfield('b');
+                    title = trimPunctuation(main);
+                    String subtitle = trimPunctuation(remainder);
+                    if (title != null && subtitle != null) {
+                        title = title + ": " + subtitle;
+                    }
+                }
+                // 264 is the RDA successor of 260; take whichever comes first
+                case "260", "264" -> {
+                    if (publisher == null) {
+                        publisher = trimPunctuation(field.subfield('b'));
+                    }
+                    if (imprintDate == null) {
+                        imprintDate = field.subfield('c');
+                    }
+                }
+                case "300" -> {
+                    String extent = field.subfield('a');
+                    Matcher matcher = extent == null ? null : PAGES.matcher(extent);
+                    if (pageCount == null && matcher != null && matcher.find() && matcher.group(1).length() <= 9) {
+                        pageCount = Integer.parseInt(matcher.group(1));
+                    }
+                }
+                case "520" -> {
+                    if (description == null) {
+                        description = field.subfield('a');
+                    }
+                }
+                case "650", "655" -> addIfPresent(genres, trimPunctuation(field.subfield('a')));
+                default -> {
+                }
+            }
+        }
+
+        // 008/07-10 is the first publication year, 008/35-37 the language code
+        LocalDate publicationDate = toYear(imprintDate);
+        if (fixedData != null && fixedData.length() >= 38) {
+            if (publicationDate == null) {
+                publicationDate = toYear(fixedData.substring(7, 11));
+            }
+            String code = fixedData.substring(35, 38).trim();
+            if (code.chars().allMatch(Character::isLetter) && !code.isEmpty()) {
+                language = code;
+            }
+        }
+
+        return new CatalogRecord(isbn, title, description, publicationDate, language, pageCount, publisher,
+                List.copyOf(authors), List.copyOf(genres));
+    }
+
+    private LocalDate toYear(String value) {
+        if (value == null) {
+            return null;
+        }
+        Matcher matcher = YEAR.matcher(value);
+        return matcher.find() ? LocalDate.of(Integer.parseInt(matcher.group(1)), 1, 1) : null;
+    }
+
+    // ISBD punctuation (" /", " :", trailing commas and full stops) is part of the cataloguing, not the value
+    private String trimPunctuation(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.replaceAll("[\\s/:;,.=]+$", "").trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private void addIfPresent(Set<String> values, String value) {
+        if (value != null) {
+            values.add(value);
+        }
+    }
+
+    private void readFully(byte[] buffer, int offset, int length) throws IOException {
+        int read = input.readNBytes(buffer, offset, length);
+        if (read < length) {
+            throw new IllegalArgumentException("Truncated MARC record " + recordNumber);
+        }
+    }
+
+    private int parseNumber(byte[] bytes, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (i >= bytes.length || bytes[i] < '0' || bytes[i] > '9') {
+                throw new IllegalArgumentException("Malformed MARC leader or directory in record " + recordNumber);
+            }
+            value = value * 10 + (bytes[i] - '0');
+        }
+        return value;
+    }
+
+    private record Subfield(char code, String value) {
+    }
+
+    private record Field(String tag, String value, List<Subfield> subfields) {
+
+        String subfield(char code) {
+            for (Subfield subfield : subfields) {
+                if (subfield.code() == code && !subfield.value().isBlank()) {
+                    return subfield.value();
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.LibraryManagementSystem.LMS.mapper;
 
+import com.LibraryManagementSystem.LMS.dto.BarcodeScanResponseDTO;
 import com.LibraryManagementSystem.LMS.dto.BookCopyRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.BookCopyResponseDTO;
 import com.LibraryManagementSystem.LMS.entity.Book;
 import com.LibraryManagementSystem.LMS.entity.BookCopy;
 import com.LibraryManagementSystem.LMS.repository.BookRepository;
+import com.LibraryManagementSystem.LMS.search.BarcodeIndex;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -39,6 +41,16 @@ public class BookCopyMapper {
         return dto;
     }
     
+    public BarcodeScanResponseDTO toScanResponseDTO(BarcodeIndex.Entry entry) {
+        return new BarcodeScanResponseDTO(entry.copyId(), entry.barcode(), entry.bookId(), entry.title(), entry.status());
+    }
+    
+    public BarcodeScanResponseDTO toScanResponseDTO(BookCopy bookCopy) {
+        Book book = bookCopy.getBook();
+        return new BarcodeScanResponseDTO(bookCopy.getId(), bookCopy.getBarcode(),
+                book != null ? book.getId() : null, book != null ? book.getTitle() : null, bookCopy.getStatus());
+    }
+    
     public BookCopy toEntity(BookCopyRequestDTO requestDTO) {
         if (requestDTO == null) {
             return null;
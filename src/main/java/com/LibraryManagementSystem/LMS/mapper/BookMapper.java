@@ -3,7 +3,10 @@ package com.LibraryManagementSystem.LMS.mapper;
 import com.LibraryManagementSystem.LMS.dto.AuthorResponseDTO;
 import com.LibraryManagementSystem.LMS.dto.BookRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.BookResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.FacetCountDTO;
+import com.LibraryManagementSystem.LMS.dto.FacetSearchResponseDTO;
 import com.LibraryManagementSystem.LMS.dto.GenreResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.SuggestionResponseDTO;
 import com.LibraryManagementSystem.LMS.entity.Author;
 import com.LibraryManagementSystem.LMS.entity.Book;
 import com.LibraryManagementSystem.LMS.entity.Genre;
@@ -11,9 +14,15 @@ import com.LibraryManagementSystem.LMS.entity.Publisher;
 import com.LibraryManagementSystem.LMS.repository.AuthorRepository;
 import com.LibraryManagementSystem.LMS.repository.GenreRepository;
 import com.LibraryManagementSystem.LMS.repository.PublisherRepository;
+import com.LibraryManagementSystem.LMS.search.BookAvailabilityIndex;
+import com.LibraryManagementSystem.LMS.search.FacetIndex;
+import com.LibraryManagementSystem.LMS.search.SuggestionIndex;
 import org.springframework.stereotype.Component;
 
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -26,16 +35,34 @@ public class BookMapper {
     private final AuthorRepository authorRepository;
     private final GenreRepository genreRepository;
     private final PublisherRepository publisherRepository;
+    private final BookAvailabilityIndex bookAvailabilityIndex;
     
     public BookMapper(AuthorMapper authorMapper, GenreMapper genreMapper, PublisherMapper publisherMapper,
                       AuthorRepository authorRepository, GenreRepository genreRepository, 
-                      PublisherRepository publisherRepository) {
+                      PublisherRepository publisherRepository, BookAvailabilityIndex bookAvailabilityIndex) {
         this.authorMapper = authorMapper;
         this.genreMapper = genreMapper;
         this.publisherMapper = publisherMapper;
         this.authorRepository = authorRepository;
         this.genreRepository = genreRepository;
         this.publisherRepository = publisherRepository;
+        this.bookAvailabilityIndex = bookAvailabilityIndex;
+    }
+    
+    // books are the page of result.bookIds(), already loaded in that order
+    public FacetSearchResponseDTO toFacetSearchResponseDTO(FacetIndex.Result result, List<Book> books, int page, int size) {
+        Map<String, List<FacetCountDTO>> facets = new LinkedHashMap<>();
+        result.facets().forEach((facet, counts) -> facets.put(facet.name().toLowerCase(Locale.ROOT), counts.stream()
+                .map(count -> new FacetCountDTO(count.value(), count.label(), count.count()))
+                .collect(Collectors.toList())));
+        List<BookResponseDTO> content = books.stream()
+                .map(this::toResponseDTO)
+                .collect(Collectors.toList());
+        return new FacetSearchResponseDTO(result.total(), page, size, content, facets);
+    }
+    
+    public SuggestionResponseDTO toSuggestionDTO(SuggestionIndex.Suggestion suggestion) {
+        return new SuggestionResponseDTO(suggestion.kind(), suggestion.id(), suggestion.text());
     }
     
     public BookResponseDTO toResponseDTO(Book book) {
@@ -53,6 +80,14 @@ public class BookMapper {
         dto.setPageCount(book.getPageCount());
         dto.setStatus(book.getStatus());
         
+        // Copy counts come from the in-memory counters, not from book_copies
+        BookAvailabilityIndex.Availability availability = bookAvailabilityIndex.get(book.getId());
+        dto.setTotalCopies(availability.total());
+        dto.setAvailableCopies(availability.available());
+        dto.setBorrowedCopies(availability.borrowed());
+        dto.setUnavailableCopies(availability.unavailable());
+        dto.setOnHoldCopies(availability.onHold());
+        
         // Map publisher
         if (book.getPublisher() != null) {
             dto.setPublisher(publisherMapper.toResponseDTO(book.getPublisher()));
@@ -82,6 +117,16 @@ public class BookMapper {
             return null;
         }
         
+        // Fetch publisher, authors and genres (one query per type), failing before anything is built
+        ReferenceLookup lookup = new ReferenceLookup();
+        Publisher publisher = requestDTO.getPublisherId() == null ? null
+                : lookup.find(publisherRepository, requestDTO.getPublisherId(), "Publisher");
+        Set<Author> authors = requestDTO.getAuthorIds() == null || requestDTO.getAuthorIds().isEmpty() ? null
+                : lookup.findAll(authorRepository, requestDTO.getAuthorIds(), Author::getId, "Author");
+        Set<Genre> genres = requestDTO.getGenreIds() == null || requestDTO.getGenreIds().isEmpty() ? null
+                : lookup.findAll(genreRepository, requestDTO.getGenreIds(), Genre::getId, "Genre");
+        lookup.throwIfMissing();
+        
         Book book = new Book();
         book.setIsbn(requestDTO.getIsbn());
         book.setTitle(requestDTO.getTitle());
@@ -89,29 +134,11 @@ public class BookMapper {
         book.setPublicationDate(requestDTO.getPublicationDate());
         book.setLanguage(requestDTO.getLanguage());
         book.setPageCount(requestDTO.getPageCount());
-        
-        // Fetch and set publisher
-        if (requestDTO.getPublisherId() != null) {
-            Publisher publisher = publisherRepository.findById(requestDTO.getPublisherId())
-                    .orElse(null);
-            book.setPublisher(publisher);
-        }
-        
-        // Fetch and set authors
-        if (requestDTO.getAuthorIds() != null && !requestDTO.getAuthorIds().isEmpty()) {
-            Set<Author> authors = new HashSet<>();
-            for (Long authorId : requestDTO.getAuthorIds()) {
-                authorRepository.findById(authorId).ifPresent(authors::add);
-            }
+        book.setPublisher(publisher);
+        if (authors != null) {
             book.setAuthors(authors);
         }
-        
-        // Fetch and set genres
-        if (requestDTO.getGenreIds() != null && !requestDTO.getGenreIds().isEmpty()) {
-            Set<Genre> genres = new HashSet<>();
-            for (Long genreId : requestDTO.getGenreIds()) {
-                genreRepository.findById(genreId).ifPresent(genres::add);
-            }
+        if (genres != null) {
             book.setGenres(genres);
         }
         
@@ -123,6 +150,16 @@ public class BookMapper {
             return;
         }
         
+        // Resolve every reference before touching the entity, so a bad id leaves it unchanged
+        ReferenceLookup lookup = new ReferenceLookup();
+        Publisher publisher = requestDTO.getPublisherId() == null ? null
+                : lookup.find(publisherRepository, requestDTO.getPublisherId(), "Publisher");
+        Set<Author> authors = requestDTO.getAuthorIds() == null ? null
+                : lookup.findAll(authorRepository, requestDTO.getAuthorIds(), Author::getId, "Author");
+        Set<Genre> genres = requestDTO.getGenreIds() == null ? null
+                : lookup.findAll(genreRepository, requestDTO.getGenreIds(), Genre::getId, "Genre");
+        lookup.throwIfMissing();
+        
         if (requestDTO.getIsbn() != null) {
             book.setIsbn(requestDTO.getIsbn());
         }
@@ -143,27 +180,17 @@ public class BookMapper {
         }
         
         // Update publisher
-        if (requestDTO.getPublisherId() != null) {
-            Publisher publisher = publisherRepository.findById(requestDTO.getPublisherId())
-                    .orElse(null);
+        if (publisher != null) {
             book.setPublisher(publisher);
         }
         
         // Update authors
-        if (requestDTO.getAuthorIds() != null) {
-            Set<Author> authors = new HashSet<>();
-            for (Long authorId : requestDTO.getAuthorIds()) {
-                authorRepository.findById(authorId).ifPresent(authors::add);
-            }
+        if (authors != null) {
             book.setAuthors(authors);
         }
         
         // Update genres
-        if (requestDTO.getGenreIds() != null) {
-            Set<Genre> genres = new HashSet<>();
-            for (Long genreId : requestDTO.getGenreIds()) {
-                genreRepository.findById(genreId).ifPresent(genres::add);
-            }
+        if (genres != null) {
             book.setGenres(genres);
         }
     }
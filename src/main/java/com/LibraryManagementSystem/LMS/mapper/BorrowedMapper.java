@@ -1,15 +1,22 @@
 package com.LibraryManagementSystem.LMS.mapper;
 
+import com.LibraryManagementSystem.LMS.dto.BatchItemResultDTO;
+import com.LibraryManagementSystem.LMS.dto.BatchResponseDTO;
 import com.LibraryManagementSystem.LMS.dto.BorrowedRequestDTO;
 import com.LibraryManagementSystem.LMS.dto.BorrowedResponseDTO;
 import com.LibraryManagementSystem.LMS.dto.UserSummaryDTO;
 import com.LibraryManagementSystem.LMS.entity.BookCopy;
 import com.LibraryManagementSystem.LMS.entity.Borrowed;
 import com.LibraryManagementSystem.LMS.entity.User;
+import com.LibraryManagementSystem.LMS.enums.BatchItemStatus;
 import com.LibraryManagementSystem.LMS.repository.BookCopyRepository;
 import com.LibraryManagementSystem.LMS.repository.UserRepository;
+import com.LibraryManagementSystem.LMS.service.interfaces.BorrowedService;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class BorrowedMapper {
     
@@ -50,29 +57,37 @@ public class BorrowedMapper {
         return dto;
     }
     
+    public BatchResponseDTO toBatchResponseDTO(List<BorrowedService.BatchItem> batchItems) {
+        List<BatchItemResultDTO> items = new ArrayList<>(batchItems.size());
+        int succeeded = 0;
+        for (BorrowedService.BatchItem batchItem : batchItems) {
+            if (batchItem.status() == BatchItemStatus.OK) {
+                succeeded++;
+            }
+            items.add(new BatchItemResultDTO(batchItem.barcode(), batchItem.status(), batchItem.message(),
+                    toResponseDTO(batchItem.borrowed())));
+        }
+        return new BatchResponseDTO(succeeded, items.size() - succeeded, items);
+    }
+    
     public Borrowed toEntity(BorrowedRequestDTO requestDTO) {
         if (requestDTO == null) {
             return null;
         }
         
+        // Fetch the User and BookCopy entities, failing before anything is built
+        ReferenceLookup lookup = new ReferenceLookup();
+        User user = requestDTO.getUserId() == null ? null
+                : lookup.find(userRepository, requestDTO.getUserId(), "User");
+        BookCopy bookCopy = requestDTO.getBookCopyId() == null ? null
+                : lookup.find(bookCopyRepository, requestDTO.getBookCopyId(), "BookCopy");
+        lookup.throwIfMissing();
+        
         Borrowed borrowed = new Borrowed();
         borrowed.setBorrowDate(requestDTO.getBorrowDate());
         borrowed.setDueDate(requestDTO.getDueDate());
-        
-        // Fetch and set User entity
-        if (requestDTO.getUserId() != null) {
-            User user = userRepository.findById(requestDTO.getUserId())
-                    .orElse(null);
-            borrowed.setUser(user);
-        }
-        
-        // Fetch and set BookCopy entity
-        if (requestDTO.getBookCopyId() != null) {
-            BookCopy bookCopy = bookCopyRepository.findById(requestDTO.getBookCopyId())
-                    .orElse(null);
-            borrowed.setBookCopy(bookCopy);
-        }
-        
+        borrowed.setUser(user);
+        borrowed.setBookCopy(bookCopy);
         return borrowed;
     }
     
@@ -81,6 +96,14 @@ public class BorrowedMapper {
             return;
         }
         
+        // Resolve every reference before touching the entity, so a bad id leaves it unchanged
+        ReferenceLookup lookup = new ReferenceLookup();
+        User user = requestDTO.getUserId() == null ? null
+                : lookup.find(userRepository, requestDTO.getUserId(), "User");
+        BookCopy bookCopy = requestDTO.getBookCopyId() == null ? null
+                : lookup.find(bookCopyRepository, requestDTO.getBookCopyId(), "BookCopy");
+        lookup.throwIfMissing();
+        
         if (requestDTO.getBorrowDate() != null) {
             borrowed.setBorrowDate(requestDTO.getBorrowDate());
         }
@@ -89,16 +112,12 @@ public class BorrowedMapper {
         }
         
         // Update User if userId is provided
-        if (requestDTO.getUserId() != null) {
-            User user = userRepository.findById(requestDTO.getUserId())
-                    .orElse(null);
+        if (user != null) {
             borrowed.setUser(user);
         }
         
         // Update BookCopy if bookCopyId is provided
-        if (requestDTO.getBookCopyId() != null) {
-            BookCopy bookCopy = bookCopyRepository.findById(requestDTO.getBookCopyId())
-                    .orElse(null);
+        if (bookCopy != null) {
             borrowed.setBookCopy(bookCopy);
         }
     }
@@ -44,6 +44,12 @@ public class FineMapper {
             return null;
         }
         
+        // Fetch the Borrowed entity, failing before anything is built
+        ReferenceLookup lookup = new ReferenceLookup();
+        Borrowed borrowed = requestDTO.getBorrowedId() == null ? null
+                : lookup.find(borrowedRepository, requestDTO.getBorrowedId(), "Borrowed");
+        lookup.throwIfMissing();
+        
         Fine fine = new Fine();
         fine.setAmount(requestDTO.getAmount());
         fine.setAssessedDate(requestDTO.getAssessedDate());
@@ -56,14 +62,7 @@ public class FineMapper {
         }
         
         fine.setReason(requestDTO.getReason());
-        
-        // Fetch and set Borrowed entity
-        if (requestDTO.getBorrowedId() != null) {
-            Borrowed borrowed = borrowedRepository.findById(requestDTO.getBorrowedId())
-                    .orElse(null);
-            fine.setBorrowed(borrowed);
-        }
-        
+        fine.setBorrowed(borrowed);
         return fine;
     }
     
@@ -72,6 +71,12 @@ public class FineMapper {
             return;
         }
         
+        // Resolve the reference before touching the entity, so a bad id leaves it unchanged
+        ReferenceLookup lookup = new ReferenceLookup();
+        Borrowed borrowed = requestDTO.getBorrowedId() == null ? null
+                : lookup.find(borrowedRepository, requestDTO.getBorrowedId(), "Borrowed");
+        lookup.throwIfMissing();
+        
         if (requestDTO.getAmount() != null) {
             fine.setAmount(requestDTO.getAmount());
         }
@@ -89,9 +94,7 @@ public class FineMapper {
         }
         
         // Update Borrowed if borrowedId is provided
-        if (requestDTO.getBorrowedId() != null) {
-            Borrowed borrowed = borrowedRepository.findById(requestDTO.getBorrowedId())
-                    .orElse(null);
+        if (borrowed != null) {
             fine.setBorrowed(borrowed);
         }
     }
@@ -0,0 +1,67 @@
+package com.LibraryManagementSystem.LMS.mapper;
+
+import com.LibraryManagementSystem.LMS.dto.HoldResponseDTO;
+import com.LibraryManagementSystem.LMS.dto.UserSummaryDTO;
+import com.LibraryManagementSystem.LMS.entity.Hold;
+import com.LibraryManagementSystem.LMS.entity.User;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class HoldMapper {
+    
+    public HoldResponseDTO toResponseDTO(Hold hold, long queuePosition) {
+        if (hold == null) {
+            return null;
+        }
+        
+        HoldResponseDTO dto = new HoldResponseDTO();
+        dto.setId(hold.getId());
+        dto.setPriority(hold.getPriority());
+        dto.setStatus(hold.getStatus());
+        dto.setRequestedAt(hold.getRequestedAt());
+        dto.setQueuePosition(queuePosition);
+        dto.setReadyAt(hold.getReadyAt());
+        dto.setPickupBy(hold.getPickupBy());
+        dto.setClosedAt(hold.getClosedAt());
+        
+        if (hold.getBook() != null) {
+            dto.setBookId(hold.getBook().getId());
+            dto.setBookTitle(hold.getBook().getTitle());
+        }
+        
+        if (hold.getUser() != null) {
+            dto.setUser(toUserSummaryDTO(hold.getUser()));
+        }
+        
+        if (hold.getBookCopy() != null) {
+            dto.setBookCopyId(hold.getBookCopy().getId());
+            dto.setBarcode(hold.getBookCopy().getBarcode());
+        }
+        
+        return dto;
+    }
+    
+    // A title's queue in order, each hold numbered by its place in it
+    public List<HoldResponseDTO> toQueueDTOs(List<Hold> queue) {
+        List<HoldResponseDTO> dtos = new ArrayList<>(queue.size());
+        for (int i = 0; i < queue.size(); i++) {
+            dtos.add(toResponseDTO(queue.get(i), i + 1));
+        }
+        return dtos;
+    }
+    
+    private UserSummaryDTO toUserSummaryDTO(User user) {
+        UserSummaryDTO dto = new UserSummaryDTO();
+        dto.setId(user.getId());
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        dto.setPhoneNumber(user.getPhoneNumber());
+        dto.setMembershipDate(user.getMembershipDate());
+        dto.setStatus(user.getStatus());
+        
+        return dto;
+    }
+}
@@ -0,0 +1,30 @@
+package com.LibraryManagementSystem.LMS.mapper;
+
+import com.LibraryManagementSystem.LMS.dto.ImportJobResponseDTO;
+import com.LibraryManagementSystem.LMS.entity.ImportJob;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportJobMapper {
+    
+    public ImportJobResponseDTO toResponseDTO(ImportJob job) {
+        if (job == null) {
+            return null;
+        }
+        
+        ImportJobResponseDTO dto = new ImportJobResponseDTO();
+        dto.setId(job.getId());
+        dto.setFormat(job.getFormat());
+        dto.setStatus(job.getStatus());
+        dto.setRecordsRead(job.getRecordsRead());
+        dto.setBooksCreated(job.getBooksCreated());
+        dto.setDuplicatesSkipped(job.getDuplicatesSkipped());
+        dto.setRecordsRejected(job.getRecordsRejected());
+        dto.setLastError(job.getLastError());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setUpdatedAt(job.getUpdatedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        
+        return dto;
+    }
+}
@@ -47,6 +47,12 @@ public class PaymentMapper {
             return null;
         }
         
+        // Fetch the Fine entity, failing before anything is built
+        ReferenceLookup lookup = new ReferenceLookup();
+        Fine fine = requestDTO.getFineId() == null ? null
+                : lookup.find(fineRepository, requestDTO.getFineId(), "Fine");
+        lookup.throwIfMissing();
+        
         Payment payment = new Payment();
         payment.setAmount(requestDTO.getAmount());
         payment.setPaymentMethod(requestDTO.getPaymentMethod());
@@ -57,14 +63,7 @@ public class PaymentMapper {
         
         // Set status to PENDING by default
         payment.setStatus(PaymentStatus.PENDING);
-        
-        // Fetch and set Fine entity
-        if (requestDTO.getFineId() != null) {
-            Fine fine = fineRepository.findById(requestDTO.getFineId())
-                    .orElse(null);
-            payment.setFine(fine);
-        }
-        
+        payment.setFine(fine);
         return payment;
     }
     
@@ -73,6 +72,12 @@ public class PaymentMapper {
             return;
         }
         
+        // Resolve the reference before touching the entity, so a bad id leaves it unchanged
+        ReferenceLookup lookup = new ReferenceLookup();
+        Fine fine = requestDTO.getFineId() == null ? null
+                : lookup.find(fineRepository, requestDTO.getFineId(), "Fine");
+        lookup.throwIfMissing();
+        
         if (requestDTO.getAmount() != null) {
             payment.setAmount(requestDTO.getAmount());
         }
@@ -86,9 +91,7 @@ public class PaymentMapper {
         }
         
         // Update Fine if fineId is provided
-        if (requestDTO.getFineId() != null) {
-            Fine fine = fineRepository.findById(requestDTO.getFineId())
-                    .orElse(null);
+        if (fine != null) {
             payment.setFine(fine);
         }
     }
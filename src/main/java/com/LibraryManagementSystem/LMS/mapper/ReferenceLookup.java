@@ -0,0 +1,57 @@
+package com.LibraryManagementSystem.LMS.mapper;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Resolves the ids referenced by one request with a single query per entity type and
+// collects every unknown id, so the caller can reject the request with one error listing all of them
+final class ReferenceLookup {
+
+    private final Map<String, Set<Long>> missing = new LinkedHashMap<>();
+
+    <T> Set<T> findAll(JpaRepository<T, Long> repository, Collection<Long> ids, Function<T, Long> idOf, String resourceName) {
+        Set<Long> requested = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requested.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        List<T> found = repository.findAllById(requested);
+        Set<Long> foundIds = found.stream().map(idOf).collect(Collectors.toSet());
+        for (Long id : requested) {
+            if (!foundIds.contains(id)) {
+                missing.computeIfAbsent(resourceName, name -> new LinkedHashSet<>()).add(id);
+            }
+        }
+        return new HashSet<>(found);
+    }
+
+    <T> T find(JpaRepository<T, Long> repository, Long id, String resourceName) {
+        T found = repository.findById(id).orElse(null);
+        if (found == null) {
+            missing.computeIfAbsent(resourceName, name -> new LinkedHashSet<>()).add(id);
+        }
+        return found;
+    }
+
+    void throwIfMissing() {
+        if (missing.isEmpty()) {
+            return;
+        }
+        String details = missing.entrySet().stream()
+                .map(entry -> entry.getKey() + " id(s) " + entry.getValue())
+                .collect(Collectors.joining(", "));
+        throw new IllegalArgumentException("Referenced records not found: " + details);
+    }
+}
@@ -0,0 +1,132 @@
+package com.LibraryManagementSystem.LMS.mapper;
+
+import com.LibraryManagementSystem.LMS.dto.WindowResponseDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import java.beans.PropertyDescriptor;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Translates between opaque "after" cursors and Spring Data keyset scroll positions, for the /scroll endpoints.
+// A cursor carries the sort it was produced with plus the sort key values of the last row returned, so the next
+// window is a plain "WHERE key > last ORDER BY key LIMIT n" through the repositories' findAllBy(ScrollPosition, ...):
+// no OFFSET and no COUNT(*), and every window costs the same however deep it is. The id is always the final
+// sort key, so rows sharing a value are neither skipped nor repeated. A cursor given to a request overrides its
+// sortBy and sortDirection. Sort key values are readable by anyone holding the cursor (base64 JSON, not signed);
+// they are checked against the endpoint's sortable fields on the way back in.
+@Component
+public class ScrollCursorMapper {
+
+    private static final int MAX_WINDOW_SIZE = 500;
+    private static final String ID_PROPERTY = "id";
+
+    private final ObjectMapper objectMapper;
+
+    public ScrollCursorMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public record ScrollRequest(Sort sort, ScrollPosition position, int size) {
+    }
+
+    // sortable lists the scalar properties an endpoint allows
+    public ScrollRequest toScrollRequest(String after, int size, String sortBy, String sortDirection, Class<?> entityType,
+                                         Set<String> sortable) {
+        int boundedSize = Math.max(1, Math.min(size, MAX_WINDOW_SIZE));
+
+        if (after == null || after.isBlank()) {
+            requireProperty(entityType, sortable, sortBy);
+            Sort.Direction direction = sortDirection.equalsIgnoreCase("DESC") ? Sort.Direction.DESC : Sort.Direction.ASC;
+            Sort sort = Sort.by(direction, sortBy);
+            // The id breaks ties so every row has a unique position
+            if (!ID_PROPERTY.equals(sortBy)) {
+                sort = sort.and(Sort.by(direction, ID_PROPERTY));
+            }
+            return new ScrollRequest(sort, ScrollPosition.keyset(), boundedSize);
+        }
+
+        CursorPayload payload = decode(after);
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Map<String, String> order : payload.sort()) {
+            String property = order.get("property");
+            requireProperty(entityType, sortable, property);
+            orders.add(new Sort.Order(Sort.Direction.fromString(order.get("direction")), property));
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> key : payload.keys().entrySet()) {
+            Class<?> type = requireProperty(entityType, sortable, key.getKey()).getPropertyType();
+            keys.put(key.getKey(), objectMapper.convertValue(key.getValue(), type));
+        }
+
+        return new ScrollRequest(Sort.by(orders), ScrollPosition.forward(keys), boundedSize);
+    }
+
+    public <E, D> WindowResponseDTO<D> toResponseDTO(Window<E> window, Sort sort, Function<E, D> mapper) {
+        List<D> content = window.getContent().stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()
+                && window.positionAt(window.size() - 1) instanceof KeysetScrollPosition position) {
+            nextCursor = encode(sort, position.getKeys());
+        }
+
+        return new WindowResponseDTO<>(content, content.size(), window.hasNext(), nextCursor);
+    }
+
+    private String encode(Sort sort, Map<String, ?> keys) {
+        List<Map<String, String>> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(Map.of("property", order.getProperty(), "direction", order.getDirection().name()));
+        }
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new CursorPayload(orders, new LinkedHashMap<>(keys)));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to encode pagination cursor", e);
+        }
+    }
+
+    private CursorPayload decode(String cursor) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            CursorPayload payload = objectMapper.readValue(json, new TypeReference<CursorPayload>() {});
+            if (payload.sort() == null || payload.sort().isEmpty() || payload.keys() == null) {
+                throw new IllegalArgumentException("Invalid pagination cursor");
+            }
+            return payload;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+    }
+
+    private PropertyDescriptor requireProperty(Class<?> entityType, Set<String> sortable, String property) {
+        PropertyDescriptor descriptor = property == null || !sortable.contains(property)
+                ? null : BeanUtils.getPropertyDescriptor(entityType, property);
+        if (descriptor == null) {
+            throw new IllegalArgumentException("Cannot sort " + entityType.getSimpleName() + " by '" + property
+                    + "'; sortable fields are " + String.join(", ", sortable.stream().sorted().toList()));
+        }
+        return descriptor;
+    }
+
+    record CursorPayload(List<Map<String, String>> sort, Map<String, Object> keys) {
+    }
+}
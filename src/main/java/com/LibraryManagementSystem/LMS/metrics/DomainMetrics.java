@@ -0,0 +1,59 @@
+package com.LibraryManagementSystem.LMS.metrics;
+
+import com.LibraryManagementSystem.LMS.enums.FineStatus;
+import com.LibraryManagementSystem.LMS.repository.BorrowedRepository;
+import com.LibraryManagementSystem.LMS.repository.FineRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Library-wide gauges: loans out, overdue loans and the pending fine total. Each is a COUNT or SUM over a
+// large table, so the values are refreshed on a schedule and a scrape only reads the last ones. Every node
+// reports the same global figures; aggregate them with max, not sum.
+@Component
+public class DomainMetrics {
+
+    private final BorrowedRepository borrowedRepository;
+    private final FineRepository fineRepository;
+
+    private final AtomicLong activeLoans = new AtomicLong();
+    private final AtomicLong overdueLoans = new AtomicLong();
+    private final AtomicReference<BigDecimal> pendingFines = new AtomicReference<>(BigDecimal.ZERO);
+
+    public DomainMetrics(BorrowedRepository borrowedRepository, FineRepository fineRepository,
+                         MeterRegistry meterRegistry) {
+        this.borrowedRepository = borrowedRepository;
+        this.fineRepository = fineRepository;
+
+        Gauge.builder("lms.loans.active", activeLoans, AtomicLong::get)
+                .description("Loans not yet returned")
+                .register(meterRegistry);
+        Gauge.builder("lms.loans.overdue", overdueLoans, AtomicLong::get)
+                .description("Loans not yet returned and past their due date")
+                .register(meterRegistry);
+        Gauge.builder("lms.fines.pending.amount", pendingFines, amount -> amount.get().doubleValue())
+                .description("Total amount of fines awaiting payment")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${lms.metrics.domain-refresh-ms:60000}",
+               fixedDelayString = "${lms.metrics.domain-refresh-ms:60000}")
+    public void refresh() {
+        activeLoans.set(borrowedRepository.countByReturnDateIsNull());
+        overdueLoans.set(borrowedRepository.countOverdueRecords(LocalDate.now()));
+        pendingFines.set(fineRepository.sumAmountByStatus(FineStatus.PENDING));
+    }
+}
@@ -0,0 +1,38 @@
+package com.LibraryManagementSystem.LMS.metrics;
+
+import org.hibernate.SessionEventListener;
+
+// Time the current request spends executing JDBC statements and batches (reading the result sets is not
+// included). Hibernate creates one listener per session, and a session is used by one thread at a time.
+public class JdbcTimingListener implements SessionEventListener {
+
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        StatementProfile profile = StatementProfile.current();
+        if (profile != null && startedAt != 0) {
+            profile.recordJdbcNanos(System.nanoTime() - startedAt);
+        }
+        startedAt = 0;
+    }
+}
@@ -0,0 +1,67 @@
+package com.LibraryManagementSystem.LMS.metrics;
+
+import com.LibraryManagementSystem.LMS.exception.ConflictException;
+import com.LibraryManagementSystem.LMS.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+// Times every call into a service implementation as lms.service.invocations, tagged with service, method,
+// outcome and exception. Repository calls are timed by Spring Boot itself (spring.data.repository.invocations);
+// MetricsConfig gives both timers the same percentiles and histogram buckets.
+@Aspect
+@Component
+// Outside the transaction advice, so flush and commit time are part of the call
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    public static final String METRIC_NAME = "lms.service.invocations";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.LibraryManagementSystem.LMS.service..*) && @within(org.springframework.stereotype.Service)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Service method calls")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcomeOf(failure))
+                    .tag("exception", failure == null ? NO_EXCEPTION : failure.getClass().getSimpleName())
+                    .register(meterRegistry));
+        }
+    }
+
+    // Same split GlobalExceptionHandler makes: what the caller got wrong (400/404/409) against what failed here
+    private static String outcomeOf(Throwable failure) {
+        if (failure == null) {
+            return "SUCCESS";
+        }
+        if (failure instanceof IllegalArgumentException
+                || failure instanceof ResourceNotFoundException
+                || failure instanceof ConflictException
+                || failure instanceof OptimisticLockingFailureException) {
+            return "CLIENT_ERROR";
+        }
+        return "SERVER_ERROR";
+    }
+}
@@ -0,0 +1,17 @@
+package com.LibraryManagementSystem.LMS.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts the statements Hibernate prepares for the current request and passes the SQL through unchanged.
+// A JDBC batch is prepared once, so fifty batched inserts count as one statement.
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementProfile profile = StatementProfile.current();
+        if (profile != null) {
+            profile.recordStatement(sql);
+        }
+        return sql;
+    }
+}
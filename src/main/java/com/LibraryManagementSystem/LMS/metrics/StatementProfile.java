@@ -0,0 +1,75 @@
+package com.LibraryManagementSystem.LMS.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// SQL activity of one HTTP request, filled in by the Hibernate hooks on the request thread. Work handed to
+// other threads (async exports, @Async listeners, scheduled jobs) has no profile and is not counted.
+final class StatementProfile {
+
+    // Distinct statements tracked for repeat detection; Hibernate SQL is parameterized, so a request rarely has many
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private static final ThreadLocal<StatementProfile> CURRENT = new ThreadLocal<>();
+
+    record Repeat(String sql, int count) {
+    }
+
+    private final Map<String, Integer> counts = new HashMap<>();
+    private int statements;
+    private long entitiesLoaded;
+    private long jdbcNanos;
+
+    static StatementProfile start() {
+        StatementProfile profile = new StatementProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    static void finish() {
+        CURRENT.remove();
+    }
+
+    // Null outside a profiled request
+    static StatementProfile current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        if (counts.size() < MAX_DISTINCT_STATEMENTS || counts.containsKey(sql)) {
+            counts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordEntityLoad() {
+        entitiesLoaded++;
+    }
+
+    void recordJdbcNanos(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long entitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    long jdbcNanos() {
+        return jdbcNanos;
+    }
+
+    // The statement run most often, which for an N+1 is the per-row lazy load
+    Repeat mostRepeated() {
+        Repeat top = new Repeat(null, 0);
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() > top.count()) {
+                top = new Repeat(entry.getKey(), entry.getValue());
+            }
+        }
+        return top;
+    }
+}
@@ -0,0 +1,121 @@
+package com.LibraryManagementSystem.LMS.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Per-request SQL profile: statements prepared, entities loaded and JDBC time, recorded per endpoint as
+// lms.http.sql.* and logged when a request goes over the statement or repeat threshold. The repeat check is
+// the N+1 signal: one parameterized statement run once per row of an earlier result.
+@Component
+@ConditionalOnProperty(name = "lms.sql.profiling.enabled", havingValue = "true", matchIfMissing = true)
+// Ahead of Spring Security, so the JWT filter's lookups are part of the request
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementProfilingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementProfilingFilter.class);
+
+    public static final String STATEMENTS_METRIC = "lms.http.sql.statements";
+    public static final String ENTITIES_METRIC = "lms.http.sql.entities";
+    public static final String TIME_METRIC = "lms.http.sql.time";
+    public static final String EXCEEDED_METRIC = "lms.http.sql.exceeded";
+
+    // Unmapped requests (404s, requests rejected before dispatch) share one tag instead of one per raw path
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${lms.sql.profiling.statement-threshold:30}")
+    private Integer statementThreshold;
+
+    @Value("${lms.sql.profiling.repeat-threshold:10}")
+    private Integer repeatThreshold;
+
+    public StatementProfilingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementProfile profile = StatementProfile.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StatementProfile.finish();
+            record(request, profile);
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementProfile profile) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("SQL statements prepared per request")
+                .tags(tags)
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(1_000.0)
+                .register(meterRegistry)
+                .record(profile.statements());
+        DistributionSummary.builder(ENTITIES_METRIC)
+                .description("Entities loaded per request")
+                .tags(tags)
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(100_000.0)
+                .register(meterRegistry)
+                .record(profile.entitiesLoaded());
+        Timer.builder(TIME_METRIC)
+                .description("Time spent executing SQL per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(profile.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        StatementProfile.Repeat repeat = profile.mostRepeated();
+        boolean tooMany = profile.statements() > statementThreshold;
+        boolean repeated = repeat.count() > repeatThreshold;
+        if (!tooMany && !repeated) {
+            return;
+        }
+
+        Counter.builder(EXCEEDED_METRIC)
+                .description("Requests over the SQL statement or repeat threshold")
+                .tags(tags)
+                .tag("reason", repeated ? "REPEATED_STATEMENT" : "STATEMENT_COUNT")
+                .register(meterRegistry)
+                .increment();
+        logger.warn("{} {} ran {} SQL statements, loaded {} entities and spent {} ms in JDBC; "
+                        + "most repeated statement ran {} times{}: {}",
+                request.getMethod(), uri, profile.statements(), profile.entitiesLoaded(),
+                TimeUnit.NANOSECONDS.toMillis(profile.jdbcNanos()), repeat.count(),
+                repeated ? " (likely N+1)" : "", abbreviate(repeat.sql()));
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null || sql.length() <= MAX_LOGGED_SQL_LENGTH) {
+            return sql;
+        }
+        return sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -1,9 +1,12 @@
 package com.LibraryManagementSystem.LMS.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.LibraryManagementSystem.LMS.entity.Author;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +22,8 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
     List<Author> findByNationalityContainingIgnoreCase(String nationality);
     
     boolean existsByName(String name);
+    
+    // Batched case-insensitive lookup; names must already be lower-cased
+    @Query("SELECT a FROM Author a WHERE LOWER(a.name) IN :names")
+    List<Author> findByLowerCaseNameIn(@Param("names") Collection<String> names);
 }
@@ -1,47 +1,126 @@
 package com.LibraryManagementSystem.LMS.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import com.LibraryManagementSystem.LMS.entity.BookCopy;
 import com.LibraryManagementSystem.LMS.entity.Book;
 import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookCopyRepository extends JpaRepository<BookCopy, Long> {
     
+    @EntityGraph("BookCopy.details")
+    Window<BookCopy> findAllBy(ScrollPosition position, Sort sort, Limit limit);
     
+    @Override
+    @EntityGraph("BookCopy.details")
+    List<BookCopy> findAll();
+    
+    @Override
+    @EntityGraph("BookCopy.details")
+    Page<BookCopy> findAll(Pageable pageable);
+    
+    
+    @EntityGraph("BookCopy.details")
     Optional<BookCopy> findByBarcode(String barcode);
     
+    // One IN query for a stack of scanned barcodes
+    @EntityGraph("BookCopy.details")
+    List<BookCopy> findByBarcodeIn(Collection<String> barcodes);
+    
+    @EntityGraph("BookCopy.details")
     List<BookCopy> findByBook(Book book);
+    @EntityGraph("BookCopy.details")
     Page<BookCopy> findByBook(Book book, Pageable pageable);
     
+    @EntityGraph("BookCopy.details")
     List<BookCopy> findByBookId(Long bookId);
+    @EntityGraph("BookCopy.details")
     Page<BookCopy> findByBookId(Long bookId, Pageable pageable);
     
+    @EntityGraph("BookCopy.details")
     List<BookCopy> findByStatus(BookCopyStatus status);
+    @EntityGraph("BookCopy.details")
     Page<BookCopy> findByStatus(BookCopyStatus status, Pageable pageable);
     
+    @EntityGraph("BookCopy.details")
     List<BookCopy> findByBookAndStatus(Book book, BookCopyStatus status);
+    @EntityGraph("BookCopy.details")
     Page<BookCopy> findByBookAndStatus(Book book, BookCopyStatus status, Pageable pageable);
     
+    @EntityGraph("BookCopy.details")
     List<BookCopy> findByBookIdAndStatus(Long bookId, BookCopyStatus status);
+    @EntityGraph("BookCopy.details")
     Page<BookCopy> findByBookIdAndStatus(Long bookId, BookCopyStatus status, Pageable pageable);
+    // First few copies in a status, without loading the rest of the title's copies
+    List<BookCopy> findByBookIdAndStatus(Long bookId, BookCopyStatus status, Limit limit);
     
+    @EntityGraph("BookCopy.details")
     List<BookCopy> findByLocation(String location);
+    @EntityGraph("BookCopy.details")
     Page<BookCopy> findByLocation(String location, Pageable pageable);
     
+    @EntityGraph("BookCopy.details")
     List<BookCopy> findByCondition(String condition);
+    @EntityGraph("BookCopy.details")
     Page<BookCopy> findByCondition(String condition, Pageable pageable);
     
+    @EntityGraph("BookCopy.details")
     List<BookCopy> findByLocationAndStatus(String location, BookCopyStatus status);
+    @EntityGraph("BookCopy.details")
     Page<BookCopy> findByLocationAndStatus(String location, BookCopyStatus status, Pageable pageable);
     
     boolean existsByBarcode(String barcode);
     
+    // Every copy's book and status for the in-memory availability counters; consume inside a transaction and close
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT c.id AS id, c.book.id AS bookId, c.status AS status FROM BookCopy c")
+    Stream<CopyStatusRow> streamStatuses();
+    
+    interface CopyStatusRow {
+        Long getId();
+        Long getBookId();
+        BookCopyStatus getStatus();
+    }
+    
+    // Every copy's barcode, book and status for the in-memory barcode index; consume inside a transaction and close
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT c.id AS id, c.barcode AS barcode, c.book.id AS bookId, c.status AS status FROM BookCopy c")
+    Stream<BarcodeRow> streamBarcodes();
+    
+    interface BarcodeRow {
+        Long getId();
+        String getBarcode();
+        Long getBookId();
+        BookCopyStatus getStatus();
+    }
+    
+    // Check-and-set in one statement: the row lock makes concurrent callers queue on this copy alone,
+    // and only the first of them still sees the expected status, so exactly one gets a row count of 1
+    @Modifying
+    @Query("UPDATE BookCopy c SET c.status = :newStatus, c.version = c.version + 1 " +
+           "WHERE c.id = :id AND c.status = :expectedStatus")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("expectedStatus") BookCopyStatus expectedStatus,
+                              @Param("newStatus") BookCopyStatus newStatus);
+    
 }
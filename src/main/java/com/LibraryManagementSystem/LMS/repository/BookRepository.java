@@ -1,7 +1,12 @@
 package com.LibraryManagementSystem.LMS.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,32 +15,86 @@ import com.LibraryManagementSystem.LMS.entity.Book;
 import com.LibraryManagementSystem.LMS.entity.Publisher;
 import com.LibraryManagementSystem.LMS.enums.BookStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long> {
     
+    @EntityGraph("Book.details")
+    Window<Book> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+    
+    // Inherited listings take the graph too, or each row would load its publisher on its own; the copy, loan,
+    // fine and payment repositories redeclare theirs the same way
+    @Override
+    @EntityGraph("Book.details")
+    List<Book> findAll();
+    
+    @Override
+    @EntityGraph("Book.details")
+    Page<Book> findAll(Pageable pageable);
+    
     Optional<Book> findByIsbn(String isbn);
     
+    @EntityGraph("Book.details")
     List<Book> findByTitleContainingIgnoreCase(String title);
+    @EntityGraph("Book.details")
     Page<Book> findByTitleContainingIgnoreCase(String title, Pageable pageable);
     
+    @EntityGraph("Book.details")
     List<Book> findByStatus(BookStatus status);
+    @EntityGraph("Book.details")
     Page<Book> findByStatus(BookStatus status, Pageable pageable);
     
+    @EntityGraph("Book.details")
     List<Book> findByPublisher(Publisher publisher);
+    @EntityGraph("Book.details")
     Page<Book> findByPublisher(Publisher publisher, Pageable pageable);
     
+    @EntityGraph("Book.details")
     List<Book> findByLanguage(String language);
+    @EntityGraph("Book.details")
     Page<Book> findByLanguage(String language, Pageable pageable);
     
     @Query("SELECT b FROM Book b JOIN b.authors a WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :authorName, '%'))")
+    @EntityGraph("Book.details")
     List<Book> findByAuthorName(@Param("authorName") String authorName);
     
     @Query("SELECT b FROM Book b JOIN b.authors a WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :authorName, '%'))")
+    @EntityGraph("Book.details")
     Page<Book> findByAuthorName(@Param("authorName") String authorName, Pageable pageable);
     
     boolean existsByIsbn(String isbn);
     
+    // Batched ISBN existence check for bulk imports
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+    
+    // Keyset walk over book ids, used to (re)build the in-memory search index in batches
+    @Query("SELECT b.id FROM Book b WHERE b.id > :lastId ORDER BY b.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+    
+    // Books listing an author, genre or publisher, re-read into the search index when it is renamed
+    @Query("SELECT b.id FROM Book b JOIN b.authors a WHERE a.id = :authorId")
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId);
+    
+    @Query("SELECT b.id FROM Book b JOIN b.genres g WHERE g.id = :genreId")
+    List<Long> findIdsByGenreId(@Param("genreId") Long genreId);
+    
+    @Query("SELECT b.id FROM Book b WHERE b.publisher.id = :publisherId")
+    List<Long> findIdsByPublisherId(@Param("publisherId") Long publisherId);
+    
+    // Loads books with publisher, authors and genres in one round trip
+    @Query("SELECT DISTINCT b FROM Book b LEFT JOIN FETCH b.publisher LEFT JOIN FETCH b.authors LEFT JOIN FETCH b.genres WHERE b.id IN :ids")
+    List<Book> findWithCatalogDetailsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Titles for the in-memory barcode index
+    @Query("SELECT b.id AS id, b.title AS title FROM Book b")
+    List<TitleRow> findAllTitles();
+    
+    interface TitleRow {
+        Long getId();
+        String getTitle();
+    }
 }
@@ -1,48 +1,123 @@
 package com.LibraryManagementSystem.LMS.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import com.LibraryManagementSystem.LMS.entity.Borrowed;
 import com.LibraryManagementSystem.LMS.entity.User;
 import com.LibraryManagementSystem.LMS.entity.BookCopy;
 import com.LibraryManagementSystem.LMS.enums.BorrowStatus;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BorrowedRepository extends JpaRepository<Borrowed, Long> {
     
+    @EntityGraph("Borrowed.details")
+    Window<Borrowed> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+    
+    @Override
+    @EntityGraph("Borrowed.details")
+    List<Borrowed> findAll();
+    
+    @Override
+    @EntityGraph("Borrowed.details")
+    Page<Borrowed> findAll(Pageable pageable);
+    
+    // Cursor-backed stream for exports; must be consumed inside a transaction and closed. The book's authors and
+    // genres come in the same rows (batch fetching cannot group them one row at a time); Hibernate folds a loan's
+    // rows back into one entity as long as they arrive together, hence the ORDER BY
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Borrowed b JOIN FETCH b.user JOIN FETCH b.bookCopy bc JOIN FETCH bc.book bk LEFT JOIN FETCH bk.publisher "
+            + "LEFT JOIN FETCH bk.authors LEFT JOIN FETCH bk.genres ORDER BY b.id")
+    Stream<Borrowed> streamAllBy();
+    
+    @EntityGraph("Borrowed.details")
     List<Borrowed> findByUser(User user);
+    @EntityGraph("Borrowed.details")
     Page<Borrowed> findByUser(User user, Pageable pageable);
     
+    @EntityGraph("Borrowed.details")
     List<Borrowed> findByUserId(Long userId);
+    @EntityGraph("Borrowed.details")
     Page<Borrowed> findByUserId(Long userId, Pageable pageable);
     
+    @EntityGraph("Borrowed.details")
     List<Borrowed> findByStatus(BorrowStatus status);
+    @EntityGraph("Borrowed.details")
     Page<Borrowed> findByStatus(BorrowStatus status, Pageable pageable);
     
+    @EntityGraph("Borrowed.details")
     List<Borrowed> findByUserAndStatus(User user, BorrowStatus status);
+    @EntityGraph("Borrowed.details")
     Page<Borrowed> findByUserAndStatus(User user, BorrowStatus status, Pageable pageable);
     
+    @EntityGraph("Borrowed.details")
     List<Borrowed> findByUserIdAndStatus(Long userId, BorrowStatus status);
+    @EntityGraph("Borrowed.details")
     Page<Borrowed> findByUserIdAndStatus(Long userId, BorrowStatus status, Pageable pageable);
     
-    // Find overdue borrowed records
-    @Query("SELECT b FROM Borrowed b WHERE b.dueDate < :currentDate AND b.status = com.LibraryManagementSystem.LMS.enums.BorrowStatus.BORROWED")
+    // Loans still out, for the domain gauges
+    long countByReturnDateIsNull();
+    
+    // Find overdue borrowed records (not returned and past due, whether or not the sweep has flagged them yet)
+    @Query("SELECT COUNT(b) FROM Borrowed b WHERE b.dueDate < :currentDate AND b.returnDate IS NULL")
+    long countOverdueRecords(@Param("currentDate") LocalDate currentDate);
+    
+    @Query("SELECT b FROM Borrowed b WHERE b.dueDate < :currentDate AND b.returnDate IS NULL")
+    @EntityGraph("Borrowed.details")
     List<Borrowed> findOverdueRecords(@Param("currentDate") LocalDate currentDate);
     
-    @Query("SELECT b FROM Borrowed b WHERE b.dueDate < :currentDate AND b.status = com.LibraryManagementSystem.LMS.enums.BorrowStatus.BORROWED")
+    @Query("SELECT b FROM Borrowed b WHERE b.dueDate < :currentDate AND b.returnDate IS NULL")
+    @EntityGraph("Borrowed.details")
     Page<Borrowed> findOverdueRecords(@Param("currentDate") LocalDate currentDate, Pageable pageable);
     
+    // Keyset walk over overdue loans in one partition (id modulo partitions) of the table, for the overdue sweep
+    @Query("SELECT b FROM Borrowed b WHERE b.id > :lastId AND b.dueDate < :currentDate AND b.returnDate IS NULL " +
+           "AND MOD(b.id, :partitions) = :partition ORDER BY b.id")
+    List<Borrowed> findOverdueAfter(@Param("lastId") Long lastId, @Param("currentDate") LocalDate currentDate,
+                                    @Param("partitions") int partitions, @Param("partition") int partition,
+                                    Limit limit);
+    
+    @EntityGraph("Borrowed.details")
     List<Borrowed> findByBookCopy(BookCopy bookCopy);
+    @EntityGraph("Borrowed.details")
     Page<Borrowed> findByBookCopy(BookCopy bookCopy, Pageable pageable);
     
+    @EntityGraph("Borrowed.details")
     List<Borrowed> findByBookCopyId(Long bookCopyId);
+    @EntityGraph("Borrowed.details")
     Page<Borrowed> findByBookCopyId(Long bookCopyId, Pageable pageable);
     
+    // Loans still out on any of the copies, for batch returns
+    @EntityGraph("Borrowed.details")
+    @Query("SELECT b FROM Borrowed b WHERE b.bookCopy.id IN :bookCopyIds AND b.returnDate IS NULL")
+    List<Borrowed> findOpenByBookCopyIdIn(@Param("bookCopyIds") Collection<Long> bookCopyIds);
+    
+    // Loans per title over all time, the popularity weight of catalog suggestions
+    @Query("SELECT c.book.id AS bookId, COUNT(b) AS borrows FROM Borrowed b JOIN b.bookCopy c GROUP BY c.book.id")
+    List<BorrowCount> countByBook();
+    
+    interface BorrowCount {
+        Long getBookId();
+        Long getBorrows();
+    }
+    
 }
@@ -1,7 +1,12 @@
 package com.LibraryManagementSystem.LMS.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,22 +15,45 @@ import com.LibraryManagementSystem.LMS.entity.Fine;
 import com.LibraryManagementSystem.LMS.entity.Borrowed;
 import com.LibraryManagementSystem.LMS.enums.FineStatus;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FineRepository extends JpaRepository<Fine, Long> {
     
+    @EntityGraph("Fine.details")
+    Window<Fine> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+    
+    @Override
+    @EntityGraph("Fine.details")
+    List<Fine> findAll();
+    
+    @Override
+    @EntityGraph("Fine.details")
+    Page<Fine> findAll(Pageable pageable);
+    
     Optional<Fine> findByBorrowed(Borrowed borrowed);
     
+    List<Fine> findByBorrowedIdIn(Collection<Long> borrowedIds);
+    
+    @EntityGraph("Fine.details")
     List<Fine> findByStatus(FineStatus status);
+    @EntityGraph("Fine.details")
     Page<Fine> findByStatus(FineStatus status, Pageable pageable);
     
     @Query("SELECT f FROM Fine f WHERE f.borrowed.user.id = :userId")
+    @EntityGraph("Fine.details")
     List<Fine> findByUserId(@Param("userId") Long userId);
 
     @Query("SELECT f FROM Fine f WHERE f.borrowed.user.id = :userId")
+    @EntityGraph("Fine.details")
     Page<Fine> findByUserId(@Param("userId") Long userId, Pageable pageable);
     
     boolean existsByBorrowed(Borrowed borrowed);
+    
+    // Outstanding amount over all fines in a status, for the domain gauges
+    @Query("SELECT COALESCE(SUM(f.amount), 0) FROM Fine f WHERE f.status = :status")
+    BigDecimal sumAmountByStatus(@Param("status") FineStatus status);
 }
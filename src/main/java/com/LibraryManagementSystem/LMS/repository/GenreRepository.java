@@ -1,9 +1,17 @@
 package com.LibraryManagementSystem.LMS.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.LibraryManagementSystem.LMS.entity.Genre;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface GenreRepository extends JpaRepository<Genre, Long> {
     
+    // Batched case-insensitive lookup; names must already be lower-cased
+    @Query("SELECT g FROM Genre g WHERE LOWER(g.name) IN :names")
+    List<Genre> findByLowerCaseNameIn(@Param("names") Collection<String> names);
 }
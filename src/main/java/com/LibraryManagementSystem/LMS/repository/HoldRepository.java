@@ -0,0 +1,55 @@
+package com.LibraryManagementSystem.LMS.repository;
+
+import com.LibraryManagementSystem.LMS.entity.Hold;
+import com.LibraryManagementSystem.LMS.enums.HoldStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface HoldRepository extends JpaRepository<Hold, Long> {
+    
+    // Queue order: staff holds first, then first come, first served
+    String QUEUE_ORDER = " ORDER BY h.priority DESC, h.requestedAt ASC, h.id ASC";
+    
+    @Override
+    @EntityGraph("Hold.details")
+    Optional<Hold> findById(Long id);
+    
+    @Query("SELECT h FROM Hold h WHERE h.book.id = :bookId AND h.status = :status" + QUEUE_ORDER)
+    List<Hold> findQueue(@Param("bookId") Long bookId, @Param("status") HoldStatus status, Limit limit);
+    
+    @EntityGraph("Hold.details")
+    @Query("SELECT h FROM Hold h WHERE h.book.id = :bookId AND h.status = :status" + QUEUE_ORDER)
+    List<Hold> findQueueDetails(@Param("bookId") Long bookId, @Param("status") HoldStatus status);
+    
+    @EntityGraph("Hold.details")
+    List<Hold> findByUserIdOrderByRequestedAtDesc(Long userId);
+    
+    boolean existsByBookIdAndUserIdAndStatusIn(Long bookId, Long userId, Collection<HoldStatus> statuses);
+    
+    Optional<Hold> findByBookCopyIdAndStatus(Long bookCopyId, HoldStatus status);
+    
+    @Query("SELECT h FROM Hold h WHERE h.status = :status AND h.pickupBy < :date ORDER BY h.pickupBy, h.id")
+    List<Hold> findPickupOverdue(@Param("status") HoldStatus status, @Param("date") LocalDate date, Limit limit);
+    
+    // Holds of the same status ahead of the given one in its title's queue
+    @Query("SELECT COUNT(h) FROM Hold h WHERE h.book.id = :bookId AND h.status = :status AND (" +
+           "(h.priority = true AND h.priority <> :priority) " +
+           "OR (h.priority = :priority AND (h.requestedAt < :requestedAt " +
+           "OR (h.requestedAt = :requestedAt AND h.id < :id))))")
+    long countAhead(@Param("bookId") Long bookId,
+                    @Param("status") HoldStatus status,
+                    @Param("priority") Boolean priority,
+                    @Param("requestedAt") LocalDateTime requestedAt,
+                    @Param("id") Long id);
+}
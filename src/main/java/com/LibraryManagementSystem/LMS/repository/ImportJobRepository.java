@@ -0,0 +1,10 @@
+package com.LibraryManagementSystem.LMS.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import com.LibraryManagementSystem.LMS.entity.ImportJob;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+    
+}
@@ -1,8 +1,13 @@
 package com.LibraryManagementSystem.LMS.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import com.LibraryManagementSystem.LMS.entity.Librarian;
 import com.LibraryManagementSystem.LMS.enums.Role;
@@ -14,6 +19,8 @@ import java.util.Optional;
 @Repository
 public interface LibrarianRepository extends JpaRepository<Librarian, Long> {
     
+    Window<Librarian> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+    
     Optional<Librarian> findByEmail(String email);
     
     List<Librarian> findByRole(Role role);
@@ -31,4 +38,15 @@ public interface LibrarianRepository extends JpaRepository<Librarian, Long> {
     boolean existsByEmail(String email);
     
     boolean existsByPhoneNumber(String phoneNumber);
+    
+    // The searchable columns only, for loading the in-memory patron search index
+    @Query("SELECT l.id AS id, l.name AS name, l.email AS email, l.phoneNumber AS phoneNumber FROM Librarian l")
+    List<SearchRow> findSearchRows();
+    
+    interface SearchRow {
+        Long getId();
+        String getName();
+        String getEmail();
+        String getPhoneNumber();
+    }
 }
@@ -1,11 +1,19 @@
 package com.LibraryManagementSystem.LMS.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import com.LibraryManagementSystem.LMS.entity.Payment;
 import com.LibraryManagementSystem.LMS.entity.Fine;
 import com.LibraryManagementSystem.LMS.enums.PaymentStatus;
@@ -13,25 +21,55 @@ import com.LibraryManagementSystem.LMS.enums.PaymentMethod;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     
+    @EntityGraph("Payment.details")
+    Window<Payment> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+    
+    @Override
+    @EntityGraph("Payment.details")
+    List<Payment> findAll();
+    
+    @Override
+    @EntityGraph("Payment.details")
+    Page<Payment> findAll(Pageable pageable);
+    
+    // Cursor-backed stream for exports; must be consumed inside a transaction and closed. Authors and genres are
+    // fetched in the same rows, ordered so each payment's rows stay together (see BorrowedRepository.streamAllBy)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Payment p JOIN FETCH p.fine f JOIN FETCH f.borrowed b JOIN FETCH b.user JOIN FETCH b.bookCopy bc JOIN FETCH bc.book bk LEFT JOIN FETCH bk.publisher "
+            + "LEFT JOIN FETCH bk.authors LEFT JOIN FETCH bk.genres ORDER BY p.id")
+    Stream<Payment> streamAllBy();
+    
+    @EntityGraph("Payment.details")
     List<Payment> findByFine(Fine fine);
+    @EntityGraph("Payment.details")
     Page<Payment> findByFine(Fine fine, Pageable pageable);
     
     Optional<Payment> findByTransactionId(String transactionId);
     
+    @EntityGraph("Payment.details")
     List<Payment> findByStatus(PaymentStatus status);
+    @EntityGraph("Payment.details")
     Page<Payment> findByStatus(PaymentStatus status, Pageable pageable);
     
+    @EntityGraph("Payment.details")
     List<Payment> findByPaymentMethod(PaymentMethod paymentMethod);
+    @EntityGraph("Payment.details")
     Page<Payment> findByPaymentMethod(PaymentMethod paymentMethod, Pageable pageable);
     
     @Query("SELECT p FROM Payment p WHERE p.fine.borrowed.user.id = :userId")
+    @EntityGraph("Payment.details")
     List<Payment> findByUserId(@Param("userId") Long userId);
     
     @Query("SELECT p FROM Payment p WHERE p.fine.borrowed.user.id = :userId")
+    @EntityGraph("Payment.details")
     Page<Payment> findByUserId(@Param("userId") Long userId, Pageable pageable);
     
     
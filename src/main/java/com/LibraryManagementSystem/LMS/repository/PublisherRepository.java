@@ -1,9 +1,12 @@
 package com.LibraryManagementSystem.LMS.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.LibraryManagementSystem.LMS.entity.Publisher;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +27,8 @@ public interface PublisherRepository extends JpaRepository<Publisher, Long> {
     boolean existsByName(String name);
     
     boolean existsByEmail(String email);
+    
+    // Batched case-insensitive lookup; names must already be lower-cased
+    @Query("SELECT p FROM Publisher p WHERE LOWER(p.name) IN :names")
+    List<Publisher> findByLowerCaseNameIn(@Param("names") Collection<String> names);
 }
@@ -0,0 +1,34 @@
+package com.LibraryManagementSystem.LMS.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.LibraryManagementSystem.LMS.entity.SweepLease;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Repository
+public interface SweepLeaseRepository extends JpaRepository<SweepLease, String> {
+    
+    // Conditional update, so of several nodes racing for the same lease exactly one gets a row count of 1
+    @Modifying
+    @Query("UPDATE SweepLease l SET l.owner = :owner, l.leasedUntil = :until " +
+           "WHERE l.name = :name AND (l.owner IS NULL OR l.owner = :owner OR l.leasedUntil < :now)")
+    int claim(@Param("name") String name, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+    
+    // Records progress and renews the lease; 0 means the lease was lost to another node
+    @Modifying
+    @Query("UPDATE SweepLease l SET l.sweepDate = :sweepDate, l.lastId = :lastId, l.completed = :completed, " +
+           "l.leasedUntil = :until WHERE l.name = :name AND l.owner = :owner")
+    int checkpoint(@Param("name") String name, @Param("owner") String owner,
+                   @Param("sweepDate") LocalDate sweepDate, @Param("lastId") Long lastId,
+                   @Param("completed") Boolean completed, @Param("until") LocalDateTime until);
+    
+    @Modifying
+    @Query("UPDATE SweepLease l SET l.owner = NULL, l.leasedUntil = NULL WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
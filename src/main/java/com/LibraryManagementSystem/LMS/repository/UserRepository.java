@@ -1,8 +1,13 @@
 package com.LibraryManagementSystem.LMS.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import org.springframework.stereotype.Repository;
 import com.LibraryManagementSystem.LMS.entity.User;
@@ -14,6 +19,8 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    Window<User> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+    
     Optional<User> findByEmail(String email);
     
     List<User> findByStatus(Status status);
@@ -29,4 +36,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     boolean existsByPhoneNumber(String phoneNumber);
     
+    // The searchable columns only, for loading the in-memory patron search index
+    @Query("SELECT u.id AS id, u.name AS name, u.email AS email, u.phoneNumber AS phoneNumber FROM User u")
+    List<SearchRow> findSearchRows();
+    
+    interface SearchRow {
+        Long getId();
+        String getName();
+        String getEmail();
+        String getPhoneNumber();
+    }
 }
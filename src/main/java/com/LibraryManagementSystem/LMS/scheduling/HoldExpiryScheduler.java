@@ -0,0 +1,25 @@
+package com.LibraryManagementSystem.LMS.scheduling;
+
+import com.LibraryManagementSystem.LMS.service.interfaces.HoldService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// Passes copies nobody collected on to the next hold in the queue
+@Component
+@ConditionalOnProperty(name = "lms.holds.expiry-enabled", havingValue = "true", matchIfMissing = true)
+public class HoldExpiryScheduler {
+
+    private final HoldService holdService;
+
+    public HoldExpiryScheduler(HoldService holdService) {
+        this.holdService = holdService;
+    }
+
+    @Scheduled(cron = "${lms.holds.expiry-cron:0 30 0 * * *}")
+    public void expireUncollectedHolds() {
+        holdService.expireReadyHolds(LocalDate.now());
+    }
+}
@@ -0,0 +1,25 @@
+package com.LibraryManagementSystem.LMS.scheduling;
+
+import com.LibraryManagementSystem.LMS.service.interfaces.OverdueSweepService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// Nightly overdue sweep; every node runs it and the partition leases split the work between them
+@Component
+@ConditionalOnProperty(name = "lms.overdue.enabled", havingValue = "true", matchIfMissing = true)
+public class OverdueSweepScheduler {
+
+    private final OverdueSweepService overdueSweepService;
+
+    public OverdueSweepScheduler(OverdueSweepService overdueSweepService) {
+        this.overdueSweepService = overdueSweepService;
+    }
+
+    @Scheduled(cron = "${lms.overdue.cron:0 0 1 * * *}")
+    public void sweepOverdueLoans() {
+        overdueSweepService.sweep(LocalDate.now());
+    }
+}
@@ -0,0 +1,276 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.BookCopy;
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// Barcode -> copy lookup for the circulation desk, so a scan resolves to the copy, its title and its status
+// without a database round trip. Copies sit in an open-addressing table (linear probing, power-of-two
+// capacity): barcodes in one array, copy id, book id and status ordinal in parallel primitive arrays, so an
+// entry costs its barcode string plus 17 bytes instead of a map node and boxed values. Titles are kept once
+// per book. Writes are applied when the surrounding transaction commits.
+@Component
+public class BarcodeIndex {
+
+    private static final int MIN_CAPACITY = 1024;
+
+    // Slot of a removed barcode; probing continues past it, inserts may reuse it
+    private static final String TOMBSTONE = new String("");
+
+    private static final BookCopyStatus[] STATUSES = BookCopyStatus.values();
+
+    // bookId and title are null for a copy not attached to a book
+    public record Entry(String barcode, Long copyId, Long bookId, String title, BookCopyStatus status) {
+    }
+
+    // Copy as read from the database for a full reload
+    public record Row(Long copyId, String barcode, Long bookId, BookCopyStatus status) {
+    }
+
+    public record Snapshot(Collection<Row> rows, Map<Long, String> titles) {
+    }
+
+    private static final class Table {
+        final String[] barcodes;
+        final long[] copyIds;
+        final long[] bookIds;
+        final byte[] statuses;
+        int size;
+        // Live entries plus tombstones; the table grows or is rehashed before this passes three quarters
+        int occupied;
+
+        Table(int capacity) {
+            barcodes = new String[capacity];
+            copyIds = new long[capacity];
+            bookIds = new long[capacity];
+            statuses = new byte[capacity];
+        }
+    }
+
+    private Table table = new Table(MIN_CAPACITY);
+    private volatile Map<Long, String> titles = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReloadLog reloadLog = new ReloadLog();
+
+    public Optional<Entry> find(String barcode) {
+        if (barcode == null || barcode.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long copyId;
+        long bookId;
+        byte status;
+        lock.readLock().lock();
+        try {
+            int slot = slotOf(table, barcode);
+            if (slot < 0) {
+                return Optional.empty();
+            }
+            copyId = table.copyIds[slot];
+            bookId = table.bookIds[slot];
+            status = table.statuses[slot];
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Long book = bookId == 0 ? null : bookId;
+        return Optional.of(new Entry(barcode, copyId, book, book == null ? null : titles.get(book), STATUSES[status]));
+    }
+
+    // Adds the copy or records its current status and book; the previous barcode is dropped when it changed
+    public void index(String previousBarcode, BookCopy bookCopy) {
+        if (bookCopy == null || bookCopy.getId() == null || bookCopy.getBarcode() == null || bookCopy.getStatus() == null) {
+            return;
+        }
+        String barcode = bookCopy.getBarcode();
+        long copyId = bookCopy.getId();
+        long bookId = bookCopy.getBook() != null && bookCopy.getBook().getId() != null ? bookCopy.getBook().getId() : 0;
+        byte status = (byte) bookCopy.getStatus().ordinal();
+        AfterCommit.run(() -> write(() -> {
+            if (previousBarcode != null && !previousBarcode.equals(barcode)) {
+                removeInternal(previousBarcode);
+            }
+            putInternal(barcode, copyId, bookId, status);
+        }));
+    }
+
+    public void index(BookCopy bookCopy) {
+        index(null, bookCopy);
+    }
+
+    public void remove(String barcode) {
+        if (barcode == null) {
+            return;
+        }
+        AfterCommit.run(() -> write(() -> removeInternal(barcode)));
+    }
+
+    // Follows a new or renamed book
+    public void retitle(Book book) {
+        if (book == null || book.getId() == null || book.getTitle() == null) {
+            return;
+        }
+        Long bookId = book.getId();
+        String title = book.getTitle();
+        AfterCommit.run(() -> write(() -> titles.put(bookId, title)));
+    }
+
+    // A deleted book takes its copies with it
+    public void removeBook(Long bookId) {
+        if (bookId == null) {
+            return;
+        }
+        AfterCommit.run(() -> write(() -> {
+            titles.remove(bookId);
+            String[] barcodes = table.barcodes;
+            for (int slot = 0; slot < barcodes.length; slot++) {
+                if (barcodes[slot] != null && barcodes[slot] != TOMBSTONE && table.bookIds[slot] == bookId) {
+                    barcodes[slot] = TOMBSTONE;
+                    table.size--;
+                }
+            }
+        }));
+    }
+
+    // Replaces the whole index with the copies and titles the loader reads from the database. Writes that
+    // commit while it runs are replayed on the new table, so a checkout during a reload is not lost.
+    public void reload(Supplier<Snapshot> loader) {
+        lock.writeLock().lock();
+        try {
+            reloadLog.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Table fresh = null;
+        Map<Long, String> freshTitles = null;
+        try {
+            Snapshot snapshot = loader.get();
+            Table built = new Table(capacityFor(snapshot.rows().size()));
+            for (Row row : snapshot.rows()) {
+                if (row.copyId() != null && row.barcode() != null && row.status() != null) {
+                    insert(built, row.barcode(), row.copyId(), row.bookId() != null ? row.bookId() : 0,
+                            (byte) row.status().ordinal());
+                }
+            }
+            freshTitles = new ConcurrentHashMap<>(snapshot.titles());
+            fresh = built;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (fresh != null) {
+                    table = fresh;
+                    titles = freshTitles;
+                }
+                reloadLog.end(fresh != null);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return table.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            reloadLog.apply(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putInternal(String barcode, long copyId, long bookId, byte status) {
+        int slot = slotOf(table, barcode);
+        if (slot >= 0) {
+            table.copyIds[slot] = copyId;
+            table.bookIds[slot] = bookId;
+            table.statuses[slot] = status;
+            return;
+        }
+
+        if ((table.occupied + 1) * 4L > table.barcodes.length * 3L) {
+            // Rehash into a table sized for the live entries, which also clears the tombstones
+            Table grown = new Table(capacityFor(table.size + 1));
+            for (int i = 0; i < table.barcodes.length; i++) {
+                String existing = table.barcodes[i];
+                if (existing != null && existing != TOMBSTONE) {
+                    insert(grown, existing, table.copyIds[i], table.bookIds[i], table.statuses[i]);
+                }
+            }
+            table = grown;
+        }
+        insert(table, barcode, copyId, bookId, status);
+    }
+
+    private void removeInternal(String barcode) {
+        int slot = slotOf(table, barcode);
+        if (slot >= 0) {
+            table.barcodes[slot] = TOMBSTONE;
+            table.size--;
+        }
+    }
+
+    // Slot holding the barcode, or -1
+    private static int slotOf(Table table, String barcode) {
+        String[] barcodes = table.barcodes;
+        int mask = barcodes.length - 1;
+        for (int slot = hash(barcode) & mask; ; slot = (slot + 1) & mask) {
+            String existing = barcodes[slot];
+            if (existing == null) {
+                return -1;
+            }
+            if (existing != TOMBSTONE && existing.equals(barcode)) {
+                return slot;
+            }
+        }
+    }
+
+    // Caller has checked the barcode is absent and the table has room
+    private static void insert(Table table, String barcode, long copyId, long bookId, byte status) {
+        String[] barcodes = table.barcodes;
+        int mask = barcodes.length - 1;
+        int slot = hash(barcode) & mask;
+        while (barcodes[slot] != null && barcodes[slot] != TOMBSTONE) {
+            slot = (slot + 1) & mask;
+        }
+        if (barcodes[slot] == null) {
+            table.occupied++;
+        }
+        barcodes[slot] = barcode;
+        table.copyIds[slot] = copyId;
+        table.bookIds[slot] = bookId;
+        table.statuses[slot] = status;
+        table.size++;
+    }
+
+    // Barcodes share long prefixes ("BC-001-..."); spread String.hashCode so linear probing does not cluster
+    private static int hash(String barcode) {
+        int h = barcode.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Power of two keeping the load at or under one half after a build
+    private static int capacityFor(int entries) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < entries * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,30 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import com.LibraryManagementSystem.LMS.service.interfaces.BookCopyService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Loads the barcode index at startup, then reloads it periodically so circulation on other nodes
+// (or bulk updates that bypass the services) is picked up
+@Component
+public class BarcodeIndexInitializer {
+
+    private final BookCopyService bookCopyService;
+
+    public BarcodeIndexInitializer(BookCopyService bookCopyService) {
+        this.bookCopyService = bookCopyService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        bookCopyService.rebuildBarcodeIndex();
+    }
+
+    @Scheduled(initialDelayString = "${lms.barcode.refresh-ms:300000}",
+               fixedDelayString = "${lms.barcode.refresh-ms:300000}")
+    public void refreshIndex() {
+        bookCopyService.rebuildBarcodeIndex();
+    }
+}
@@ -0,0 +1,169 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import com.LibraryManagementSystem.LMS.entity.BookCopy;
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Copy counts per title (book id -> one counter per BookCopyStatus), so listings can show "3 of 7 available"
+// without querying book_copies. Services report a copy's new book and status rather than a delta, and the index
+// moves the copy from whatever it last knew; reporting the same state twice counts the copy once. Writes are
+// applied when the surrounding transaction commits, so rolled-back work never shows. Readers take no locks.
+@Component
+public class BookAvailabilityIndex {
+
+    private static final BookCopyStatus[] STATUSES = BookCopyStatus.values();
+    private static final int STATUS_COUNT = STATUSES.length;
+
+    public record Availability(int total, int available, int borrowed, int unavailable, int onHold) {
+
+        public static final Availability NONE = new Availability(0, 0, 0, 0, 0);
+    }
+
+    // Copy as read from the database for a full reload
+    public record Row(Long copyId, Long bookId, BookCopyStatus status) {
+    }
+
+    // Told when a title may have gained its first available copy or lost its last one; listeners re-read get()
+    public interface Listener {
+        void availabilityChanged(Long bookId);
+
+        void availabilityReloaded();
+    }
+
+    private volatile ConcurrentHashMap<Long, AtomicIntegerArray> counts = new ConcurrentHashMap<>();
+    // Copy id -> book id * STATUS_COUNT + status ordinal; read and written under the lock only
+    private Map<Long, Long> copies = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReloadLog reloadLog = new ReloadLog();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public Availability get(Long bookId) {
+        AtomicIntegerArray counters = bookId == null ? null : counts.get(bookId);
+        if (counters == null) {
+            return Availability.NONE;
+        }
+        int available = counters.get(BookCopyStatus.AVAILABLE.ordinal());
+        int borrowed = counters.get(BookCopyStatus.BORROWED.ordinal());
+        int unavailable = counters.get(BookCopyStatus.UNAVAILABLE.ordinal());
+        int onHold = counters.get(BookCopyStatus.ON_HOLD.ordinal());
+        return new Availability(available + borrowed + unavailable + onHold, available, borrowed, unavailable, onHold);
+    }
+
+    // Records the copy's current book and status; a copy without either is no longer counted
+    public void index(BookCopy bookCopy) {
+        if (bookCopy == null || bookCopy.getId() == null) {
+            return;
+        }
+        Long copyId = bookCopy.getId();
+        Long bookId = bookCopy.getBook() != null ? bookCopy.getBook().getId() : null;
+        BookCopyStatus status = bookCopy.getStatus();
+        AfterCommit.run(() -> write(() -> put(copyId, bookId, status)));
+    }
+
+    public void removeCopy(Long copyId) {
+        if (copyId != null) {
+            AfterCommit.run(() -> write(() -> put(copyId, null, null)));
+        }
+    }
+
+    // A deleted book takes its copies with it
+    public void remove(Long bookId) {
+        if (bookId != null) {
+            AfterCommit.run(() -> write(() -> {
+                counts.remove(bookId);
+                copies.values().removeIf(state -> state / STATUS_COUNT == bookId);
+            }));
+        }
+    }
+
+    // Swaps in counts built from the copies the loader reads from the database. Copies reported while it runs
+    // are replayed on the new counts, so a checkout during a reload is neither lost nor counted twice.
+    public void reload(Supplier<? extends Collection<Row>> loader) {
+        lock.lock();
+        try {
+            reloadLog.begin();
+        } finally {
+            lock.unlock();
+        }
+
+        ConcurrentHashMap<Long, AtomicIntegerArray> freshCounts = null;
+        Map<Long, Long> freshCopies = null;
+        try {
+            Collection<Row> rows = loader.get();
+            ConcurrentHashMap<Long, AtomicIntegerArray> builtCounts = new ConcurrentHashMap<>();
+            Map<Long, Long> builtCopies = new HashMap<>(Math.max(16, rows.size() * 2));
+            for (Row row : rows) {
+                if (row.copyId() != null && row.bookId() != null && row.status() != null) {
+                    builtCopies.put(row.copyId(), row.bookId() * STATUS_COUNT + row.status().ordinal());
+                    builtCounts.computeIfAbsent(row.bookId(), id -> new AtomicIntegerArray(STATUS_COUNT))
+                            .incrementAndGet(row.status().ordinal());
+                }
+            }
+            freshCounts = builtCounts;
+            freshCopies = builtCopies;
+        } finally {
+            lock.lock();
+            try {
+                if (freshCounts != null) {
+                    counts = freshCounts;
+                    copies = freshCopies;
+                }
+                reloadLog.end(freshCounts != null);
+            } finally {
+                lock.unlock();
+            }
+        }
+        listeners.forEach(Listener::availabilityReloaded);
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    private void write(Runnable change) {
+        lock.lock();
+        try {
+            reloadLog.apply(change);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(Long copyId, Long bookId, BookCopyStatus status) {
+        Long state = bookId != null && status != null ? bookId * STATUS_COUNT + status.ordinal() : null;
+        Long previous = state != null ? copies.put(copyId, state) : copies.remove(copyId);
+        if (previous == null ? state == null : previous.equals(state)) {
+            return;
+        }
+        if (previous != null) {
+            add(previous / STATUS_COUNT, STATUSES[(int) (previous % STATUS_COUNT)], -1);
+        }
+        if (state != null) {
+            add(bookId, status, 1);
+        }
+    }
+
+    private void add(Long bookId, BookCopyStatus status, int delta) {
+        int now = counts.computeIfAbsent(bookId, id -> new AtomicIntegerArray(STATUS_COUNT))
+                .addAndGet(status.ordinal(), delta);
+        if (status == BookCopyStatus.AVAILABLE && (now > 0) != (now - delta > 0)) {
+            for (Listener listener : listeners) {
+                listener.availabilityChanged(bookId);
+            }
+        }
+    }
+}
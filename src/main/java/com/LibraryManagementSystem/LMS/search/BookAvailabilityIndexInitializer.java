@@ -0,0 +1,30 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import com.LibraryManagementSystem.LMS.service.interfaces.BookCopyService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Loads per-title copy counts at startup, then reloads them periodically so changes made by other nodes
+// (or by bulk updates that bypass the services) are picked up
+@Component
+public class BookAvailabilityIndexInitializer {
+
+    private final BookCopyService bookCopyService;
+
+    public BookAvailabilityIndexInitializer(BookCopyService bookCopyService) {
+        this.bookCopyService = bookCopyService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        bookCopyService.rebuildAvailabilityIndex();
+    }
+
+    @Scheduled(initialDelayString = "${lms.availability.refresh-ms:300000}",
+               fixedDelayString = "${lms.availability.refresh-ms:300000}")
+    public void refreshIndex() {
+        bookCopyService.rebuildAvailabilityIndex();
+    }
+}
@@ -0,0 +1,263 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import com.LibraryManagementSystem.LMS.entity.Author;
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.Genre;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// In-memory inverted index over the book catalog (term -> book id -> weighted term frequency).
+// Writes are applied when the surrounding transaction commits.
+@Component
+public class CatalogSearchIndex {
+
+    // Field weights used when a term is found in a given part of the book
+    private static final int TITLE_WEIGHT = 5;
+    private static final int AUTHOR_WEIGHT = 3;
+    private static final int GENRE_WEIGHT = 2;
+    private static final int PUBLISHER_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // Upper bound on how many dictionary terms the trailing (partially typed) query term may expand to
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    // Weighted terms of one book, extracted while its associations are loaded
+    public record Document(Long bookId, Map<String, Integer> terms) {
+    }
+
+    private NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReloadLog reloadLog = new ReloadLog();
+
+    // Adds or replaces a book in the index; authors, genres and publisher must be initialized
+    public void index(Book book) {
+        if (book == null || book.getId() == null) {
+            return;
+        }
+
+        Document document = describe(book);
+        AfterCommit.run(() -> write(() -> {
+            removeInternal(document.bookId());
+            putInternal(postings, documents, document);
+        }));
+    }
+
+    public void remove(Long bookId) {
+        if (bookId == null) {
+            return;
+        }
+
+        AfterCommit.run(() -> write(() -> removeInternal(bookId)));
+    }
+
+    // Builds a fresh index from the books the loader reads from the database and swaps it in, so searches keep
+    // answering from the old one during a rebuild. Books saved while it runs are replayed on the new index.
+    public void reload(Supplier<? extends Collection<Document>> loader) {
+        lock.writeLock().lock();
+        try {
+            reloadLog.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        NavigableMap<String, Map<Long, Integer>> freshPostings = null;
+        Map<Long, Map<String, Integer>> freshDocuments = null;
+        try {
+            NavigableMap<String, Map<Long, Integer>> builtPostings = new TreeMap<>();
+            Map<Long, Map<String, Integer>> builtDocuments = new HashMap<>();
+            for (Document document : loader.get()) {
+                putInternal(builtPostings, builtDocuments, document);
+            }
+            freshPostings = builtPostings;
+            freshDocuments = builtDocuments;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (freshPostings != null) {
+                    postings = freshPostings;
+                    documents = freshDocuments;
+                }
+                reloadLog.end(freshPostings != null);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public static Document describe(Book book) {
+        return new Document(book.getId(), extractTerms(book));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Returns ids of books matching every query term, best match first.
+    // The last term is treated as a prefix so results update while the user is still typing.
+    public List<Long> search(String query, int limit) {
+        List<String> tokens = TextNormalizer.tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            int totalDocuments = documents.size();
+            List<Map<Long, Double>> perTermScores = new ArrayList<>(tokens.size());
+
+            for (int i = 0; i < tokens.size(); i++) {
+                boolean isLast = i == tokens.size() - 1;
+                Map<Long, Double> scores = isLast
+                        ? scorePrefix(tokens.get(i), totalDocuments)
+                        : scoreExact(tokens.get(i), totalDocuments);
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                perTermScores.add(scores);
+            }
+
+            // Intersect starting from the most selective term
+            perTermScores.sort(Comparator.comparingInt(Map::size));
+            Map<Long, Double> result = new HashMap<>(perTermScores.get(0));
+            for (int i = 1; i < perTermScores.size() && !result.isEmpty(); i++) {
+                Map<Long, Double> next = perTermScores.get(i);
+                result.entrySet().removeIf(entry -> !next.containsKey(entry.getKey()));
+                result.replaceAll((bookId, score) -> score + next.get(bookId));
+            }
+
+            return topK(result, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreExact(String term, int totalDocuments) {
+        Map<Long, Integer> posting = postings.get(term);
+        Map<Long, Double> scores = new HashMap<>();
+        if (posting != null) {
+            accumulate(scores, posting, totalDocuments);
+        }
+        return scores;
+    }
+
+    private Map<Long, Double> scorePrefix(String prefix, int totalDocuments) {
+        Map<Long, Double> scores = new HashMap<>();
+        int expansions = 0;
+        for (Map.Entry<String, Map<Long, Integer>> entry : postings.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix) || expansions++ >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            accumulate(scores, entry.getValue(), totalDocuments);
+        }
+        return scores;
+    }
+
+    // tf * idf, keeping the best scoring expansion per book
+    private void accumulate(Map<Long, Double> scores, Map<Long, Integer> posting, int totalDocuments) {
+        double idf = Math.log(1.0 + (double) totalDocuments / posting.size());
+        for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+            double score = entry.getValue() * idf;
+            scores.merge(entry.getKey(), score, Math::max);
+        }
+    }
+
+    private List<Long> topK(Map<Long, Double> scores, int limit) {
+        Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Math.min(limit, scores.size()) + 1, byScore);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ids.add(heap.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            reloadLog.apply(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void putInternal(NavigableMap<String, Map<Long, Integer>> postings,
+                                    Map<Long, Map<String, Integer>> documents, Document document) {
+        for (Map.Entry<String, Integer> entry : document.terms().entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>())
+                    .put(document.bookId(), entry.getValue());
+        }
+        documents.put(document.bookId(), document.terms());
+    }
+
+    private void removeInternal(Long bookId) {
+        Map<String, Integer> terms = documents.remove(bookId);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(bookId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static Map<String, Integer> extractTerms(Book book) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, book.getTitle(), TITLE_WEIGHT);
+        addTerms(terms, book.getDescription(), DESCRIPTION_WEIGHT);
+
+        if (book.getAuthors() != null) {
+            for (Author author : book.getAuthors()) {
+                addTerms(terms, author.getName(), AUTHOR_WEIGHT);
+            }
+        }
+        if (book.getGenres() != null) {
+            for (Genre genre : book.getGenres()) {
+                addTerms(terms, genre.getName(), GENRE_WEIGHT);
+            }
+        }
+        if (book.getPublisher() != null) {
+            addTerms(terms, book.getPublisher().getName(), PUBLISHER_WEIGHT);
+        }
+        return terms;
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String token : TextNormalizer.tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+}
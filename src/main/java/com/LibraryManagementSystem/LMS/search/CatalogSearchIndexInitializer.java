@@ -0,0 +1,30 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import com.LibraryManagementSystem.LMS.service.interfaces.BookService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Loads the catalog into the full-text, suggestion and facet indexes once the application has started, then
+// reloads them periodically so books changed on other nodes (or by bulk updates that bypass the services) show up
+@Component
+public class CatalogSearchIndexInitializer {
+
+    private final BookService bookService;
+
+    public CatalogSearchIndexInitializer(BookService bookService) {
+        this.bookService = bookService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        bookService.rebuildSearchIndex();
+    }
+
+    @Scheduled(initialDelayString = "${lms.search.catalog.refresh-ms:300000}",
+               fixedDelayString = "${lms.search.catalog.refresh-ms:300000}")
+    public void refreshIndex() {
+        bookService.rebuildSearchIndex();
+    }
+}
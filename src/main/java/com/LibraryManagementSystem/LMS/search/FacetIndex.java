@@ -0,0 +1,487 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.Genre;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// Faceted filtering and counting over the catalog. Each book gets a dense document number; every facet value
+// keeps a BitSet of the documents that carry it. A query ORs the selected values within a facet and ANDs the
+// facets together. Counts for a facet are taken against the other facets' selections only, so selecting one
+// language still shows how many books the other languages would give.
+@Component
+public class FacetIndex implements BookAvailabilityIndex.Listener {
+
+    public enum Facet {
+        LANGUAGE,
+        GENRE,
+        PUBLISHER,
+        YEAR,
+        AVAILABILITY
+    }
+
+    // Facets backed by a value dictionary; availability is a single BitSet kept in step with BookAvailabilityIndex
+    private static final List<Facet> VALUE_FACETS = List.of(Facet.LANGUAGE, Facet.GENRE, Facet.PUBLISHER, Facet.YEAR);
+
+    // Values of the availability facet
+    public static final String AVAILABLE = "available";
+    public static final String NOT_AVAILABLE = "unavailable";
+
+    public record Document(Long bookId, String language, Long publisherId, String publisherName, Integer year,
+                           Map<Long, String> genres) {
+    }
+
+    // Empty sets and null bounds mean "no filter"
+    public record Query(Set<String> languages, Set<Long> genreIds, Set<Long> publisherIds,
+                        Integer yearFrom, Integer yearTo, Boolean available) {
+    }
+
+    public record FacetCount(String value, String label, int count) {
+    }
+
+    public record Result(int total, List<Long> bookIds, Map<Facet, List<FacetCount>> facets) {
+    }
+
+    // One facet: value dictionary, a BitSet per value for filtering, and for counting each document's values
+    // (a flat column when a book has at most one value) plus the number of live documents per value
+    private static final class Dimension {
+        final boolean multiValued;
+        final Map<String, Integer> ordinals = new HashMap<>();
+        final List<String> values = new ArrayList<>();
+        final List<String> labels = new ArrayList<>();
+        final List<BitSet> documents = new ArrayList<>();
+        int[] totals = new int[16];
+        int[] valueOf = new int[0];
+        int[][] valuesOf = new int[0][];
+
+        Dimension(boolean multiValued) {
+            this.multiValued = multiValued;
+        }
+
+        int ordinal(String value, String label) {
+            Integer ordinal = ordinals.get(value);
+            if (ordinal == null) {
+                ordinal = values.size();
+                ordinals.put(value, ordinal);
+                values.add(value);
+                labels.add(label);
+                documents.add(new BitSet());
+                if (ordinal >= totals.length) {
+                    totals = Arrays.copyOf(totals, totals.length * 2);
+                }
+            } else if (label != null) {
+                labels.set(ordinal, label);
+            }
+            return ordinal;
+        }
+
+        void add(int doc, String value, String label) {
+            int ordinal = ordinal(value, label);
+            if (documents.get(ordinal).get(doc)) {
+                return;
+            }
+            documents.get(ordinal).set(doc);
+            totals[ordinal]++;
+            if (multiValued) {
+                if (doc >= valuesOf.length) {
+                    valuesOf = Arrays.copyOf(valuesOf, Math.max(doc + 1, valuesOf.length * 2 + 16));
+                }
+                int[] current = valuesOf[doc] == null ? new int[0] : valuesOf[doc];
+                int[] extended = Arrays.copyOf(current, current.length + 1);
+                extended[current.length] = ordinal;
+                valuesOf[doc] = extended;
+            } else {
+                if (doc >= valueOf.length) {
+                    int previous = valueOf.length;
+                    valueOf = Arrays.copyOf(valueOf, Math.max(doc + 1, previous * 2 + 16));
+                    Arrays.fill(valueOf, previous, valueOf.length, -1);
+                }
+                valueOf[doc] = ordinal;
+            }
+        }
+
+        void clear(int doc) {
+            if (multiValued) {
+                if (doc < valuesOf.length && valuesOf[doc] != null) {
+                    for (int ordinal : valuesOf[doc]) {
+                        documents.get(ordinal).clear(doc);
+                        totals[ordinal]--;
+                    }
+                    valuesOf[doc] = null;
+                }
+            } else if (doc < valueOf.length && valueOf[doc] >= 0) {
+                documents.get(valueOf[doc]).clear(doc);
+                totals[valueOf[doc]]--;
+                valueOf[doc] = -1;
+            }
+        }
+
+        void count(int doc, int[] counts) {
+            if (multiValued) {
+                int[] ordinals = doc < valuesOf.length ? valuesOf[doc] : null;
+                if (ordinals != null) {
+                    for (int ordinal : ordinals) {
+                        counts[ordinal]++;
+                    }
+                }
+            } else {
+                int ordinal = doc < valueOf.length ? valueOf[doc] : -1;
+                if (ordinal >= 0) {
+                    counts[ordinal]++;
+                }
+            }
+        }
+
+        // Documents carrying any of the values; null when nothing is selected
+        BitSet union(Collection<String> selected) {
+            if (selected == null || selected.isEmpty()) {
+                return null;
+            }
+            BitSet union = new BitSet();
+            for (String value : selected) {
+                Integer ordinal = ordinals.get(value);
+                if (ordinal != null) {
+                    union.or(documents.get(ordinal));
+                }
+            }
+            return union;
+        }
+    }
+
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReloadLog reloadLog = new ReloadLog();
+
+    private Map<Facet, Dimension> dimensions = newDimensions();
+    private Map<Long, Integer> docOf = new HashMap<>();
+    private long[] bookOf = new long[0];
+    private BitSet live = new BitSet();
+    private BitSet available = new BitSet();
+
+    public FacetIndex(BookAvailabilityIndex bookAvailabilityIndex) {
+        this.bookAvailabilityIndex = bookAvailabilityIndex;
+        bookAvailabilityIndex.addListener(this);
+    }
+
+    // Facet values of a book; authors, genres and publisher must be initialized
+    public static Document describe(Book book) {
+        Map<Long, String> genres = new LinkedHashMap<>();
+        if (book.getGenres() != null) {
+            for (Genre genre : book.getGenres()) {
+                genres.put(genre.getId(), genre.getName());
+            }
+        }
+        return new Document(book.getId(),
+                book.getLanguage(),
+                book.getPublisher() != null ? book.getPublisher().getId() : null,
+                book.getPublisher() != null ? book.getPublisher().getName() : null,
+                book.getPublicationDate() != null ? book.getPublicationDate().getYear() : null,
+                genres);
+    }
+
+    public void index(Book book) {
+        if (book == null || book.getId() == null) {
+            return;
+        }
+        Document document = describe(book);
+        AfterCommit.run(() -> write(() -> putInternal(document)));
+    }
+
+    public void remove(Long bookId) {
+        if (bookId == null) {
+            return;
+        }
+        AfterCommit.run(() -> write(() -> {
+            Integer doc = docOf.get(bookId);
+            if (doc != null) {
+                clearDocument(doc);
+                live.clear(doc);
+                available.clear(doc);
+            }
+        }));
+    }
+
+    // Follows a rename of a genre or publisher shown as a facet value
+    public void relabel(Facet facet, Long id, String label) {
+        if (id == null || label == null) {
+            return;
+        }
+        AfterCommit.run(() -> write(() -> {
+            Dimension dimension = dimensions.get(facet);
+            Integer ordinal = dimension.ordinals.get(id.toString());
+            if (ordinal != null) {
+                dimension.labels.set(ordinal, label);
+            }
+        }));
+    }
+
+    // Replaces the whole index with books the loader reads from the database; document numbers are reassigned
+    // densely, dropping the gaps left by deletes. Writes that commit while the loader runs are replayed afterwards.
+    public void reload(Supplier<? extends Collection<Document>> loader) {
+        lock.writeLock().lock();
+        try {
+            reloadLog.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Collection<Document> documents = null;
+        try {
+            documents = loader.get();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (documents != null) {
+                    dimensions = newDimensions();
+                    docOf = new HashMap<>(Math.max(16, documents.size() * 2));
+                    bookOf = new long[Math.max(16, documents.size())];
+                    live = new BitSet(documents.size());
+                    available = new BitSet(documents.size());
+                    for (Document document : documents) {
+                        putInternal(document);
+                    }
+                }
+                reloadLog.end(documents != null);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Matching book ids in document (roughly insertion) order, plus the top facetLimit values of every facet
+    public Result search(Query query, int offset, int limit, int facetLimit) {
+        lock.readLock().lock();
+        try {
+            Map<Facet, BitSet> filters = new EnumMap<>(Facet.class);
+            putIfSelected(filters, Facet.LANGUAGE, dimensions.get(Facet.LANGUAGE).union(query.languages()));
+            putIfSelected(filters, Facet.GENRE, dimensions.get(Facet.GENRE).union(toStrings(query.genreIds())));
+            putIfSelected(filters, Facet.PUBLISHER, dimensions.get(Facet.PUBLISHER).union(toStrings(query.publisherIds())));
+            putIfSelected(filters, Facet.YEAR, yearRange(query.yearFrom(), query.yearTo()));
+            if (query.available() != null) {
+                BitSet availability = (BitSet) live.clone();
+                if (query.available()) {
+                    availability.and(available);
+                } else {
+                    availability.andNot(available);
+                }
+                filters.put(Facet.AVAILABILITY, availability);
+            }
+
+            BitSet matching = intersect(filters, null);
+
+            // Facets without a selection of their own are all counted against the same documents, in one pass
+            Map<BitSet, List<Facet>> passes = new IdentityHashMap<>();
+            for (Facet facet : VALUE_FACETS) {
+                BitSet others = filters.containsKey(facet) ? intersect(filters, facet) : matching;
+                passes.computeIfAbsent(others, bits -> new ArrayList<>()).add(facet);
+            }
+            Map<Facet, List<FacetCount>> facets = new EnumMap<>(Facet.class);
+            passes.forEach((documents, passFacets) -> facets.putAll(count(passFacets, documents, facetLimit)));
+            BitSet availabilityOthers = filters.containsKey(Facet.AVAILABILITY)
+                    ? intersect(filters, Facet.AVAILABILITY) : matching;
+            facets.put(Facet.AVAILABILITY, countAvailability(availabilityOthers));
+
+            List<Long> bookIds = new ArrayList<>(Math.max(0, limit));
+            int skipped = 0;
+            for (int doc = matching.nextSetBit(0); doc >= 0 && bookIds.size() < limit; doc = matching.nextSetBit(doc + 1)) {
+                if (skipped++ >= offset) {
+                    bookIds.add(bookOf[doc]);
+                }
+            }
+            return new Result(matching.cardinality(), bookIds, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void availabilityChanged(Long bookId) {
+        write(() -> {
+            Integer doc = docOf.get(bookId);
+            if (doc != null) {
+                available.set(doc, live.get(doc) && bookAvailabilityIndex.get(bookId).available() > 0);
+            }
+        });
+    }
+
+    @Override
+    public void availabilityReloaded() {
+        write(() -> {
+            available.clear();
+            for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                if (bookAvailabilityIndex.get(bookOf[doc]).available() > 0) {
+                    available.set(doc);
+                }
+            }
+        });
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            reloadLog.apply(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putInternal(Document document) {
+        Integer existing = docOf.get(document.bookId());
+        int doc;
+        if (existing != null) {
+            doc = existing;
+            clearDocument(doc);
+        } else {
+            doc = docOf.size();
+            docOf.put(document.bookId(), doc);
+            if (doc >= bookOf.length) {
+                bookOf = Arrays.copyOf(bookOf, bookOf.length * 2 + 16);
+            }
+            bookOf[doc] = document.bookId();
+        }
+
+        if (document.language() != null && !document.language().isBlank()) {
+            String language = document.language().trim();
+            dimensions.get(Facet.LANGUAGE).add(doc, language, language);
+        }
+        if (document.publisherId() != null) {
+            dimensions.get(Facet.PUBLISHER).add(doc, document.publisherId().toString(), document.publisherName());
+        }
+        if (document.year() != null) {
+            String year = document.year().toString();
+            dimensions.get(Facet.YEAR).add(doc, year, year);
+        }
+        document.genres().forEach((genreId, name) ->
+                dimensions.get(Facet.GENRE).add(doc, genreId.toString(), name));
+
+        live.set(doc);
+        available.set(doc, bookAvailabilityIndex.get(document.bookId()).available() > 0);
+    }
+
+    private void clearDocument(int doc) {
+        for (Facet facet : VALUE_FACETS) {
+            dimensions.get(facet).clear(doc);
+        }
+    }
+
+    private BitSet yearRange(Integer from, Integer to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        Dimension years = dimensions.get(Facet.YEAR);
+        BitSet union = new BitSet();
+        for (int ordinal = 0; ordinal < years.values.size(); ordinal++) {
+            int year = Integer.parseInt(years.values.get(ordinal));
+            if ((from == null || year >= from) && (to == null || year <= to)) {
+                union.or(years.documents.get(ordinal));
+            }
+        }
+        return union;
+    }
+
+    // Live documents passing every filter except the given facet's
+    private BitSet intersect(Map<Facet, BitSet> filters, Facet except) {
+        BitSet result = (BitSet) live.clone();
+        filters.forEach((facet, bits) -> {
+            if (facet != except) {
+                result.and(bits);
+            }
+        });
+        return result;
+    }
+
+    private Map<Facet, List<FacetCount>> count(List<Facet> facets, BitSet matching, int facetLimit) {
+        Dimension[] passDimensions = new Dimension[facets.size()];
+        int[][] perValue = new int[facets.size()][];
+        for (int i = 0; i < passDimensions.length; i++) {
+            passDimensions[i] = dimensions.get(facets.get(i));
+            perValue[i] = new int[passDimensions[i].values.size()];
+        }
+
+        // When most of the catalog matches, walk the documents that do not and subtract them from the totals
+        BitSet walk = matching;
+        boolean complement = matching.cardinality() * 2L > live.cardinality();
+        if (complement) {
+            walk = (BitSet) live.clone();
+            walk.andNot(matching);
+        }
+        for (int doc = walk.nextSetBit(0); doc >= 0; doc = walk.nextSetBit(doc + 1)) {
+            for (int i = 0; i < passDimensions.length; i++) {
+                passDimensions[i].count(doc, perValue[i]);
+            }
+        }
+        if (complement) {
+            for (int i = 0; i < passDimensions.length; i++) {
+                for (int ordinal = 0; ordinal < perValue[i].length; ordinal++) {
+                    perValue[i][ordinal] = passDimensions[i].totals[ordinal] - perValue[i][ordinal];
+                }
+            }
+        }
+
+        Map<Facet, List<FacetCount>> result = new EnumMap<>(Facet.class);
+        for (int i = 0; i < passDimensions.length; i++) {
+            Dimension dimension = passDimensions[i];
+            List<FacetCount> counts = new ArrayList<>();
+            for (int ordinal = 0; ordinal < perValue[i].length; ordinal++) {
+                if (perValue[i][ordinal] > 0) {
+                    counts.add(new FacetCount(dimension.values.get(ordinal), dimension.labels.get(ordinal), perValue[i][ordinal]));
+                }
+            }
+            counts.sort(Comparator.comparingInt(FacetCount::count).reversed().thenComparing(FacetCount::value));
+            result.put(facets.get(i), counts.size() > facetLimit ? new ArrayList<>(counts.subList(0, facetLimit)) : counts);
+        }
+        return result;
+    }
+
+    private List<FacetCount> countAvailability(BitSet matching) {
+        BitSet availableMatching = (BitSet) matching.clone();
+        availableMatching.and(available);
+        int availableCount = availableMatching.cardinality();
+        return List.of(new FacetCount(AVAILABLE, "Available now", availableCount),
+                new FacetCount(NOT_AVAILABLE, "No copy available", matching.cardinality() - availableCount));
+    }
+
+    private static void putIfSelected(Map<Facet, BitSet> filters, Facet facet, BitSet bits) {
+        if (bits != null) {
+            filters.put(facet, bits);
+        }
+    }
+
+    private static List<String> toStrings(Collection<Long> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().map(String::valueOf).toList();
+    }
+
+    private static Map<Facet, Dimension> newDimensions() {
+        Map<Facet, Dimension> dimensions = new EnumMap<>(Facet.class);
+        for (Facet facet : VALUE_FACETS) {
+            dimensions.put(facet, new Dimension(facet == Facet.GENRE));
+        }
+        return dimensions;
+    }
+}
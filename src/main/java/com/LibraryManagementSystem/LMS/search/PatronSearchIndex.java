@@ -0,0 +1,182 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Typo-tolerant lookup of people by name, email or phone number for the circulation desk, replacing
+// '%name%' scans that no B-tree index can serve. Each directory (members, staff) has its own trigram index;
+// writes are applied when the surrounding transaction commits and every search runs under a time budget.
+@Component
+public class PatronSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PatronSearchIndex.class);
+
+    // Query digits are joined into one term when the query looks like a phone number
+    private static final int MIN_PHONE_DIGITS = 3;
+
+    public enum Directory {
+        USERS,
+        LIBRARIANS
+    }
+
+    public record Entry(Long id, String name, String email, String phoneNumber) {
+    }
+
+    private final AtomicReferenceArray<TrigramIndex> indexes = new AtomicReferenceArray<>(Directory.values().length);
+
+    // Per directory: writes and reload swaps take the lock, so writes made during a reload can be replayed
+    private final ReentrantLock[] writeLocks = new ReentrantLock[Directory.values().length];
+    private final ReloadLog[] reloadLogs = new ReloadLog[Directory.values().length];
+
+    @Value("${lms.search.patron.budget-ms:25}")
+    private Long budgetMs;
+
+    @Value("${lms.search.patron.max-candidates:5000}")
+    private Integer maxCandidates;
+
+    @Value("${lms.search.patron.min-similarity:0.3}")
+    private Double minSimilarity;
+
+    public PatronSearchIndex() {
+        for (Directory directory : Directory.values()) {
+            indexes.set(directory.ordinal(), new TrigramIndex());
+            writeLocks[directory.ordinal()] = new ReentrantLock();
+            reloadLogs[directory.ordinal()] = new ReloadLog();
+        }
+    }
+
+    public void index(Directory directory, Entry entry) {
+        if (entry == null || entry.id() == null) {
+            return;
+        }
+        List<String> words = words(entry);
+        AfterCommit.run(() -> write(directory, () -> current(directory).put(entry.id(), words)));
+    }
+
+    public void remove(Directory directory, Long id) {
+        if (id != null) {
+            AfterCommit.run(() -> write(directory, () -> current(directory).remove(id)));
+        }
+    }
+
+    // Builds a fresh index from the entries the loader reads and swaps it in, so searches keep running during
+    // a reload. Writes that commit while the loader runs are replayed on the fresh index.
+    public void reload(Directory directory, Supplier<Collection<Entry>> loader) {
+        ReentrantLock writeLock = writeLocks[directory.ordinal()];
+        ReloadLog reloadLog = reloadLogs[directory.ordinal()];
+        writeLock.lock();
+        try {
+            reloadLog.begin();
+        } finally {
+            writeLock.unlock();
+        }
+
+        TrigramIndex fresh = null;
+        try {
+            TrigramIndex built = new TrigramIndex();
+            for (Entry entry : loader.get()) {
+                if (entry.id() != null) {
+                    built.put(entry.id(), words(entry));
+                }
+            }
+            fresh = built;
+        } finally {
+            writeLock.lock();
+            try {
+                if (fresh != null) {
+                    indexes.set(directory.ordinal(), fresh);
+                }
+                reloadLog.end(fresh != null);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    public int size(Directory directory) {
+        return current(directory).size();
+    }
+
+    // Ids ranked best match first. A search that runs out of budget returns the best matches scored so far.
+    public List<Long> search(Directory directory, String query, int limit) {
+        List<String> queryWords = queryWords(query);
+        if (queryWords.isEmpty()) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        TrigramIndex.Result result = current(directory).search(queryWords, limit, minSimilarity, maxCandidates,
+                start + TimeUnit.MILLISECONDS.toNanos(budgetMs));
+        if (!result.complete()) {
+            logger.debug("{} search for '{}' cut short after {} ms", directory, query,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return result.ids();
+    }
+
+    private void write(Directory directory, Runnable change) {
+        ReentrantLock writeLock = writeLocks[directory.ordinal()];
+        writeLock.lock();
+        try {
+            reloadLogs[directory.ordinal()].apply(change);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private TrigramIndex current(Directory directory) {
+        return indexes.get(directory.ordinal());
+    }
+
+    private List<String> words(Entry entry) {
+        List<String> words = new ArrayList<>(TextNormalizer.tokenize(entry.name()));
+        // "jane.doe@example.com" -> jane, doe, example, com
+        words.addAll(TextNormalizer.tokenize(entry.email()));
+        String digits = digitsOf(entry.phoneNumber());
+        if (!digits.isEmpty()) {
+            words.add(digits);
+        }
+        return words;
+    }
+
+    private List<String> queryWords(String query) {
+        String digits = digitsOf(query);
+        if (digits.length() >= MIN_PHONE_DIGITS && !containsLetter(query)) {
+            return List.of(digits);
+        }
+        return TextNormalizer.tokenize(query);
+    }
+
+    private static String digitsOf(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    private static boolean containsLetter(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isLetter(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import com.LibraryManagementSystem.LMS.service.interfaces.LibrarianService;
+import com.LibraryManagementSystem.LMS.service.interfaces.UserService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Loads members and staff into the patron search index at startup and reloads them periodically,
+// picking up accounts created or changed on other nodes
+@Component
+public class PatronSearchIndexInitializer {
+
+    private final UserService userService;
+    private final LibrarianService librarianService;
+
+    public PatronSearchIndexInitializer(UserService userService, LibrarianService librarianService) {
+        this.userService = userService;
+        this.librarianService = librarianService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        userService.rebuildSearchIndex();
+        librarianService.rebuildSearchIndex();
+    }
+
+    @Scheduled(initialDelayString = "${lms.search.patron.refresh-ms:300000}",
+               fixedDelayString = "${lms.search.patron.refresh-ms:300000}")
+    public void refreshIndex() {
+        buildIndex();
+    }
+}
@@ -0,0 +1,36 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Index writes applied while a reload is reading its snapshot from the database. The snapshot may have been
+// read before those writes committed, so they are replayed on the fresh copy right after it is swapped in.
+// Every write sets an entry to a state, so replaying one the snapshot already has is harmless.
+// Not thread-safe: callers hold the index's write lock around every call.
+final class ReloadLog {
+
+    private final List<Runnable> writes = new ArrayList<>();
+    private int reloads;
+
+    void begin() {
+        reloads++;
+    }
+
+    // Applies the write to the live index and keeps it while any reload is running
+    void apply(Runnable write) {
+        write.run();
+        if (reloads > 0) {
+            writes.add(write);
+        }
+    }
+
+    // Called once the fresh copy is live (or the reload failed and nothing was swapped)
+    void end(boolean swapped) {
+        if (swapped) {
+            writes.forEach(Runnable::run);
+        }
+        if (--reloads == 0) {
+            writes.clear();
+        }
+    }
+}
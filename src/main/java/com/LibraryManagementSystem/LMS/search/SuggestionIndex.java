@@ -0,0 +1,429 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import com.LibraryManagementSystem.LMS.entity.Author;
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.Genre;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// Type-ahead over titles and the authors, genres and publishers that appear on them, held in a radix trie.
+// Every node caches the best TOP_K suggestions of its subtree (by borrow count), so a lookup is one walk down
+// the prefix and a copy of at most TOP_K entries, whatever the catalog size. An author, genre or publisher
+// is suggested while at least one indexed book refers to it.
+@Component
+public class SuggestionIndex {
+
+    public static final int TOP_K = 10;
+
+    // One character matches too much of the catalog to be a useful suggestion
+    public static final int MIN_PREFIX_LENGTH = 2;
+
+    // Besides the full text, each later word of a name is a key too ("potter" finds "Harry Potter"), up to this many
+    private static final int MAX_WORD_KEYS = 4;
+
+    private static final Suggestion[] NONE = new Suggestion[0];
+
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingLong(Suggestion::weight).reversed()
+            .thenComparing(Suggestion::text)
+            .thenComparing(Suggestion::kind)
+            .thenComparing(Suggestion::id);
+
+    public enum Kind {
+        TITLE,
+        AUTHOR,
+        GENRE,
+        PUBLISHER
+    }
+
+    // weight is the number of loans behind the suggestion: of the book, or of all books by the author etc.
+    public record Suggestion(Kind kind, Long id, String text, long weight) {
+
+        boolean sameEntry(Suggestion other) {
+            return kind == other.kind && id.equals(other.id);
+        }
+    }
+
+    // A book's suggestions: its title first, then its authors, genres and publisher
+    public record Document(Long bookId, List<Suggestion> suggestions) {
+    }
+
+    private record EntryKey(Kind kind, Long id) {
+    }
+
+    private static final class Node {
+        String label;
+        final Map<Character, Node> children = new HashMap<>(4);
+        final List<Suggestion> terminals = new ArrayList<>(1);
+        Suggestion[] top = NONE;
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private Node root = new Node("");
+    private final Map<EntryKey, Suggestion> entries = new HashMap<>();
+    // Authors, genres and publisher each indexed book refers to, and how many books refer to each of them
+    private final Map<Long, List<EntryKey>> bookReferences = new HashMap<>();
+    private final Map<EntryKey, Integer> referenceCounts = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReloadLog reloadLog = new ReloadLog();
+
+    // Best suggestions whose text, or a later word of it, starts with the prefix
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = TextNormalizer.normalize(prefix);
+        if (key.length() < MIN_PREFIX_LENGTH || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int matched = 0;
+            while (matched < key.length()) {
+                Node child = node.children.get(key.charAt(matched));
+                if (child == null) {
+                    return List.of();
+                }
+                String label = child.label;
+                int common = commonPrefixLength(label, key, matched);
+                if (common < label.length() && matched + common < key.length()) {
+                    return List.of();
+                }
+                matched += common;
+                node = child;
+            }
+
+            Suggestion[] top = node.top;
+            return List.of(top).subList(0, Math.min(limit, top.length));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Adds or re-keys a book and its authors, genres and publisher; loan counts already recorded are kept.
+    // Names the book no longer refers to are dropped once no other book refers to them either.
+    public void index(Book book) {
+        if (book == null || book.getId() == null) {
+            return;
+        }
+        Document document = describe(book, 0);
+        AfterCommit.run(() -> write(() -> {
+            for (Suggestion update : document.suggestions()) {
+                Suggestion current = entries.get(new EntryKey(update.kind(), update.id()));
+                long weight = current != null ? current.weight() : 0;
+                putInternal(new Suggestion(update.kind(), update.id(), update.text(), weight));
+            }
+            // Count the new references before releasing the old ones, so names the book keeps stay put
+            List<EntryKey> references = referencesOf(document);
+            references.forEach(key -> referenceCounts.merge(key, 1, Integer::sum));
+            List<EntryKey> previous = bookReferences.put(document.bookId(), references);
+            if (previous != null) {
+                previous.forEach(this::release);
+            }
+        }));
+    }
+
+    // Drops a deleted book's title, and its authors, genres and publisher unless another book refers to them
+    public void removeBook(Long bookId) {
+        if (bookId == null) {
+            return;
+        }
+        AfterCommit.run(() -> write(() -> {
+            removeInternal(new EntryKey(Kind.TITLE, bookId));
+            List<EntryKey> previous = bookReferences.remove(bookId);
+            if (previous != null) {
+                previous.forEach(this::release);
+            }
+        }));
+    }
+
+    // Follows a rename of an author, genre or publisher; entities no book refers to are not suggested
+    public void rename(Kind kind, Long id, String text) {
+        if (id == null) {
+            return;
+        }
+        AfterCommit.run(() -> write(() -> {
+            Suggestion current = entries.get(new EntryKey(kind, id));
+            if (current != null && text != null && !text.equals(current.text())) {
+                putInternal(new Suggestion(kind, id, text, current.weight()));
+            }
+        }));
+    }
+
+    public void remove(Kind kind, Long id) {
+        if (id == null) {
+            return;
+        }
+        AfterCommit.run(() -> write(() -> removeInternal(new EntryKey(kind, id))));
+    }
+
+    // A copy of the book was lent: the title and everything on it become a little more likely to be suggested
+    public void recordBorrow(Book book) {
+        if (book == null || book.getId() == null) {
+            return;
+        }
+        List<Suggestion> borrowed = describe(book, 0).suggestions();
+        AfterCommit.run(() -> write(() -> {
+            for (Suggestion suggestion : borrowed) {
+                Suggestion current = entries.get(new EntryKey(suggestion.kind(), suggestion.id()));
+                if (current != null) {
+                    putInternal(new Suggestion(current.kind(), current.id(), current.text(), current.weight() + 1));
+                }
+            }
+        }));
+    }
+
+    // Replaces the whole index with books the loader reads from the database. An author, genre or publisher
+    // listed once per book is merged into one suggestion carrying the sum of those books' loans. Writes that
+    // commit while it runs are replayed afterwards; a borrow the snapshot already counted then weighs twice,
+    // which only nudges the ranking until the next reload.
+    public void reload(Supplier<? extends Collection<Document>> loader) {
+        lock.writeLock().lock();
+        try {
+            reloadLog.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<EntryKey, Suggestion> merged = null;
+        Map<Long, List<EntryKey>> references = new HashMap<>();
+        Map<EntryKey, Integer> counts = new HashMap<>();
+        try {
+            Map<EntryKey, Suggestion> built = new HashMap<>();
+            for (Document document : loader.get()) {
+                for (Suggestion suggestion : document.suggestions()) {
+                    built.merge(new EntryKey(suggestion.kind(), suggestion.id()), suggestion, (a, b) ->
+                            new Suggestion(a.kind(), a.id(), a.text(), a.weight() + b.weight()));
+                }
+                List<EntryKey> keys = referencesOf(document);
+                references.put(document.bookId(), keys);
+                keys.forEach(key -> counts.merge(key, 1, Integer::sum));
+            }
+            merged = built;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (merged != null) {
+                    root = new Node("");
+                    entries.clear();
+                    for (Suggestion suggestion : merged.values()) {
+                        putInternal(suggestion);
+                    }
+                    bookReferences.clear();
+                    bookReferences.putAll(references);
+                    referenceCounts.clear();
+                    referenceCounts.putAll(counts);
+                }
+                reloadLog.end(merged != null);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Title, authors, genres and publisher of a book, each carrying the given weight
+    public static Document describe(Book book, long weight) {
+        List<Suggestion> suggestions = new ArrayList<>();
+        suggestions.add(new Suggestion(Kind.TITLE, book.getId(), book.getTitle(), weight));
+        if (book.getAuthors() != null) {
+            for (Author author : book.getAuthors()) {
+                suggestions.add(new Suggestion(Kind.AUTHOR, author.getId(), author.getName(), weight));
+            }
+        }
+        if (book.getGenres() != null) {
+            for (Genre genre : book.getGenres()) {
+                suggestions.add(new Suggestion(Kind.GENRE, genre.getId(), genre.getName(), weight));
+            }
+        }
+        if (book.getPublisher() != null) {
+            suggestions.add(new Suggestion(Kind.PUBLISHER, book.getPublisher().getId(), book.getPublisher().getName(), weight));
+        }
+        suggestions.removeIf(suggestion -> suggestion.id() == null || suggestion.text() == null);
+        return new Document(book.getId(), suggestions);
+    }
+
+    // Distinct non-title entries of a book; a book listing one author twice still counts once
+    private static List<EntryKey> referencesOf(Document document) {
+        Set<EntryKey> keys = new LinkedHashSet<>();
+        for (Suggestion suggestion : document.suggestions()) {
+            if (suggestion.kind() != Kind.TITLE) {
+                keys.add(new EntryKey(suggestion.kind(), suggestion.id()));
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    // One book fewer refers to the entry; the last one takes the suggestion with it
+    private void release(EntryKey key) {
+        Integer remaining = referenceCounts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            removeInternal(key);
+        }
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            reloadLog.apply(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putInternal(Suggestion suggestion) {
+        EntryKey entryKey = new EntryKey(suggestion.kind(), suggestion.id());
+        removeInternal(entryKey);
+        for (String key : keys(suggestion.text())) {
+            insert(key, suggestion);
+        }
+        entries.put(entryKey, suggestion);
+    }
+
+    private void removeInternal(EntryKey entryKey) {
+        Suggestion existing = entries.remove(entryKey);
+        if (existing == null) {
+            return;
+        }
+        for (String key : keys(existing.text())) {
+            delete(key, existing);
+        }
+    }
+
+    private void insert(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int matched = 0;
+        while (matched < key.length()) {
+            char next = key.charAt(matched);
+            Node child = node.children.get(next);
+            if (child == null) {
+                child = new Node(key.substring(matched));
+                node.children.put(next, child);
+                matched = key.length();
+            } else {
+                int common = commonPrefixLength(child.label, key, matched);
+                if (common < child.label.length()) {
+                    child = split(node, child, common);
+                }
+                matched += common;
+            }
+            node = child;
+            path.add(node);
+        }
+
+        node.terminals.add(suggestion);
+        recomputeTop(path);
+    }
+
+    private void delete(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int matched = 0;
+        while (matched < key.length()) {
+            node = node.children.get(key.charAt(matched));
+            if (node == null || !key.startsWith(node.label, matched)) {
+                return;
+            }
+            matched += node.label.length();
+            path.add(node);
+        }
+
+        node.terminals.removeIf(suggestion::sameEntry);
+        // Drop nodes left with nothing below them
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node current = path.get(i);
+            if (!current.terminals.isEmpty() || !current.children.isEmpty()) {
+                break;
+            }
+            path.get(i - 1).children.remove(current.label.charAt(0));
+            path.remove(i);
+        }
+        recomputeTop(path);
+    }
+
+    // Splits child's edge after `at` characters, returning the new intermediate node
+    private Node split(Node parent, Node child, int at) {
+        Node middle = new Node(child.label.substring(0, at));
+        child.label = child.label.substring(at);
+        middle.children.put(child.label.charAt(0), child);
+        middle.top = child.top;
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    // Bottom-up along the path that changed: each node keeps the best TOP_K of its terminals and children's tops
+    private void recomputeTop(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            List<Suggestion> candidates = new ArrayList<>(node.terminals);
+            for (Node child : node.children.values()) {
+                candidates.addAll(List.of(child.top));
+            }
+            candidates.sort(RANKING);
+
+            List<Suggestion> best = new ArrayList<>(Math.min(TOP_K, candidates.size()));
+            Set<EntryKey> seen = new HashSet<>();
+            for (Suggestion candidate : candidates) {
+                if (best.size() == TOP_K) {
+                    break;
+                }
+                // The same suggestion can sit under several keys in one subtree ("ab ab" under "ab")
+                if (seen.add(new EntryKey(candidate.kind(), candidate.id()))) {
+                    best.add(candidate);
+                }
+            }
+            node.top = best.toArray(NONE);
+        }
+    }
+
+    private static List<String> keys(String text) {
+        String normalized = TextNormalizer.normalize(text);
+        Set<String> keys = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        keys.add(normalized);
+        int from = 0;
+        for (int i = 0; i < MAX_WORD_KEYS; i++) {
+            int space = normalized.indexOf(' ', from);
+            if (space < 0) {
+                break;
+            }
+            from = space + 1;
+            keys.add(normalized.substring(from));
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+}
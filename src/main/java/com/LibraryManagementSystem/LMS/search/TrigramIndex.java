@@ -0,0 +1,243 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Character trigram index over short documents made of words (trigram -> document ids). Words are padded
+// the way pg_trgm pads them ("  ab", " abc", "bc ") so the start of a word counts for more than its middle.
+final class TrigramIndex {
+
+    private static final double PREFIX_SCORE = 0.9;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_INFIX_LENGTH = 4;
+    // Deadline is checked once per this many candidates rather than on every one
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    record Result(List<Long> ids, boolean complete) {
+    }
+
+    private record Word(String text, Set<String> trigrams) {
+    }
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, List<Word>> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(Long id, List<String> words) {
+        List<Word> document = toWords(words);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            for (Word word : document) {
+                for (String trigram : word.trigrams()) {
+                    postings.computeIfAbsent(trigram, t -> new HashSet<>()).add(id);
+                }
+            }
+            documents.put(id, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Ranks documents by the average, over query words, of each word's best match in the document. Candidates
+    // sharing the most trigrams with the query are scored first; scoring stops at maxCandidates or the deadline,
+    // in which case the result is the best of what was scored and complete is false.
+    Result search(List<String> queryWords, int limit, double minSimilarity, int maxCandidates, long deadlineNanos) {
+        List<Word> query = toWords(queryWords);
+        if (query.isEmpty() || limit <= 0) {
+            return new Result(Collections.emptyList(), true);
+        }
+
+        Set<String> queryTrigrams = new HashSet<>();
+        int fewestTrigrams = Integer.MAX_VALUE;
+        for (Word word : query) {
+            queryTrigrams.addAll(word.trigrams());
+            fewestTrigrams = Math.min(fewestTrigrams, word.trigrams().size());
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> hits = new HashMap<>();
+            for (String trigram : queryTrigrams) {
+                Set<Long> posting = postings.get(trigram);
+                if (posting != null) {
+                    for (Long id : posting) {
+                        hits.merge(id, 1, Integer::sum);
+                    }
+                }
+            }
+
+            // Cheap lower bound: a document reaching minSimilarity shares at least this many trigrams with some query word
+            int minHits = Math.max(1, (int) Math.ceil(minSimilarity * fewestTrigrams));
+            List<List<Long>> byHits = new ArrayList<>(queryTrigrams.size() + 1);
+            for (int i = 0; i <= queryTrigrams.size(); i++) {
+                byHits.add(new ArrayList<>());
+            }
+            hits.forEach((id, count) -> {
+                if (count >= minHits) {
+                    byHits.get(count).add(id);
+                }
+            });
+
+            Map<Long, Double> scores = new HashMap<>();
+            int scored = 0;
+            boolean complete = true;
+            scoring:
+            for (int count = queryTrigrams.size(); count >= minHits; count--) {
+                for (Long id : byHits.get(count)) {
+                    if (scored >= maxCandidates
+                            || (scored % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadlineNanos > 0)) {
+                        complete = false;
+                        break scoring;
+                    }
+                    scored++;
+                    double score = score(query, documents.get(id));
+                    if (score >= minSimilarity) {
+                        scores.put(id, score);
+                    }
+                }
+            }
+
+            return new Result(topK(scores, limit), complete);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double score(List<Word> query, List<Word> document) {
+        double total = 0;
+        for (Word queryWord : query) {
+            double best = 0;
+            for (Word word : document) {
+                best = Math.max(best, similarity(queryWord, word));
+                if (best == 1.0) {
+                    break;
+                }
+            }
+            total += best;
+        }
+        return total / query.size();
+    }
+
+    // Exact 1, prefix (or, for digit strings such as the last digits of a phone number, infix) 0.9,
+    // otherwise shared trigrams over the larger trigram set so a long word cannot match everything
+    private double similarity(Word queryWord, Word word) {
+        String q = queryWord.text();
+        String w = word.text();
+        if (w.equals(q)) {
+            return 1.0;
+        }
+        if ((q.length() >= MIN_PREFIX_LENGTH && w.startsWith(q))
+                || (q.length() >= MIN_INFIX_LENGTH && isDigits(q) && w.contains(q))) {
+            return PREFIX_SCORE;
+        }
+
+        int shared = 0;
+        for (String trigram : queryWord.trigrams()) {
+            if (word.trigrams().contains(trigram)) {
+                shared++;
+            }
+        }
+        return (double) shared / Math.max(queryWord.trigrams().size(), word.trigrams().size());
+    }
+
+    private List<Long> topK(Map<Long, Double> scores, int limit) {
+        Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Math.min(limit, scores.size()) + 1, byScore);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ids.add(heap.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private void removeInternal(Long id) {
+        List<Word> document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+
+        for (Word word : document) {
+            for (String trigram : word.trigrams()) {
+                Set<Long> posting = postings.get(trigram);
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Word> toWords(List<String> texts) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text != null && !text.isEmpty()) {
+                distinct.add(text);
+            }
+        }
+
+        List<Word> words = new ArrayList<>(distinct.size());
+        for (String text : distinct) {
+            words.add(new Word(text, trigrams(text)));
+        }
+        return words;
+    }
+
+    private static Set<String> trigrams(String word) {
+        String padded = "  " + word + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static boolean isDigits(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -36,9 +36,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
             String token = authHeader.substring(7);
 
             try {
-                if(jwtUtil.validateToken(token)) {
-                    String email = jwtUtil.extractEmail(token);
-                    String role = jwtUtil.extractRole(token);
+                // One parse (or a cache hit) yields both the verdict and the claims
+                VerifiedToken verified = jwtUtil.verify(token);
+                if(verified != null) {
+                    String email = verified.email();
+                    String role = verified.role();
 
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         email, 
@@ -20,18 +20,19 @@ public class JwtUtil {
     
     private final SecretKey secretKey;
     private final Long expiration;
+    // Immutable and thread-safe, built once instead of per parse
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
 
     private Claims extractClaims(String token) {
-        return Jwts.parser()
-               .verifyWith(secretKey)
-               .build()
-               .parseSignedClaims(token)
-               .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public JwtUtil(JwtConfig jwtConfig) {
         this.secretKey = Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes());
         this.expiration = jwtConfig.getExpiration();
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokens = new VerifiedTokenCache(jwtConfig.getClaimsCacheMaxSize());
     }
     
     public String generateToken(String email, String role) {
@@ -66,7 +67,30 @@ public class JwtUtil {
         }
     }
 
+    // Validates the token and returns its subject and role in one parse, or null when it lacks either.
+    // Tokens seen before are answered from the cache until they expire, skipping signature verification.
+    public VerifiedToken verify(String token) {
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verifiedTokens.get(token, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = validateClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(), claims.get("role", String.class), claims.getExpiration().getTime());
+        verifiedTokens.put(token, verified, now);
+        return verified;
+    }
+
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    private Claims validateClaims(String token) {
         try {
             Claims claims = extractClaims(token);
             
@@ -79,17 +103,17 @@ public class JwtUtil {
             // Verify subject exists
             if (claims.getSubject() == null || claims.getSubject().isEmpty()) {
                 logger.error("Token subject is missing");
-                return false;
+                return null;
             }
             
             // Verify role exists
             String role = claims.get("role", String.class);
             if (role == null || role.isEmpty()) {
                 logger.error("Token role claim is missing");
-                return false;
+                return null;
             }
             
-            return true;
+            return claims;
         } catch (ExpiredJwtException e) {
             logger.error("JWT token is expired: {}", e.getMessage());
             throw e; // Re-throw to be caught by exception handler
@@ -104,7 +128,7 @@ public class JwtUtil {
             throw e;
         } catch (IllegalArgumentException e) {
             logger.error("JWT token is invalid: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 }
@@ -0,0 +1,5 @@
+package com.LibraryManagementSystem.LMS.security;
+
+// Identity carried by a token whose signature and claims have been checked
+public record VerifiedToken(String email, String role, long expiresAtMillis) {
+}
@@ -0,0 +1,76 @@
+package com.LibraryManagementSystem.LMS.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// Tokens whose signature has already been verified, keyed by a SHA-256 of the token so the raw credential
+// is not kept in memory. Entries die at the token's own expiry; past maxSize Caffeine evicts the least
+// useful ones in the background, so a full cache costs a put nothing extra.
+class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> entries;
+    private final int maxSize;
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    VerifiedToken get(String token, long now) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        VerifiedToken verified = entries.getIfPresent(keyOf(token));
+        // Caffeine expires on its own clock; the caller's clock decides
+        if (verified != null && verified.expiresAtMillis() <= now) {
+            return null;
+        }
+        return verified;
+    }
+
+    void put(String token, VerifiedToken verified, long now) {
+        if (maxSize <= 0 || verified.expiresAtMillis() <= now) {
+            return;
+        }
+        entries.put(keyOf(token), verified);
+    }
+
+    private static String keyOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.LibraryManagementSystem.LMS.service;
 
+import com.LibraryManagementSystem.LMS.cache.CatalogVersionIndex;
 import com.LibraryManagementSystem.LMS.entity.Author;
 import com.LibraryManagementSystem.LMS.exception.ResourceNotFoundException;
 import com.LibraryManagementSystem.LMS.repository.AuthorRepository;
+import com.LibraryManagementSystem.LMS.repository.BookRepository;
+import com.LibraryManagementSystem.LMS.search.SuggestionIndex;
 import com.LibraryManagementSystem.LMS.service.interfaces.AuthorService;
+import com.LibraryManagementSystem.LMS.service.interfaces.BookService;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,13 +19,24 @@ import java.util.List;
 public class AuthorServiceImpl implements AuthorService {
     
     private final AuthorRepository authorRepository;
+    private final BookRepository bookRepository;
+    private final BookService bookService;
+    private final CatalogVersionIndex catalogVersionIndex;
+    private final SuggestionIndex suggestionIndex;
     
-    public AuthorServiceImpl(AuthorRepository authorRepository) {
+    public AuthorServiceImpl(AuthorRepository authorRepository, BookRepository bookRepository,
+                             BookService bookService, CatalogVersionIndex catalogVersionIndex,
+                             SuggestionIndex suggestionIndex) {
         this.authorRepository = authorRepository;
+        this.bookRepository = bookRepository;
+        this.bookService = bookService;
+        this.catalogVersionIndex = catalogVersionIndex;
+        this.suggestionIndex = suggestionIndex;
     }
     
     @Override
     public Author create(Author author) {
+        catalogVersionIndex.changed(CatalogVersionIndex.Catalog.AUTHORS);
         return authorRepository.save(author);
     }
     
@@ -40,6 +55,7 @@ public class AuthorServiceImpl implements AuthorService {
     
     @Override
     public Author update(Long id, Author author) {
+        catalogVersionIndex.changed(CatalogVersionIndex.Catalog.AUTHORS);
         Author existingAuthor = authorRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Author", "id", id));
         
@@ -48,15 +64,20 @@ public class AuthorServiceImpl implements AuthorService {
         existingAuthor.setBirthDate(author.getBirthDate());
         existingAuthor.setNationality(author.getNationality());
         
-        return authorRepository.save(existingAuthor);
+        Author saved = authorRepository.save(existingAuthor);
+        suggestionIndex.rename(SuggestionIndex.Kind.AUTHOR, id, saved.getName());
+        bookService.reindexSearch(bookRepository.findIdsByAuthorId(id));
+        return saved;
     }
     
     @Override
     public void delete(Long id) {
+        catalogVersionIndex.changed(CatalogVersionIndex.Catalog.AUTHORS);
         Author author = authorRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Author", "id", id));
         
         authorRepository.delete(author);
+        suggestionIndex.remove(SuggestionIndex.Kind.AUTHOR, id);
     }
 }
 
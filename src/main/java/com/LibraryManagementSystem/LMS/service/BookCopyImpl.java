@@ -5,24 +5,43 @@ import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
 import com.LibraryManagementSystem.LMS.exception.ResourceNotFoundException;
 import com.LibraryManagementSystem.LMS.repository.BookCopyRepository;
 import com.LibraryManagementSystem.LMS.repository.BookRepository;
+import com.LibraryManagementSystem.LMS.search.BarcodeIndex;
+import com.LibraryManagementSystem.LMS.search.BookAvailabilityIndex;
 import com.LibraryManagementSystem.LMS.service.interfaces.BookCopyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class BookCopyImpl implements BookCopyService {
     
+    private static final Logger logger = LoggerFactory.getLogger(BookCopyImpl.class);
+    
     private final BookCopyRepository bookCopyRepository;
     private final BookRepository bookRepository;
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+    private final BarcodeIndex barcodeIndex;
     
-    public BookCopyImpl(BookCopyRepository bookCopyRepository, BookRepository bookRepository) {
+    public BookCopyImpl(BookCopyRepository bookCopyRepository, BookRepository bookRepository,
+                        BookAvailabilityIndex bookAvailabilityIndex, BarcodeIndex barcodeIndex) {
         this.bookCopyRepository = bookCopyRepository;
         this.bookRepository = bookRepository;
+        this.bookAvailabilityIndex = bookAvailabilityIndex;
+        this.barcodeIndex = barcodeIndex;
     }
     
     // Core CRUD methods
@@ -40,7 +59,11 @@ public class BookCopyImpl implements BookCopyService {
                 .orElseThrow(() -> new ResourceNotFoundException("Book", "id", bookCopy.getBook().getId()));
         }
         
-        return bookCopyRepository.save(bookCopy);
+        BookCopy savedBookCopy = bookCopyRepository.save(bookCopy);
+        bookAvailabilityIndex.index(savedBookCopy);
+        barcodeIndex.retitle(savedBookCopy.getBook());
+        barcodeIndex.index(savedBookCopy);
+        return savedBookCopy;
     }
     
     @Override
@@ -62,6 +85,12 @@ public class BookCopyImpl implements BookCopyService {
         return bookCopyRepository.findAll(pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Window<BookCopy> scrollAll(ScrollPosition position, Sort sort, int size) {
+        return bookCopyRepository.findAllBy(position, sort, Limit.of(size));
+    }
+    
     @Override
     public BookCopy update(Long id, BookCopy bookCopy) {
         BookCopy existingBookCopy = bookCopyRepository.findById(id)
@@ -74,6 +103,8 @@ public class BookCopyImpl implements BookCopyService {
             }
         }
         
+        String previousBarcode = existingBookCopy.getBarcode();
+        
         // Update fields
         existingBookCopy.setBarcode(bookCopy.getBarcode());
         existingBookCopy.setCondition(bookCopy.getCondition());
@@ -82,7 +113,11 @@ public class BookCopyImpl implements BookCopyService {
         existingBookCopy.setLocation(bookCopy.getLocation());
         existingBookCopy.setBook(bookCopy.getBook());
         
-        return bookCopyRepository.save(existingBookCopy);
+        BookCopy savedBookCopy = bookCopyRepository.save(existingBookCopy);
+        bookAvailabilityIndex.index(savedBookCopy);
+        barcodeIndex.retitle(savedBookCopy.getBook());
+        barcodeIndex.index(previousBarcode, savedBookCopy);
+        return savedBookCopy;
     }
     
     @Override
@@ -90,6 +125,8 @@ public class BookCopyImpl implements BookCopyService {
         BookCopy bookCopy = bookCopyRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("BookCopy", "id", id));
         bookCopyRepository.delete(bookCopy);
+        bookAvailabilityIndex.removeCopy(bookCopy.getId());
+        barcodeIndex.remove(bookCopy.getBarcode());
     }
     
     // Barcode operations
@@ -97,8 +134,14 @@ public class BookCopyImpl implements BookCopyService {
     @Override
     @Transactional(readOnly = true)
     public BookCopy findByBarcode(String barcode) {
-        return bookCopyRepository.findByBarcode(barcode)
+        BookCopy bookCopy = bookCopyRepository.findByBarcode(barcode)
                 .orElseThrow(() -> new ResourceNotFoundException("BookCopy", "barcode", barcode));
+        // Copies added on another node or outside the services are indexed by their first scan
+        if (barcodeIndex.find(barcode).isEmpty()) {
+            barcodeIndex.retitle(bookCopy.getBook());
+            barcodeIndex.index(bookCopy);
+        }
+        return bookCopy;
     }
     
     // Find by Book relationship
@@ -128,4 +171,38 @@ public class BookCopyImpl implements BookCopyService {
     public Page<BookCopy> findByStatus(BookCopyStatus status, Pageable pageable) {
         return bookCopyRepository.findByStatus(status, pageable);
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuildAvailabilityIndex() {
+        long start = System.currentTimeMillis();
+        bookAvailabilityIndex.reload(() -> {
+            List<BookAvailabilityIndex.Row> rows = new ArrayList<>();
+            try (Stream<BookCopyRepository.CopyStatusRow> stream = bookCopyRepository.streamStatuses()) {
+                stream.forEach(row -> rows.add(new BookAvailabilityIndex.Row(row.getId(), row.getBookId(), row.getStatus())));
+            }
+            return rows;
+        });
+        logger.debug("Availability counters loaded for {} books in {} ms",
+                bookAvailabilityIndex.size(), System.currentTimeMillis() - start);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuildBarcodeIndex() {
+        long start = System.currentTimeMillis();
+        barcodeIndex.reload(() -> {
+            List<BarcodeIndex.Row> rows = new ArrayList<>();
+            try (Stream<BookCopyRepository.BarcodeRow> stream = bookCopyRepository.streamBarcodes()) {
+                stream.forEach(row -> rows.add(new BarcodeIndex.Row(row.getId(), row.getBarcode(), row.getBookId(), row.getStatus())));
+            }
+            Map<Long, String> titles = new HashMap<>();
+            for (BookRepository.TitleRow row : bookRepository.findAllTitles()) {
+                titles.put(row.getId(), row.getTitle());
+            }
+            return new BarcodeIndex.Snapshot(rows, titles);
+        });
+        logger.debug("Barcode index loaded with {} copies in {} ms",
+                barcodeIndex.size(), System.currentTimeMillis() - start);
+    }
 }
@@ -1,41 +1,94 @@
 package com.LibraryManagementSystem.LMS.service;
 
+import com.LibraryManagementSystem.LMS.cache.CatalogVersionIndex;
 import com.LibraryManagementSystem.LMS.entity.Book;
 import com.LibraryManagementSystem.LMS.entity.Publisher;
 import com.LibraryManagementSystem.LMS.enums.BookStatus;
 import com.LibraryManagementSystem.LMS.repository.BookRepository;
+import com.LibraryManagementSystem.LMS.repository.BorrowedRepository;
 import com.LibraryManagementSystem.LMS.repository.PublisherRepository;
+import com.LibraryManagementSystem.LMS.search.BarcodeIndex;
+import com.LibraryManagementSystem.LMS.search.BookAvailabilityIndex;
+import com.LibraryManagementSystem.LMS.search.CatalogSearchIndex;
+import com.LibraryManagementSystem.LMS.search.FacetIndex;
+import com.LibraryManagementSystem.LMS.search.SuggestionIndex;
 import com.LibraryManagementSystem.LMS.service.interfaces.BookService;
 
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.LibraryManagementSystem.LMS.exception.ResourceNotFoundException;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
 @Service
 @Transactional
 public class BookServiceImpl implements BookService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(BookServiceImpl.class);
+    
+    // Number of books loaded per round trip while rebuilding the search index
+    private static final int INDEX_BATCH_SIZE = 500;
+    
     private final BookRepository bookRepository;
     private final PublisherRepository publisherRepository;
+    private final BorrowedRepository borrowedRepository;
+    private final CatalogSearchIndex catalogSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final FacetIndex facetIndex;
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+    private final BarcodeIndex barcodeIndex;
+    private final CatalogVersionIndex catalogVersionIndex;
+    private final EntityManager entityManager;
 
-    public BookServiceImpl(BookRepository bookRepository, PublisherRepository publisherRepository) {
+    public BookServiceImpl(BookRepository bookRepository, PublisherRepository publisherRepository,
+                           BorrowedRepository borrowedRepository, CatalogSearchIndex catalogSearchIndex,
+                           SuggestionIndex suggestionIndex, FacetIndex facetIndex,
+                           BookAvailabilityIndex bookAvailabilityIndex, BarcodeIndex barcodeIndex,
+                           CatalogVersionIndex catalogVersionIndex, EntityManager entityManager) {
         this.bookRepository = bookRepository;
         this.publisherRepository = publisherRepository;
+        this.borrowedRepository = borrowedRepository;
+        this.catalogSearchIndex = catalogSearchIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.facetIndex = facetIndex;
+        this.bookAvailabilityIndex = bookAvailabilityIndex;
+        this.barcodeIndex = barcodeIndex;
+        this.catalogVersionIndex = catalogVersionIndex;
+        this.entityManager = entityManager;
     }
     
     @Override
     public Book create(Book book) {
+        catalogVersionIndex.changed(CatalogVersionIndex.Catalog.BOOKS);
         // Validate ISBN uniqueness before creating
         if (book.getIsbn() != null && bookRepository.existsByIsbn(book.getIsbn())) {
             throw new IllegalArgumentException("Book with ISBN " + book.getIsbn() + " already exists");
         }
-        return bookRepository.save(book);
+        Book savedBook = bookRepository.save(book);
+        catalogSearchIndex.index(savedBook);
+        suggestionIndex.index(savedBook);
+        facetIndex.index(savedBook);
+        barcodeIndex.retitle(savedBook);
+        return savedBook;
     }
 
     @Override
@@ -57,8 +110,15 @@ public class BookServiceImpl implements BookService {
         return bookRepository.findAll(pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Book> scrollAll(ScrollPosition position, Sort sort, int size) {
+        return bookRepository.findAllBy(position, sort, Limit.of(size));
+    }
+    
     @Override
     public Book update(Long id, Book book) {
+        catalogVersionIndex.changed(CatalogVersionIndex.Catalog.BOOKS);
         Book existingBook = bookRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Book", "id", id));
         
@@ -79,14 +139,25 @@ public class BookServiceImpl implements BookService {
         existingBook.setAuthors(book.getAuthors());
         existingBook.setGenres(book.getGenres());
         existingBook.setStatus(book.getStatus());
-        return bookRepository.save(existingBook);
+        Book savedBook = bookRepository.save(existingBook);
+        catalogSearchIndex.index(savedBook);
+        suggestionIndex.index(savedBook);
+        facetIndex.index(savedBook);
+        barcodeIndex.retitle(savedBook);
+        return savedBook;
     }
     
     @Override
     public void delete(Long id) {
+        catalogVersionIndex.changed(CatalogVersionIndex.Catalog.BOOKS);
         Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Book", "id", id));
         bookRepository.delete(book);
+        catalogSearchIndex.remove(id);
+        suggestionIndex.removeBook(id);
+        facetIndex.remove(id);
+        bookAvailabilityIndex.remove(id);
+        barcodeIndex.removeBook(id);
     }
     
     // Additional search and filter methods
@@ -148,4 +219,91 @@ public class BookServiceImpl implements BookService {
     public Page<Book> findByAuthorName(String authorName, Pageable pageable) {
         return bookRepository.findByAuthorName(authorName, pageable);
     }
+    
+    // Full-text search
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> search(String query, int limit) {
+        return findAllByIdInOrder(catalogSearchIndex.search(query, limit));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findAllByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        // Restore the caller's order, the IN query returns rows in arbitrary order
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        return bookRepository.findWithCatalogDetailsByIdIn(ids).stream()
+                .sorted(Comparator.comparingInt(book -> rank.get(book.getId())))
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        long start = System.currentTimeMillis();
+        
+        // One pass over the catalog feeds all three indexes; each reload has begun before the pass starts,
+        // so a book saved while it runs is replayed on the fresh copies
+        AtomicReference<SearchSnapshot> snapshot = new AtomicReference<>();
+        catalogSearchIndex.reload(() -> {
+            suggestionIndex.reload(() -> {
+                facetIndex.reload(() -> {
+                    snapshot.set(loadSearchSnapshot());
+                    return snapshot.get().facets();
+                });
+                return snapshot.get().suggestions();
+            });
+            return snapshot.get().documents();
+        });
+        
+        logger.info("Catalog search index built with {} books, {} suggestions and {} faceted books in {} ms",
+                catalogSearchIndex.size(), suggestionIndex.size(), facetIndex.size(), System.currentTimeMillis() - start);
+    }
+    
+    @Override
+    public void reindexSearch(List<Long> bookIds) {
+        for (int from = 0; from < bookIds.size(); from += INDEX_BATCH_SIZE) {
+            List<Long> batch = bookIds.subList(from, Math.min(from + INDEX_BATCH_SIZE, bookIds.size()));
+            bookRepository.findWithCatalogDetailsByIdIn(batch).forEach(catalogSearchIndex::index);
+        }
+    }
+    
+    private record SearchSnapshot(List<CatalogSearchIndex.Document> documents,
+                                  List<SuggestionIndex.Document> suggestions,
+                                  List<FacetIndex.Document> facets) {
+    }
+    
+    private SearchSnapshot loadSearchSnapshot() {
+        Map<Long, Long> loans = new HashMap<>();
+        for (BorrowedRepository.BorrowCount count : borrowedRepository.countByBook()) {
+            loans.put(count.getBookId(), count.getBorrows());
+        }
+        List<CatalogSearchIndex.Document> documents = new ArrayList<>();
+        List<SuggestionIndex.Document> suggestions = new ArrayList<>();
+        List<FacetIndex.Document> facetDocuments = new ArrayList<>();
+        
+        Long lastId = 0L;
+        Pageable batch = PageRequest.of(0, INDEX_BATCH_SIZE);
+        List<Long> ids = bookRepository.findIdsAfter(lastId, batch);
+        while (!ids.isEmpty()) {
+            for (Book book : bookRepository.findWithCatalogDetailsByIdIn(ids)) {
+                documents.add(CatalogSearchIndex.describe(book));
+                suggestions.add(SuggestionIndex.describe(book, loans.getOrDefault(book.getId(), 0L)));
+                facetDocuments.add(FacetIndex.describe(book));
+            }
+            lastId = ids.get(ids.size() - 1);
+            // Detach the batch so the persistence context does not grow with the catalog
+            entityManager.clear();
+            ids = bookRepository.findIdsAfter(lastId, batch);
+        }
+        return new SearchSnapshot(documents, suggestions, facetDocuments);
+    }
 }
@@ -1,8 +1,11 @@
 package com.LibraryManagementSystem.LMS.service;
 
+import com.LibraryManagementSystem.LMS.config.FineConfig;
 import com.LibraryManagementSystem.LMS.entity.Borrowed;
 import com.LibraryManagementSystem.LMS.entity.BookCopy;
 import com.LibraryManagementSystem.LMS.entity.Fine;
+import com.LibraryManagementSystem.LMS.entity.User;
+import com.LibraryManagementSystem.LMS.enums.BatchItemStatus;
 import com.LibraryManagementSystem.LMS.enums.BorrowStatus;
 import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
 import com.LibraryManagementSystem.LMS.enums.FineStatus;
@@ -11,16 +14,37 @@ import com.LibraryManagementSystem.LMS.repository.BorrowedRepository;
 import com.LibraryManagementSystem.LMS.repository.BookCopyRepository;
 import com.LibraryManagementSystem.LMS.repository.FineRepository;
 import com.LibraryManagementSystem.LMS.repository.UserRepository;
+import com.LibraryManagementSystem.LMS.search.BarcodeIndex;
+import com.LibraryManagementSystem.LMS.search.BookAvailabilityIndex;
+import com.LibraryManagementSystem.LMS.search.SuggestionIndex;
 import com.LibraryManagementSystem.LMS.service.interfaces.BorrowedService;
+import com.LibraryManagementSystem.LMS.service.interfaces.HoldService;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -30,18 +54,39 @@ public class BorrowedImpl implements BorrowedService {
     private final BookCopyRepository bookCopyRepository;
     private final UserRepository userRepository;
     private final FineRepository fineRepository;
+    private final EntityManager entityManager;
+    private final FineConfig fineConfig;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final HoldService holdService;
+    private final BarcodeIndex barcodeIndex;
     
-    // Daily fine rate for overdue books (configurable)
-    private static final BigDecimal DAILY_FINE_RATE = new BigDecimal("5.00");
+    // Rows streamed between persistence context clears
+    private static final int STREAM_CLEAR_INTERVAL = 1000;
     
     public BorrowedImpl(BorrowedRepository borrowedRepository, 
                         BookCopyRepository bookCopyRepository,
                         UserRepository userRepository,
-                        FineRepository fineRepository) {
+                        FineRepository fineRepository,
+                        EntityManager entityManager,
+                        FineConfig fineConfig,
+                        OptimisticLockRetry optimisticLockRetry,
+                        BookAvailabilityIndex bookAvailabilityIndex,
+                        SuggestionIndex suggestionIndex,
+                        HoldService holdService,
+                        BarcodeIndex barcodeIndex) {
         this.borrowedRepository = borrowedRepository;
         this.bookCopyRepository = bookCopyRepository;
         this.userRepository = userRepository;
         this.fineRepository = fineRepository;
+        this.entityManager = entityManager;
+        this.fineConfig = fineConfig;
+        this.optimisticLockRetry = optimisticLockRetry;
+        this.bookAvailabilityIndex = bookAvailabilityIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.holdService = holdService;
+        this.barcodeIndex = barcodeIndex;
     }
     
     // Core CRUD methods
@@ -59,14 +104,26 @@ public class BorrowedImpl implements BorrowedService {
             BookCopy bookCopy = bookCopyRepository.findById(borrowed.getBookCopy().getId())
                 .orElseThrow(() -> new ResourceNotFoundException("BookCopy", "id", borrowed.getBookCopy().getId()));
             
-            // Check if book copy is available
-            if (bookCopy.getStatus() != BookCopyStatus.AVAILABLE) {
+            // Claim the copy with a conditional update rather than check-then-save, so two desks lending
+            // the same copy at once cannot both pass the availability check
+            int claimed = bookCopyRepository.updateStatusIfCurrent(
+                    bookCopy.getId(), BookCopyStatus.AVAILABLE, BookCopyStatus.BORROWED);
+            // A copy set aside for a hold can only be picked up by the patron who placed it
+            if (claimed == 0 && bookCopy.getStatus() == BookCopyStatus.ON_HOLD && borrowed.getUser() != null
+                    && holdService.fulfil(bookCopy, borrowed.getUser().getId())) {
+                claimed = bookCopyRepository.updateStatusIfCurrent(
+                        bookCopy.getId(), BookCopyStatus.ON_HOLD, BookCopyStatus.BORROWED);
+            }
+            if (claimed == 0) {
                 throw new IllegalStateException("Book copy with ID " + bookCopy.getId() + " is not available for borrowing");
             }
             
-            // Update book copy status to BORROWED
-            bookCopy.setStatus(BookCopyStatus.BORROWED);
-            bookCopyRepository.save(bookCopy);
+            // The update bypassed the persistence context; pick up the new status and version
+            entityManager.refresh(bookCopy);
+            borrowed.setBookCopy(bookCopy);
+            bookAvailabilityIndex.index(bookCopy);
+            barcodeIndex.index(bookCopy);
+            suggestionIndex.recordBorrow(bookCopy.getBook());
         }
         
         return borrowedRepository.save(borrowed);
@@ -91,6 +148,28 @@ public class BorrowedImpl implements BorrowedService {
         return borrowedRepository.findAll(pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Borrowed> scrollAll(ScrollPosition position, Sort sort, int size) {
+        return borrowedRepository.findAllBy(position, sort, Limit.of(size));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Borrowed> action) {
+        try (Stream<Borrowed> stream = borrowedRepository.streamAllBy()) {
+            Iterator<Borrowed> iterator = stream.iterator();
+            long count = 0;
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                // Drop already written rows so the persistence context stays flat
+                if (++count % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+    
     @Override
     public Borrowed update(Long id, Borrowed borrowed) {
         Borrowed existingBorrowed = borrowedRepository.findById(id)
@@ -159,12 +238,157 @@ public class BorrowedImpl implements BorrowedService {
     // Business logic methods
     
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Borrowed returnBook(Long borrowedId, LocalDate returnDate) {
+        // A concurrent return, edit or overdue sweep of the same loan or copy fails the version check;
+        // the whole return is then re-run against fresh state
+        return optimisticLockRetry.execute(() -> doReturnBook(borrowedId, returnDate));
+    }
+    
+    private Borrowed doReturnBook(Long borrowedId, LocalDate returnDate) {
         Borrowed borrowed = borrowedRepository.findById(borrowedId)
                 .orElseThrow(() -> new ResourceNotFoundException("Borrowed", "id", borrowedId));
         
-        // Validate not already returned
-        if (borrowed.getStatus() == BorrowStatus.RETURNED || borrowed.getStatus() == BorrowStatus.OVERDUE) {
+        applyReturn(borrowed, returnDate, fineRepository::findByBorrowed);
+        return borrowedRepository.save(borrowed);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<BatchItem> checkoutBatch(Long userId, List<String> barcodes, LocalDate borrowDate, LocalDate dueDate) {
+        // A copy lent or returned elsewhere while the batch runs fails its version check at flush;
+        // the batch is re-run and reports that copy with its new status
+        return optimisticLockRetry.execute(() -> doCheckoutBatch(userId, barcodes, borrowDate, dueDate));
+    }
+    
+    private List<BatchItem> doCheckoutBatch(Long userId, List<String> barcodes, LocalDate borrowDate, LocalDate dueDate) {
+        // The user is checked once for the whole stack
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        Map<String, BookCopy> copies = findCopies(barcodes);
+        
+        List<BatchItem> results = new ArrayList<>(barcodes.size());
+        List<Borrowed> loans = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String barcode : barcodes) {
+            BookCopy bookCopy = copies.get(barcode);
+            BatchItem rejected = reject(barcode, bookCopy, seen);
+            if (rejected != null) {
+                results.add(rejected);
+                continue;
+            }
+            
+            // Plain dirty-checked updates instead of one conditional update per copy, so the whole stack goes out
+            // as one JDBC batch; the copy's version check still stops two desks lending it at once
+            BookCopyStatus from = bookCopy.getStatus();
+            boolean lendable = from == BookCopyStatus.AVAILABLE
+                    || (from == BookCopyStatus.ON_HOLD && holdService.fulfil(bookCopy, userId));
+            if (!lendable) {
+                results.add(new BatchItem(barcode, BatchItemStatus.NOT_AVAILABLE,
+                        "Book copy with ID " + bookCopy.getId() + " is not available for borrowing", null));
+                continue;
+            }
+            
+            bookCopy.setStatus(BookCopyStatus.BORROWED);
+            bookAvailabilityIndex.index(bookCopy);
+            barcodeIndex.index(bookCopy);
+            suggestionIndex.recordBorrow(bookCopy.getBook());
+            
+            Borrowed borrowed = new Borrowed();
+            borrowed.setUser(user);
+            borrowed.setBookCopy(bookCopy);
+            borrowed.setBorrowDate(borrowDate);
+            borrowed.setDueDate(dueDate);
+            loans.add(borrowed);
+            results.add(new BatchItem(barcode, BatchItemStatus.OK, null, borrowed));
+        }
+        
+        // Pooled ids, so the inserts batch as well
+        borrowedRepository.saveAll(loans);
+        return results;
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<BatchItem> returnBatch(List<String> barcodes, LocalDate returnDate) {
+        return optimisticLockRetry.execute(() -> doReturnBatch(barcodes, returnDate));
+    }
+    
+    private List<BatchItem> doReturnBatch(List<String> barcodes, LocalDate returnDate) {
+        Map<String, BookCopy> copies = findCopies(barcodes);
+        
+        Map<Long, Borrowed> openLoans = new HashMap<>();
+        if (!copies.isEmpty()) {
+            List<Long> copyIds = copies.values().stream().map(BookCopy::getId).toList();
+            for (Borrowed borrowed : borrowedRepository.findOpenByBookCopyIdIn(copyIds)) {
+                openLoans.put(borrowed.getBookCopy().getId(), borrowed);
+            }
+        }
+        
+        // Fines the overdue sweep already opened for late loans, in one query rather than one per loan
+        List<Long> lateLoanIds = openLoans.values().stream()
+                .filter(borrowed -> returnDate.isAfter(borrowed.getDueDate()))
+                .map(Borrowed::getId)
+                .toList();
+        Map<Long, Fine> fines = new HashMap<>();
+        if (!lateLoanIds.isEmpty()) {
+            for (Fine fine : fineRepository.findByBorrowedIdIn(lateLoanIds)) {
+                fines.put(fine.getBorrowed().getId(), fine);
+            }
+        }
+        
+        List<BatchItem> results = new ArrayList<>(barcodes.size());
+        Set<String> seen = new HashSet<>();
+        for (String barcode : barcodes) {
+            BookCopy bookCopy = copies.get(barcode);
+            BatchItem rejected = reject(barcode, bookCopy, seen);
+            if (rejected != null) {
+                results.add(rejected);
+                continue;
+            }
+            
+            Borrowed borrowed = openLoans.get(bookCopy.getId());
+            if (borrowed == null) {
+                results.add(new BatchItem(barcode, BatchItemStatus.NOT_BORROWED,
+                        "Book copy with ID " + bookCopy.getId() + " is not on loan", null));
+                continue;
+            }
+            if (returnDate.isBefore(borrowed.getBorrowDate())) {
+                results.add(new BatchItem(barcode, BatchItemStatus.INVALID_DATE,
+                        "Return date cannot be before borrow date", null));
+                continue;
+            }
+            
+            applyReturn(borrowed, returnDate, loan -> Optional.ofNullable(fines.get(loan.getId())));
+            results.add(new BatchItem(barcode, BatchItemStatus.OK, null, borrowed));
+        }
+        
+        return results;
+    }
+    
+    // Copies by barcode, loaded with one IN query
+    private Map<String, BookCopy> findCopies(List<String> barcodes) {
+        Map<String, BookCopy> copies = new HashMap<>();
+        for (BookCopy bookCopy : bookCopyRepository.findByBarcodeIn(new LinkedHashSet<>(barcodes))) {
+            copies.put(bookCopy.getBarcode(), bookCopy);
+        }
+        return copies;
+    }
+    
+    // Unknown barcodes and repeat scans of one, or null when the barcode can be processed
+    private BatchItem reject(String barcode, BookCopy bookCopy, Set<String> seen) {
+        if (!seen.add(barcode)) {
+            return new BatchItem(barcode, BatchItemStatus.DUPLICATE, "Barcode scanned more than once", null);
+        }
+        if (bookCopy == null) {
+            return new BatchItem(barcode, BatchItemStatus.NOT_FOUND, "BookCopy not found with barcode : '" + barcode + "'", null);
+        }
+        return null;
+    }
+    
+    private void applyReturn(Borrowed borrowed, LocalDate returnDate, Function<Borrowed, Optional<Fine>> existingFine) {
+        // Validate not already returned (OVERDUE without a return date is a loan the sweep flagged, still out)
+        if (borrowed.getStatus() == BorrowStatus.RETURNED || borrowed.getReturnDate() != null) {
             throw new IllegalStateException("Book has already been returned");
         }
         
@@ -177,18 +401,21 @@ public class BorrowedImpl implements BorrowedService {
         
         if (isOverdue) {
             long overdueDays = ChronoUnit.DAYS.between(borrowed.getDueDate(), returnDate);
-            BigDecimal fineAmount = DAILY_FINE_RATE.multiply(BigDecimal.valueOf(overdueDays));
+            BigDecimal fineAmount = fineConfig.amountFor(fineConfig.chargeableDays(borrowed.getDueDate(), returnDate));
             
             borrowed.setStatus(BorrowStatus.OVERDUE);
             
-            Fine fine = new Fine();
-            fine.setBorrowed(borrowed);
-            fine.setAmount(fineAmount);
-            fine.setAssessedDate(returnDate);
-            fine.setStatus(FineStatus.PENDING);
-            fine.setReason("Overdue return: " + overdueDays + " day(s) late at $" + DAILY_FINE_RATE + " per day");
-            
-            fineRepository.save(fine);
+            // The overdue sweep may already have opened an accruing fine; settle that one instead of adding another
+            Fine fine = existingFine.apply(borrowed).orElseGet(Fine::new);
+            if (fine.getId() == null || fine.getStatus() == FineStatus.PENDING) {
+                fine.setBorrowed(borrowed);
+                fine.setAmount(fineAmount);
+                fine.setAssessedDate(returnDate);
+                fine.setStatus(FineStatus.PENDING);
+                fine.setReason("Overdue return: " + overdueDays + " day(s) late at $" + fineConfig.getDailyRate() + " per day");
+                
+                fineRepository.save(fine);
+            }
         } else {
             borrowed.setStatus(BorrowStatus.RETURNED);
         }
@@ -196,13 +423,10 @@ public class BorrowedImpl implements BorrowedService {
         // Update borrowed record with return date
         borrowed.setReturnDate(returnDate);
         
-        // Update book copy status back to AVAILABLE
+        // Back on the shelf, or straight onto the hold at the head of the title's queue, in this same transaction
         BookCopy bookCopy = borrowed.getBookCopy();
         if (bookCopy != null) {
-            bookCopy.setStatus(BookCopyStatus.AVAILABLE);
-            bookCopyRepository.save(bookCopy);
+            holdService.releaseCopy(bookCopy);
         }
-        
-        return borrowedRepository.save(borrowed);
     }
 }
@@ -0,0 +1,388 @@
+package com.LibraryManagementSystem.LMS.service;
+
+import com.LibraryManagementSystem.LMS.cache.CatalogVersionIndex;
+import com.LibraryManagementSystem.LMS.entity.Author;
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.Genre;
+import com.LibraryManagementSystem.LMS.entity.ImportJob;
+import com.LibraryManagementSystem.LMS.entity.Publisher;
+import com.LibraryManagementSystem.LMS.enums.BookStatus;
+import com.LibraryManagementSystem.LMS.enums.ImportFormat;
+import com.LibraryManagementSystem.LMS.enums.ImportJobStatus;
+import com.LibraryManagementSystem.LMS.exception.ResourceNotFoundException;
+import com.LibraryManagementSystem.LMS.importer.CatalogRecord;
+import com.LibraryManagementSystem.LMS.importer.CatalogRecordReader;
+import com.LibraryManagementSystem.LMS.repository.AuthorRepository;
+import com.LibraryManagementSystem.LMS.repository.BookRepository;
+import com.LibraryManagementSystem.LMS.repository.GenreRepository;
+import com.LibraryManagementSystem.LMS.repository.ImportJobRepository;
+import com.LibraryManagementSystem.LMS.repository.PublisherRepository;
+import com.LibraryManagementSystem.LMS.search.BarcodeIndex;
+import com.LibraryManagementSystem.LMS.search.CatalogSearchIndex;
+import com.LibraryManagementSystem.LMS.search.FacetIndex;
+import com.LibraryManagementSystem.LMS.search.SuggestionIndex;
+import com.LibraryManagementSystem.LMS.service.interfaces.CatalogImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+// No class-level @Transactional: every chunk commits on its own so a failure only loses the chunk in flight
+@Service
+public class CatalogImportServiceImpl implements CatalogImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogImportServiceImpl.class);
+
+    // Records persisted per transaction; also the checkpoint granularity
+    private static final int CHUNK_SIZE = 500;
+
+    // Column lengths from the entity mappings
+    private static final int ISBN_LENGTH = 20;
+    private static final int TITLE_LENGTH = 300;
+    private static final int DESCRIPTION_LENGTH = 2000;
+    private static final int LANGUAGE_LENGTH = 50;
+    private static final int AUTHOR_NAME_LENGTH = 200;
+    private static final int PUBLISHER_NAME_LENGTH = 200;
+    private static final int GENRE_NAME_LENGTH = 100;
+    private static final int ERROR_LENGTH = 1000;
+
+    private final ImportJobRepository importJobRepository;
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final PublisherRepository publisherRepository;
+    private final GenreRepository genreRepository;
+    private final CatalogSearchIndex catalogSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final FacetIndex facetIndex;
+    private final BarcodeIndex barcodeIndex;
+    private final CatalogVersionIndex catalogVersionIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    public CatalogImportServiceImpl(ImportJobRepository importJobRepository, BookRepository bookRepository,
+                                    AuthorRepository authorRepository, PublisherRepository publisherRepository,
+                                    GenreRepository genreRepository, CatalogSearchIndex catalogSearchIndex,
+                                    SuggestionIndex suggestionIndex, FacetIndex facetIndex,
+                                    BarcodeIndex barcodeIndex, CatalogVersionIndex catalogVersionIndex,
+                                    PlatformTransactionManager transactionManager) {
+        this.importJobRepository = importJobRepository;
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.publisherRepository = publisherRepository;
+        this.genreRepository = genreRepository;
+        this.catalogSearchIndex = catalogSearchIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.facetIndex = facetIndex;
+        this.barcodeIndex = barcodeIndex;
+        this.catalogVersionIndex = catalogVersionIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Per-run dedupe state, keyed by lower-cased name / normalized ISBN. Entities stay usable as
+    // references after their chunk commits because only their ids are written to new rows.
+    private static final class ImportRun {
+        private final Set<String> isbns = new HashSet<>();
+        private final Map<String, Author> authors = new HashMap<>();
+        private final Map<String, Publisher> publishers = new HashMap<>();
+        private final Map<String, Genre> genres = new HashMap<>();
+    }
+
+    @Override
+    public ImportJob importCatalog(ImportFormat format, InputStream input, Long resumeJobId) {
+        ImportJob job = transactionTemplate.execute(status -> startJob(format, resumeJobId));
+        Long jobId = job.getId();
+        long start = System.currentTimeMillis();
+
+        try (CatalogRecordReader reader = CatalogRecordReader.open(format, input)) {
+            // A resumed job is fed the same file again; skip what earlier runs already committed
+            for (long skipped = 0; skipped < job.getRecordsRead(); skipped++) {
+                if (reader.next() == null) {
+                    throw new IllegalArgumentException("Import source ends before the checkpoint of job " + jobId
+                            + " (" + job.getRecordsRead() + " records)");
+                }
+            }
+
+            ImportRun run = new ImportRun();
+            List<CatalogRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+            CatalogRecord record;
+            while ((record = reader.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() == CHUNK_SIZE) {
+                    job = commitChunk(jobId, chunk, run);
+                    chunk.clear();
+                    logger.debug("Import job {}: {} records read, {} books created",
+                            jobId, job.getRecordsRead(), job.getBooksCreated());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                job = commitChunk(jobId, chunk, run);
+            }
+        } catch (IOException e) {
+            markFailed(jobId, e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            markFailed(jobId, e);
+            throw e;
+        }
+
+        job = transactionTemplate.execute(status -> {
+            ImportJob finished = findJob(jobId);
+            finished.setStatus(ImportJobStatus.COMPLETED);
+            finished.setFinishedAt(LocalDateTime.now());
+            return finished;
+        });
+        logger.info("Import job {} completed in {} ms: {} records read, {} books created, {} duplicates, {} rejected",
+                jobId, System.currentTimeMillis() - start, job.getRecordsRead(), job.getBooksCreated(),
+                job.getDuplicatesSkipped(), job.getRecordsRejected());
+        return job;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ImportJob getJob(Long id) {
+        return findJob(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ImportJob> getAllJobs() {
+        return importJobRepository.findAll(Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    private ImportJob startJob(ImportFormat format, Long resumeJobId) {
+        if (resumeJobId == null) {
+            ImportJob job = new ImportJob();
+            job.setFormat(format);
+            job.setStartedAt(LocalDateTime.now());
+            job.setUpdatedAt(job.getStartedAt());
+            return importJobRepository.save(job);
+        }
+
+        ImportJob job = findJob(resumeJobId);
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            throw new IllegalArgumentException("Import job " + resumeJobId + " has already completed");
+        }
+        if (job.getFormat() != format) {
+            throw new IllegalArgumentException("Import job " + resumeJobId + " was started as " + job.getFormat());
+        }
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setLastError(null);
+        job.setFinishedAt(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        return job;
+    }
+
+    // Persists one chunk and advances the checkpoint in the same transaction
+    private ImportJob commitChunk(Long jobId, List<CatalogRecord> records, ImportRun run) {
+        List<Book> created = new ArrayList<>();
+        ImportJob job = transactionTemplate.execute(status -> {
+            ImportJob current = findJob(jobId);
+            long recordNumber = current.getRecordsRead();
+            long rejected = 0;
+            long duplicates = 0;
+
+            Map<String, CatalogRecord> accepted = new LinkedHashMap<>();
+            for (CatalogRecord record : records) {
+                recordNumber++;
+                String problem = validate(record);
+                if (problem != null) {
+                    rejected++;
+                    current.setLastError(truncate("Record " + recordNumber + ": " + problem, ERROR_LENGTH));
+                    continue;
+                }
+                String isbn = normalizeIsbn(record.isbn());
+                if (!run.isbns.add(isbn)) {
+                    duplicates++;
+                    continue;
+                }
+                accepted.put(isbn, record);
+            }
+
+            // One round trip for the whole chunk instead of existsByIsbn per title
+            if (!accepted.isEmpty()) {
+                for (String existing : bookRepository.findExistingIsbns(accepted.keySet())) {
+                    if (accepted.remove(existing) != null) {
+                        duplicates++;
+                    }
+                }
+            }
+
+            resolveReferences(accepted.values(), run);
+            for (Map.Entry<String, CatalogRecord> entry : accepted.entrySet()) {
+                created.add(toBook(entry.getKey(), entry.getValue(), run));
+            }
+            bookRepository.saveAll(created);
+
+            current.setRecordsRead(current.getRecordsRead() + records.size());
+            current.setBooksCreated(current.getBooksCreated() + created.size());
+            current.setDuplicatesSkipped(current.getDuplicatesSkipped() + duplicates);
+            current.setRecordsRejected(current.getRecordsRejected() + rejected);
+            current.setUpdatedAt(LocalDateTime.now());
+            return current;
+        });
+
+        // Only index once the rows are committed
+        created.forEach(catalogSearchIndex::index);
+        created.forEach(suggestionIndex::index);
+        created.forEach(facetIndex::index);
+        created.forEach(barcodeIndex::retitle);
+        if (!created.isEmpty()) {
+            // New titles may have brought new authors, publishers and genres with them
+            for (CatalogVersionIndex.Catalog catalog : CatalogVersionIndex.Catalog.values()) {
+                catalogVersionIndex.changed(catalog);
+            }
+        }
+        return job;
+    }
+
+    private void resolveReferences(Collection<CatalogRecord> records, ImportRun run) {
+        Set<String> authorNames = new HashSet<>();
+        Set<String> publisherNames = new HashSet<>();
+        Set<String> genreNames = new HashSet<>();
+        for (CatalogRecord record : records) {
+            record.authors().forEach(name -> authorNames.add(truncate(name.trim(), AUTHOR_NAME_LENGTH)));
+            if (record.publisher() != null) {
+                publisherNames.add(truncate(record.publisher().trim(), PUBLISHER_NAME_LENGTH));
+            }
+            record.genres().forEach(name -> genreNames.add(truncate(name.trim(), GENRE_NAME_LENGTH)));
+        }
+
+        resolve(authorNames, run.authors, authorRepository::findByLowerCaseNameIn, Author::getName,
+                name -> {
+                    Author author = new Author();
+                    author.setName(name);
+                    return author;
+                },
+                authorRepository::saveAll);
+        resolve(publisherNames, run.publishers, publisherRepository::findByLowerCaseNameIn, Publisher::getName,
+                name -> {
+                    Publisher publisher = new Publisher();
+                    publisher.setName(name);
+                    return publisher;
+                },
+                publisherRepository::saveAll);
+        resolve(genreNames, run.genres, genreRepository::findByLowerCaseNameIn, Genre::getName,
+                name -> {
+                    Genre genre = new Genre();
+                    genre.setName(name);
+                    return genre;
+                },
+                genreRepository::saveAll);
+    }
+
+    // Looks up names not seen earlier in the run with a single IN query and creates whatever is still missing
+    private <T> void resolve(Set<String> names, Map<String, T> known,
+                             Function<Collection<String>, List<T>> lookup, Function<T, String> nameOf,
+                             Function<String, T> factory, Function<List<T>, List<T>> saveAll) {
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (String name : names) {
+            String key = key(name);
+            if (!known.containsKey(key)) {
+                missing.putIfAbsent(key, name);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        for (T existing : lookup.apply(missing.keySet())) {
+            String key = key(nameOf.apply(existing));
+            known.putIfAbsent(key, existing);
+            missing.remove(key);
+        }
+
+        if (!missing.isEmpty()) {
+            List<T> createdEntities = saveAll.apply(missing.values().stream().map(factory).toList());
+            createdEntities.forEach(entity -> known.put(key(nameOf.apply(entity)), entity));
+        }
+    }
+
+    private Book toBook(String isbn, CatalogRecord record, ImportRun run) {
+        Book book = new Book();
+        book.setIsbn(isbn);
+        book.setTitle(record.title().trim());
+        book.setDescription(record.description() == null ? null : truncate(record.description().trim(), DESCRIPTION_LENGTH));
+        book.setPublicationDate(record.publicationDate());
+        book.setLanguage(record.language() == null ? null : truncate(record.language().trim(), LANGUAGE_LENGTH));
+        book.setPageCount(record.pageCount());
+        book.setStatus(BookStatus.AVAILABLE);
+
+        if (record.publisher() != null) {
+            book.setPublisher(run.publishers.get(key(truncate(record.publisher().trim(), PUBLISHER_NAME_LENGTH))));
+        }
+        for (String name : record.authors()) {
+            book.getAuthors().add(run.authors.get(key(truncate(name.trim(), AUTHOR_NAME_LENGTH))));
+        }
+        for (String name : record.genres()) {
+            book.getGenres().add(run.genres.get(key(truncate(name.trim(), GENRE_NAME_LENGTH))));
+        }
+        return book;
+    }
+
+    private String validate(CatalogRecord record) {
+        if (record.problem() != null) {
+            return record.problem();
+        }
+        if (record.isbn() == null || record.isbn().isBlank()) {
+            return "missing ISBN";
+        }
+        if (normalizeIsbn(record.isbn()).length() > ISBN_LENGTH) {
+            return "ISBN '" + record.isbn() + "' is longer than " + ISBN_LENGTH + " characters";
+        }
+        if (record.title() == null || record.title().isBlank()) {
+            return "missing title for ISBN " + record.isbn();
+        }
+        if (record.title().trim().length() > TITLE_LENGTH) {
+            return "title longer than " + TITLE_LENGTH + " characters for ISBN " + record.isbn();
+        }
+        return null;
+    }
+
+    private void markFailed(Long jobId, Exception cause) {
+        logger.warn("Import job {} failed: {}", jobId, cause.getMessage());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                ImportJob job = findJob(jobId);
+                job.setStatus(ImportJobStatus.FAILED);
+                job.setLastError(truncate(String.valueOf(cause.getMessage()), ERROR_LENGTH));
+                job.setUpdatedAt(LocalDateTime.now());
+            });
+        } catch (RuntimeException e) {
+            logger.error("Could not record failure of import job {}", jobId, e);
+        }
+    }
+
+    private ImportJob findJob(Long id) {
+        return importJobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ImportJob", "id", id));
+    }
+
+    private static String normalizeIsbn(String isbn) {
+        return isbn.replaceAll("[\\s-]", "").toUpperCase(Locale.ROOT);
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static String truncate(String value, int length) {
+        return value.length() <= length ? value : value.substring(0, length);
+    }
+}
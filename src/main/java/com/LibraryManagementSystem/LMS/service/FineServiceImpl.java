@@ -10,8 +10,12 @@ import com.LibraryManagementSystem.LMS.repository.BorrowedRepository;
 import com.LibraryManagementSystem.LMS.repository.FineRepository;
 import com.LibraryManagementSystem.LMS.repository.PaymentRepository;
 import com.LibraryManagementSystem.LMS.service.interfaces.FineService;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -74,6 +78,12 @@ public class FineServiceImpl implements FineService {
         return fineRepository.findAll(pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Fine> scrollAll(ScrollPosition position, Sort sort, int size) {
+        return fineRepository.findAllBy(position, sort, Limit.of(size));
+    }
+    
     @Override
     public Fine update(Long id, Fine fine) {
         Fine existingFine = fineRepository.findById(id)
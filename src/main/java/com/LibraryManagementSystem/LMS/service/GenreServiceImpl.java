@@ -1,9 +1,14 @@
 package com.LibraryManagementSystem.LMS.service;
 
+import com.LibraryManagementSystem.LMS.cache.CatalogVersionIndex;
 import com.LibraryManagementSystem.LMS.entity.Genre;
 import com.LibraryManagementSystem.LMS.exception.ResourceNotFoundException;
+import com.LibraryManagementSystem.LMS.repository.BookRepository;
 import com.LibraryManagementSystem.LMS.repository.GenreRepository;
+import com.LibraryManagementSystem.LMS.search.FacetIndex;
+import com.LibraryManagementSystem.LMS.search.SuggestionIndex;
 import com.LibraryManagementSystem.LMS.service.interfaces.GenreService;
+import com.LibraryManagementSystem.LMS.service.interfaces.BookService;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,13 +20,26 @@ import java.util.List;
 public class GenreServiceImpl implements GenreService {
     
     private final GenreRepository genreRepository;
+    private final BookRepository bookRepository;
+    private final BookService bookService;
+    private final CatalogVersionIndex catalogVersionIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final FacetIndex facetIndex;
     
-    public GenreServiceImpl(GenreRepository genreRepository) {
+    public GenreServiceImpl(GenreRepository genreRepository, BookRepository bookRepository,
+                            BookService bookService, CatalogVersionIndex catalogVersionIndex,
+                            SuggestionIndex suggestionIndex, FacetIndex facetIndex) {
         this.genreRepository = genreRepository;
+        this.bookRepository = bookRepository;
+        this.bookService = bookService;
+        this.catalogVersionIndex = catalogVersionIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.facetIndex = facetIndex;
     }
     
     @Override
     public Genre create(Genre genre) {
+        catalogVersionIndex.changed(CatalogVersionIndex.Catalog.GENRES);
         return genreRepository.save(genre);
     }
     
@@ -40,21 +58,28 @@ public class GenreServiceImpl implements GenreService {
     
     @Override
     public Genre update(Long id, Genre genre) {
+        catalogVersionIndex.changed(CatalogVersionIndex.Catalog.GENRES);
         Genre existingGenre = genreRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Genre", "id", id));
         
         existingGenre.setName(genre.getName());
         existingGenre.setDescription(genre.getDescription());
         
-        return genreRepository.save(existingGenre);
+        Genre saved = genreRepository.save(existingGenre);
+        suggestionIndex.rename(SuggestionIndex.Kind.GENRE, id, saved.getName());
+        facetIndex.relabel(FacetIndex.Facet.GENRE, id, saved.getName());
+        bookService.reindexSearch(bookRepository.findIdsByGenreId(id));
+        return saved;
     }
     
     @Override
     public void delete(Long id) {
+        catalogVersionIndex.changed(CatalogVersionIndex.Catalog.GENRES);
         Genre genre = genreRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Genre", "id", id));
         
         genreRepository.delete(genre);
+        suggestionIndex.remove(SuggestionIndex.Kind.GENRE, id);
     }
 }
 
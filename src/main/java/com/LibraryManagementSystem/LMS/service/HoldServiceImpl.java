@@ -0,0 +1,236 @@
+package com.LibraryManagementSystem.LMS.service;
+
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.BookCopy;
+import com.LibraryManagementSystem.LMS.entity.Hold;
+import com.LibraryManagementSystem.LMS.entity.User;
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+import com.LibraryManagementSystem.LMS.enums.HoldStatus;
+import com.LibraryManagementSystem.LMS.event.HoldReadyEvent;
+import com.LibraryManagementSystem.LMS.exception.ConflictException;
+import com.LibraryManagementSystem.LMS.exception.ResourceNotFoundException;
+import com.LibraryManagementSystem.LMS.repository.BookCopyRepository;
+import com.LibraryManagementSystem.LMS.repository.BookRepository;
+import com.LibraryManagementSystem.LMS.repository.HoldRepository;
+import com.LibraryManagementSystem.LMS.repository.UserRepository;
+import com.LibraryManagementSystem.LMS.search.BarcodeIndex;
+import com.LibraryManagementSystem.LMS.search.BookAvailabilityIndex;
+import com.LibraryManagementSystem.LMS.service.interfaces.HoldService;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Transactional
+public class HoldServiceImpl implements HoldService {
+    
+    private static final Set<HoldStatus> ACTIVE = EnumSet.of(HoldStatus.WAITING, HoldStatus.READY);
+    
+    // Shelf copies tried when a hold is placed; more than one only matters when desks lend them at the same moment
+    private static final int CLAIM_CANDIDATES = 5;
+    
+    // Holds expired per transaction by the nightly run
+    private static final int EXPIRY_BATCH_SIZE = 100;
+    
+    private final HoldRepository holdRepository;
+    private final BookRepository bookRepository;
+    private final BookCopyRepository bookCopyRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final BookAvailabilityIndex bookAvailabilityIndex;
+    private final BarcodeIndex barcodeIndex;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${lms.holds.pickup-days:3}")
+    private Integer pickupDays;
+    
+    public HoldServiceImpl(HoldRepository holdRepository,
+                           BookRepository bookRepository,
+                           BookCopyRepository bookCopyRepository,
+                           UserRepository userRepository,
+                           EntityManager entityManager,
+                           BookAvailabilityIndex bookAvailabilityIndex,
+                           BarcodeIndex barcodeIndex,
+                           OptimisticLockRetry optimisticLockRetry,
+                           ApplicationEventPublisher eventPublisher) {
+        this.holdRepository = holdRepository;
+        this.bookRepository = bookRepository;
+        this.bookCopyRepository = bookCopyRepository;
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.bookAvailabilityIndex = bookAvailabilityIndex;
+        this.barcodeIndex = barcodeIndex;
+        this.optimisticLockRetry = optimisticLockRetry;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    @Override
+    public Hold place(Long bookId, Long userId, boolean priority) {
+        Book book = bookRepository.findById(bookId)
+                .orElseThrow(() -> new ResourceNotFoundException("Book", "id", bookId));
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        
+        if (holdRepository.existsByBookIdAndUserIdAndStatusIn(bookId, userId, ACTIVE)) {
+            throw new ConflictException("User " + userId + " already has an active hold on book " + bookId);
+        }
+        
+        Hold hold = new Hold();
+        hold.setBook(book);
+        hold.setUser(user);
+        hold.setPriority(priority);
+        hold.setStatus(HoldStatus.WAITING);
+        hold = holdRepository.save(hold);
+        
+        // Nobody can be waiting while a copy sits on the shelf, so a free copy goes straight to this hold. Ask the
+        // database rather than the availability index, which is per node and changes only after commit, so a
+        // return committing at the same moment or on another node may not be in it yet.
+        for (BookCopy candidate : bookCopyRepository.findByBookIdAndStatus(
+                bookId, BookCopyStatus.AVAILABLE, Limit.of(CLAIM_CANDIDATES))) {
+            // Same conditional update the borrow path claims with, so the desk and the hold cannot both win
+            if (bookCopyRepository.updateStatusIfCurrent(
+                    candidate.getId(), BookCopyStatus.AVAILABLE, BookCopyStatus.ON_HOLD) == 1) {
+                entityManager.refresh(candidate);
+                bookAvailabilityIndex.index(candidate);
+                barcodeIndex.index(candidate);
+                markReady(hold, candidate);
+                break;
+            }
+        }
+        
+        return hold;
+    }
+    
+    @Override
+    public Hold cancel(Long id) {
+        Hold hold = holdRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Hold", "id", id));
+        
+        if (!ACTIVE.contains(hold.getStatus())) {
+            throw new ConflictException("Hold with ID " + id + " is already " + hold.getStatus());
+        }
+        
+        BookCopy setAside = hold.getStatus() == HoldStatus.READY ? hold.getBookCopy() : null;
+        close(hold, HoldStatus.CANCELLED);
+        if (setAside != null) {
+            releaseCopy(setAside);
+        }
+        return hold;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Hold getById(Long id) {
+        return holdRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Hold", "id", id));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Hold> findByUserId(Long userId) {
+        return holdRepository.findByUserIdOrderByRequestedAtDesc(userId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Hold> getQueue(Long bookId) {
+        if (!bookRepository.existsById(bookId)) {
+            throw new ResourceNotFoundException("Book", "id", bookId);
+        }
+        return holdRepository.findQueueDetails(bookId, HoldStatus.WAITING);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long queuePosition(Hold hold) {
+        if (hold.getStatus() != HoldStatus.WAITING) {
+            return 0;
+        }
+        return holdRepository.countAhead(hold.getBook().getId(), hold.getStatus(), hold.getPriority(),
+                hold.getRequestedAt(), hold.getId()) + 1;
+    }
+    
+    @Override
+    public void releaseCopy(BookCopy bookCopy) {
+        Long bookId = bookCopy.getBook().getId();
+        
+        // The head of the queue gets the copy. Two copies of the title coming back at once both pick the same
+        // head; the hold's version check fails the second transaction and its retry sees the next hold.
+        List<Hold> head = holdRepository.findQueue(bookId, HoldStatus.WAITING, Limit.of(1));
+        BookCopyStatus to = head.isEmpty() ? BookCopyStatus.AVAILABLE : BookCopyStatus.ON_HOLD;
+        
+        bookCopy.setStatus(to);
+        bookCopyRepository.save(bookCopy);
+        bookAvailabilityIndex.index(bookCopy);
+        barcodeIndex.index(bookCopy);
+        
+        if (!head.isEmpty()) {
+            markReady(head.get(0), bookCopy);
+        }
+    }
+    
+    @Override
+    public boolean fulfil(BookCopy bookCopy, Long userId) {
+        Hold hold = holdRepository.findByBookCopyIdAndStatus(bookCopy.getId(), HoldStatus.READY).orElse(null);
+        if (hold == null || !hold.getUser().getId().equals(userId)) {
+            return false;
+        }
+        close(hold, HoldStatus.FULFILLED);
+        return true;
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int expireReadyHolds(LocalDate today) {
+        int expired = 0;
+        int batch;
+        do {
+            // Each batch commits on its own; one that races a pickup or a return is re-run on fresh state
+            batch = optimisticLockRetry.execute(() -> expireBatch(today));
+            expired += batch;
+        } while (batch == EXPIRY_BATCH_SIZE);
+        return expired;
+    }
+    
+    private int expireBatch(LocalDate today) {
+        List<Hold> holds = holdRepository.findPickupOverdue(
+                HoldStatus.READY, today, Limit.of(EXPIRY_BATCH_SIZE));
+        for (Hold hold : holds) {
+            BookCopy setAside = hold.getBookCopy();
+            close(hold, HoldStatus.EXPIRED);
+            if (setAside != null) {
+                releaseCopy(setAside);
+            }
+        }
+        return holds.size();
+    }
+    
+    private void markReady(Hold hold, BookCopy bookCopy) {
+        hold.setStatus(HoldStatus.READY);
+        hold.setBookCopy(bookCopy);
+        hold.setReadyAt(LocalDateTime.now());
+        hold.setPickupBy(LocalDate.now().plusDays(pickupDays));
+        holdRepository.save(hold);
+        
+        eventPublisher.publishEvent(new HoldReadyEvent(hold.getId(), hold.getBook().getId(), hold.getBook().getTitle(),
+                hold.getUser().getId(), hold.getUser().getEmail(), bookCopy.getId(), bookCopy.getBarcode(),
+                hold.getPickupBy()));
+    }
+    
+    private void close(Hold hold, HoldStatus status) {
+        hold.setStatus(status);
+        hold.setClosedAt(LocalDateTime.now());
+        holdRepository.save(hold);
+    }
+}
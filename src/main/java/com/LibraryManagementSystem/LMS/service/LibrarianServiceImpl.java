@@ -6,25 +6,41 @@ import com.LibraryManagementSystem.LMS.enums.Role;
 import com.LibraryManagementSystem.LMS.enums.Status;
 import com.LibraryManagementSystem.LMS.exception.ResourceNotFoundException;
 import com.LibraryManagementSystem.LMS.repository.LibrarianRepository;
+import com.LibraryManagementSystem.LMS.search.PatronSearchIndex;
 import com.LibraryManagementSystem.LMS.service.interfaces.LibrarianService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class LibrarianServiceImpl implements LibrarianService {
     
+    private static final Logger logger = LoggerFactory.getLogger(LibrarianServiceImpl.class);
+    
     private final LibrarianRepository librarianRepository;
-    private static final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordEncoder passwordEncoder;
+    private final PatronSearchIndex patronSearchIndex;
 
-    public LibrarianServiceImpl(LibrarianRepository librarianRepository) {
+    public LibrarianServiceImpl(LibrarianRepository librarianRepository, PasswordEncoder passwordEncoder,
+                                PatronSearchIndex patronSearchIndex) {
         this.librarianRepository = librarianRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.patronSearchIndex = patronSearchIndex;
     }
     
     // Core CRUD methods
@@ -41,7 +57,10 @@ public class LibrarianServiceImpl implements LibrarianService {
             throw new IllegalStateException("Librarian with phone number " + librarian.getPhoneNumber() + " already exists");
         }
         
-        return librarianRepository.save(librarian);
+        librarian.setPassword(encodeIfRaw(librarian.getPassword()));
+        Librarian saved = librarianRepository.save(librarian);
+        indexForSearch(saved);
+        return saved;
     }
     
     @Override
@@ -63,6 +82,12 @@ public class LibrarianServiceImpl implements LibrarianService {
         return librarianRepository.findAll(pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Librarian> scrollAll(ScrollPosition position, Sort sort, int size) {
+        return librarianRepository.findAllBy(position, sort, Limit.of(size));
+    }
+    
     @Override
     public Librarian update(Long id, Librarian librarian) {
         Librarian existingLibrarian = librarianRepository.findById(id)
@@ -84,14 +109,16 @@ public class LibrarianServiceImpl implements LibrarianService {
         
         existingLibrarian.setName(librarian.getName());
         existingLibrarian.setEmail(librarian.getEmail());
-        existingLibrarian.setPassword(librarian.getPassword());
+        existingLibrarian.setPassword(encodeIfRaw(librarian.getPassword()));
         existingLibrarian.setPhoneNumber(librarian.getPhoneNumber());
         existingLibrarian.setAddress(librarian.getAddress());
         existingLibrarian.setRole(librarian.getRole());
         existingLibrarian.setHireDate(librarian.getHireDate());
         existingLibrarian.setStatus(librarian.getStatus());
         
-        return librarianRepository.save(existingLibrarian);
+        Librarian saved = librarianRepository.save(existingLibrarian);
+        indexForSearch(saved);
+        return saved;
     }
 
     @Override
@@ -103,7 +130,9 @@ public class LibrarianServiceImpl implements LibrarianService {
                 existingLibrarian.setEmail(patchDTO.getEmail());
             }
 
-            return librarianRepository.save(existingLibrarian);
+            Librarian saved = librarianRepository.save(existingLibrarian);
+            indexForSearch(saved);
+            return saved;
     }
     
     @Override
@@ -111,6 +140,7 @@ public class LibrarianServiceImpl implements LibrarianService {
         Librarian librarian = librarianRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Librarian", "id", id));
         librarianRepository.delete(librarian);
+        patronSearchIndex.remove(PatronSearchIndex.Directory.LIBRARIANS, id);
     }
     
     // Find librarian by email
@@ -167,8 +197,52 @@ public class LibrarianServiceImpl implements LibrarianService {
             throw new IllegalArgumentException("New password must be at least 6 characters long");
         }
         
-        // Set new password (will be encrypted by @PrePersist/@PreUpdate)
-        librarian.setPassword(newPassword);
+        librarian.setPassword(encodeIfRaw(newPassword));
         return librarianRepository.save(librarian);
     }
+    
+    // Patron search
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Librarian> search(String query, int limit) {
+        List<Long> rankedIds = patronSearchIndex.search(PatronSearchIndex.Directory.LIBRARIANS, query, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        
+        // Restore index ranking, findAllById returns rows in arbitrary order
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rank.put(rankedIds.get(i), i);
+        }
+        return librarianRepository.findAllById(rankedIds).stream()
+                .sorted(Comparator.comparingInt(librarian -> rank.get(librarian.getId())))
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        long start = System.currentTimeMillis();
+        patronSearchIndex.reload(PatronSearchIndex.Directory.LIBRARIANS, () -> librarianRepository.findSearchRows().stream()
+                .map(row -> new PatronSearchIndex.Entry(row.getId(), row.getName(), row.getEmail(), row.getPhoneNumber()))
+                .collect(Collectors.toList()));
+        logger.info("Patron search index built with {} librarians in {} ms",
+                patronSearchIndex.size(PatronSearchIndex.Directory.LIBRARIANS), System.currentTimeMillis() - start);
+    }
+    
+    private void indexForSearch(Librarian librarian) {
+        patronSearchIndex.index(PatronSearchIndex.Directory.LIBRARIANS,
+                new PatronSearchIndex.Entry(librarian.getId(), librarian.getName(), librarian.getEmail(), librarian.getPhoneNumber()));
+    }
+    
+    // Hash through the shared, bounded encoder; the entity's @PrePersist/@PreUpdate hook refuses raw passwords
+    private String encodeIfRaw(String password) {
+        if (password == null || password.isBlank()
+                || password.startsWith("$2a$") || password.startsWith("$2b$") || password.startsWith("$2y$")) {
+            return password;
+        }
+        return passwordEncoder.encode(password);
+    }
 }
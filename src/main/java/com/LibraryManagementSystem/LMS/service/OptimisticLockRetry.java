@@ -0,0 +1,69 @@
+package com.LibraryManagementSystem.LMS.service;
+
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Runs a unit of work in its own transaction and repeats it, with jittered exponential backoff, when it
+// loses a version check to a concurrent writer. Inside a caller's transaction nothing can be retried
+// (the transaction is already doomed), so the work simply joins it and failures propagate.
+@Component
+public class OptimisticLockRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticLockRetry.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${lms.retry.max-attempts:5}")
+    private Integer maxAttempts;
+
+    @Value("${lms.retry.initial-backoff-ms:10}")
+    private Long initialBackoffMs;
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager, EntityManager entityManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+    }
+
+    public <T> T execute(Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                logger.debug("Optimistic lock conflict on attempt {}: {}", attempt, e.getMessage());
+                // With open-in-view the request's persistence context outlives the transaction; drop the stale state
+                entityManager.clear();
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        // initial * 2^(attempt-1), jittered to 50-150% so colliding writers do not collide again in lockstep
+        long delay = initialBackoffMs << Math.min(attempt - 1, 10);
+        long jittered = delay / 2 + ThreadLocalRandom.current().nextLong(delay + 1);
+        try {
+            Thread.sleep(jittered);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying after an optimistic lock conflict", e);
+        }
+    }
+}
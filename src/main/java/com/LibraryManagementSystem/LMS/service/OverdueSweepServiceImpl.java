@@ -0,0 +1,208 @@
+package com.LibraryManagementSystem.LMS.service;
+
+import com.LibraryManagementSystem.LMS.config.FineConfig;
+import com.LibraryManagementSystem.LMS.entity.Borrowed;
+import com.LibraryManagementSystem.LMS.entity.Fine;
+import com.LibraryManagementSystem.LMS.entity.SweepLease;
+import com.LibraryManagementSystem.LMS.enums.BorrowStatus;
+import com.LibraryManagementSystem.LMS.enums.FineStatus;
+import com.LibraryManagementSystem.LMS.repository.BorrowedRepository;
+import com.LibraryManagementSystem.LMS.repository.FineRepository;
+import com.LibraryManagementSystem.LMS.repository.SweepLeaseRepository;
+import com.LibraryManagementSystem.LMS.service.interfaces.OverdueSweepService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// The overdue table is split into id-modulo partitions, each guarded by a lease row. A node works through
+// every partition it can claim, one chunk per transaction, checkpointing the keyset position with each chunk.
+// No class-level @Transactional: chunks commit independently.
+@Service
+public class OverdueSweepServiceImpl implements OverdueSweepService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverdueSweepServiceImpl.class);
+
+    private static final String LEASE_PREFIX = "overdue-sweep";
+
+    private final BorrowedRepository borrowedRepository;
+    private final FineRepository fineRepository;
+    private final SweepLeaseRepository sweepLeaseRepository;
+    private final FineConfig fineConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticLockRetry optimisticLockRetry;
+
+    // Identifies this node in lease rows
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+    @Value("${lms.overdue.partitions:16}")
+    private Integer partitions;
+
+    @Value("${lms.overdue.chunk-size:1000}")
+    private Integer chunkSize;
+
+    @Value("${lms.overdue.lease-seconds:300}")
+    private Long leaseSeconds;
+
+    public OverdueSweepServiceImpl(BorrowedRepository borrowedRepository, FineRepository fineRepository,
+                                   SweepLeaseRepository sweepLeaseRepository, FineConfig fineConfig,
+                                   PlatformTransactionManager transactionManager,
+                                   OptimisticLockRetry optimisticLockRetry) {
+        this.borrowedRepository = borrowedRepository;
+        this.fineRepository = fineRepository;
+        this.sweepLeaseRepository = sweepLeaseRepository;
+        this.fineConfig = fineConfig;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.optimisticLockRetry = optimisticLockRetry;
+    }
+
+    @Override
+    public long sweep(LocalDate today) {
+        long start = System.currentTimeMillis();
+        long processed = 0;
+        int partitionsSwept = 0;
+
+        for (int partition = 0; partition < partitions; partition++) {
+            String leaseName = LEASE_PREFIX + "-" + partitions + "-" + partition;
+            ensureLeaseExists(leaseName);
+            if (!claim(leaseName)) {
+                continue;
+            }
+            try {
+                long swept = sweepPartition(leaseName, partition, today);
+                if (swept >= 0) {
+                    processed += swept;
+                    partitionsSwept++;
+                }
+            } catch (RuntimeException e) {
+                // Committed chunks stay committed; the next run resumes this partition from its checkpoint
+                logger.warn("Overdue sweep of partition {} stopped: {}", partition, e.getMessage());
+            } finally {
+                transactionTemplate.executeWithoutResult(status -> sweepLeaseRepository.release(leaseName, owner));
+            }
+        }
+
+        logger.info("Overdue sweep for {}: {} loans in {} of {} partitions in {} ms",
+                today, processed, partitionsSwept, partitions, System.currentTimeMillis() - start);
+        return processed;
+    }
+
+    // Returns the loans processed, or -1 when the partition was already finished for this day
+    private long sweepPartition(String leaseName, int partition, LocalDate today) {
+        SweepLease lease = transactionTemplate.execute(status -> sweepLeaseRepository.findById(leaseName).orElseThrow());
+        if (today.equals(lease.getSweepDate()) && Boolean.TRUE.equals(lease.getCompleted())) {
+            return -1;
+        }
+
+        // Continue a checkpoint from an interrupted run of the same day, otherwise start over
+        long lastId = today.equals(lease.getSweepDate()) ? lease.getLastId() : 0L;
+        long processed = 0;
+        while (true) {
+            long fromId = lastId;
+            // A loan returned while its chunk was in flight fails the version check of the loan (first night,
+            // BORROWED -> OVERDUE) or of its fine (later nights); the re-run no longer selects it
+            ChunkResult chunk = optimisticLockRetry.execute(() -> sweepChunk(leaseName, partition, today, fromId));
+            if (chunk.size() == 0) {
+                return processed;
+            }
+            processed += chunk.size();
+            lastId = chunk.lastId();
+        }
+    }
+
+    private record ChunkResult(int size, long lastId) {
+    }
+
+    private ChunkResult sweepChunk(String leaseName, int partition, LocalDate today, long lastId) {
+        List<Borrowed> loans = borrowedRepository.findOverdueAfter(lastId, today, partitions, partition, Limit.of(chunkSize));
+        if (loans.isEmpty()) {
+            checkpoint(leaseName, today, lastId, true);
+            return new ChunkResult(0, lastId);
+        }
+
+        Map<Long, Fine> fines = fineRepository.findByBorrowedIdIn(loans.stream().map(Borrowed::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(fine -> fine.getBorrowed().getId(), Function.identity()));
+
+        // Updates and inserts are flushed together at commit and go out as JDBC batches
+        List<Fine> newFines = new ArrayList<>();
+        for (Borrowed loan : loans) {
+            if (loan.getStatus() == BorrowStatus.BORROWED) {
+                loan.setStatus(BorrowStatus.OVERDUE);
+            }
+
+            long days = fineConfig.chargeableDays(loan.getDueDate(), today);
+            if (days == 0) {
+                continue;
+            }
+            BigDecimal amount = fineConfig.amountFor(days);
+            String reason = "Overdue: " + days + " day(s) late at $" + fineConfig.getDailyRate() + " per day, accruing";
+
+            Fine fine = fines.get(loan.getId());
+            if (fine == null) {
+                fine = new Fine();
+                fine.setBorrowed(loan);
+                fine.setStatus(FineStatus.PENDING);
+                newFines.add(fine);
+            } else if (fine.getStatus() != FineStatus.PENDING || amount.compareTo(fine.getAmount()) == 0) {
+                // Paid or waived fines are left alone, unchanged amounts are not rewritten
+                continue;
+            }
+            fine.setAmount(amount);
+            fine.setAssessedDate(today);
+            fine.setReason(reason);
+        }
+        fineRepository.saveAll(newFines);
+
+        long chunkLastId = loans.get(loans.size() - 1).getId();
+        checkpoint(leaseName, today, chunkLastId, false);
+        return new ChunkResult(loans.size(), chunkLastId);
+    }
+
+    // Runs inside the chunk transaction, so losing the lease rolls the chunk back
+    private void checkpoint(String leaseName, LocalDate today, long lastId, boolean completed) {
+        int updated = sweepLeaseRepository.checkpoint(leaseName, owner, today, lastId, completed, leaseExpiry());
+        if (updated == 0) {
+            throw new IllegalStateException("Lease " + leaseName + " was taken over by another node");
+        }
+    }
+
+    private boolean claim(String leaseName) {
+        Integer claimed = transactionTemplate.execute(status ->
+                sweepLeaseRepository.claim(leaseName, owner, LocalDateTime.now(), leaseExpiry()));
+        return claimed != null && claimed == 1;
+    }
+
+    private void ensureLeaseExists(String leaseName) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!sweepLeaseRepository.existsById(leaseName)) {
+                    SweepLease lease = new SweepLease();
+                    lease.setName(leaseName);
+                    sweepLeaseRepository.saveAndFlush(lease);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another node created it first
+        }
+    }
+
+    private LocalDateTime leaseExpiry() {
+        return LocalDateTime.now().plusSeconds(leaseSeconds);
+    }
+}
@@ -8,13 +8,21 @@ import com.LibraryManagementSystem.LMS.exception.ResourceNotFoundException;
 import com.LibraryManagementSystem.LMS.repository.FineRepository;
 import com.LibraryManagementSystem.LMS.repository.PaymentRepository;
 import com.LibraryManagementSystem.LMS.service.interfaces.PaymentService;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -22,10 +30,16 @@ public class PaymentServiceImpl implements PaymentService {
     
     private final PaymentRepository paymentRepository;
     private final FineRepository fineRepository;
+    private final EntityManager entityManager;
+    
+    // Rows streamed between persistence context clears
+    private static final int STREAM_CLEAR_INTERVAL = 1000;
 
-    public PaymentServiceImpl(PaymentRepository paymentRepository, FineRepository fineRepository) {
+    public PaymentServiceImpl(PaymentRepository paymentRepository, FineRepository fineRepository,
+                              EntityManager entityManager) {
         this.paymentRepository = paymentRepository;
         this.fineRepository = fineRepository;
+        this.entityManager = entityManager;
     }
 
     // Core CRUD methods
@@ -68,6 +82,28 @@ public class PaymentServiceImpl implements PaymentService {
         return paymentRepository.findAll(pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Payment> scrollAll(ScrollPosition position, Sort sort, int size) {
+        return paymentRepository.findAllBy(position, sort, Limit.of(size));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Payment> action) {
+        try (Stream<Payment> stream = paymentRepository.streamAllBy()) {
+            Iterator<Payment> iterator = stream.iterator();
+            long count = 0;
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                // Drop already written rows so the persistence context stays flat
+                if (++count % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+    
     @Override
     public Payment update(Long id, Payment payment) {
         Payment existingPayment = paymentRepository.findById(id)
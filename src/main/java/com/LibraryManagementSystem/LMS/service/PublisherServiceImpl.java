@@ -1,9 +1,14 @@
 package com.LibraryManagementSystem.LMS.service;
 
+import com.LibraryManagementSystem.LMS.cache.CatalogVersionIndex;
 import com.LibraryManagementSystem.LMS.entity.Publisher;
 import com.LibraryManagementSystem.LMS.exception.ResourceNotFoundException;
+import com.LibraryManagementSystem.LMS.repository.BookRepository;
 import com.LibraryManagementSystem.LMS.repository.PublisherRepository;
+import com.LibraryManagementSystem.LMS.search.FacetIndex;
+import com.LibraryManagementSystem.LMS.search.SuggestionIndex;
 import com.LibraryManagementSystem.LMS.service.interfaces.PublisherService;
+import com.LibraryManagementSystem.LMS.service.interfaces.BookService;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,13 +20,26 @@ import java.util.List;
 public class PublisherServiceImpl implements PublisherService {
     
     private final PublisherRepository publisherRepository;
+    private final BookRepository bookRepository;
+    private final BookService bookService;
+    private final CatalogVersionIndex catalogVersionIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final FacetIndex facetIndex;
     
-    public PublisherServiceImpl(PublisherRepository publisherRepository) {
+    public PublisherServiceImpl(PublisherRepository publisherRepository, BookRepository bookRepository,
+                                BookService bookService, CatalogVersionIndex catalogVersionIndex,
+                                SuggestionIndex suggestionIndex, FacetIndex facetIndex) {
         this.publisherRepository = publisherRepository;
+        this.bookRepository = bookRepository;
+        this.bookService = bookService;
+        this.catalogVersionIndex = catalogVersionIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.facetIndex = facetIndex;
     }
     
     @Override
     public Publisher create(Publisher publisher) {
+        catalogVersionIndex.changed(CatalogVersionIndex.Catalog.PUBLISHERS);
         return publisherRepository.save(publisher);
     }
     
@@ -40,6 +58,7 @@ public class PublisherServiceImpl implements PublisherService {
     
     @Override
     public Publisher update(Long id, Publisher publisher) {
+        catalogVersionIndex.changed(CatalogVersionIndex.Catalog.PUBLISHERS);
         Publisher existingPublisher = publisherRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Publisher", "id", id));
         
@@ -48,15 +67,21 @@ public class PublisherServiceImpl implements PublisherService {
         existingPublisher.setEmail(publisher.getEmail());
         existingPublisher.setCountry(publisher.getCountry());
         
-        return publisherRepository.save(existingPublisher);
+        Publisher saved = publisherRepository.save(existingPublisher);
+        suggestionIndex.rename(SuggestionIndex.Kind.PUBLISHER, id, saved.getName());
+        facetIndex.relabel(FacetIndex.Facet.PUBLISHER, id, saved.getName());
+        bookService.reindexSearch(bookRepository.findIdsByPublisherId(id));
+        return saved;
     }
     
     @Override
     public void delete(Long id) {
+        catalogVersionIndex.changed(CatalogVersionIndex.Catalog.PUBLISHERS);
         Publisher publisher = publisherRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Publisher", "id", id));
         
         publisherRepository.delete(publisher);
+        suggestionIndex.remove(SuggestionIndex.Kind.PUBLISHER, id);
     }
 }
 
@@ -5,25 +5,41 @@ import com.LibraryManagementSystem.LMS.entity.User;
 import com.LibraryManagementSystem.LMS.enums.Status;
 import com.LibraryManagementSystem.LMS.exception.ResourceNotFoundException;
 import com.LibraryManagementSystem.LMS.repository.UserRepository;
+import com.LibraryManagementSystem.LMS.search.PatronSearchIndex;
 import com.LibraryManagementSystem.LMS.service.interfaces.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class UserServiceImpl implements UserService {
     
+    private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
+    
     private final UserRepository userRepository;
-    private static final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordEncoder passwordEncoder;
+    private final PatronSearchIndex patronSearchIndex;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                           PatronSearchIndex patronSearchIndex) {
         this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.patronSearchIndex = patronSearchIndex;
     }
     
     // Core CRUD methods
@@ -40,7 +56,10 @@ public class UserServiceImpl implements UserService {
             throw new IllegalStateException("User with phone number " + user.getPhoneNumber() + " already exists");
         }
         
-        return userRepository.save(user);
+        user.setPassword(encodeIfRaw(user.getPassword()));
+        User saved = userRepository.save(user);
+        indexForSearch(saved);
+        return saved;
     }
     
     @Override
@@ -62,6 +81,12 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAll(pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Window<User> scrollAll(ScrollPosition position, Sort sort, int size) {
+        return userRepository.findAllBy(position, sort, Limit.of(size));
+    }
+    
     @Override
     public User update(Long id, User user) {
         User existingUser = userRepository.findById(id)
@@ -83,13 +108,15 @@ public class UserServiceImpl implements UserService {
         
         existingUser.setName(user.getName());
         existingUser.setEmail(user.getEmail());
-        existingUser.setPassword(user.getPassword());
+        existingUser.setPassword(encodeIfRaw(user.getPassword()));
         existingUser.setPhoneNumber(user.getPhoneNumber());
         existingUser.setAddress(user.getAddress());
         existingUser.setMembershipDate(user.getMembershipDate());
         existingUser.setStatus(user.getStatus());
         
-        return userRepository.save(existingUser);
+        User saved = userRepository.save(existingUser);
+        indexForSearch(saved);
+        return saved;
     }
 
     @Override
@@ -101,7 +128,9 @@ public class UserServiceImpl implements UserService {
                 exitingUser.setEmail(userPatch.getEmail());
             }
 
-            return userRepository.save(exitingUser);
+            User saved = userRepository.save(exitingUser);
+            indexForSearch(saved);
+            return saved;
     }
     
     @Override
@@ -109,6 +138,7 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         userRepository.delete(user);
+        patronSearchIndex.remove(PatronSearchIndex.Directory.USERS, id);
     }
     
     // Find user by email
@@ -165,8 +195,52 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("New password must be at least 6 characters long");
         }
         
-        // Set new password (will be encrypted by @PrePersist/@PreUpdate)
-        user.setPassword(newPassword);
+        user.setPassword(encodeIfRaw(newPassword));
         return userRepository.save(user);
     }
+    
+    // Patron search
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> search(String query, int limit) {
+        List<Long> rankedIds = patronSearchIndex.search(PatronSearchIndex.Directory.USERS, query, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        
+        // Restore index ranking, findAllById returns rows in arbitrary order
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rank.put(rankedIds.get(i), i);
+        }
+        return userRepository.findAllById(rankedIds).stream()
+                .sorted(Comparator.comparingInt(user -> rank.get(user.getId())))
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        long start = System.currentTimeMillis();
+        patronSearchIndex.reload(PatronSearchIndex.Directory.USERS, () -> userRepository.findSearchRows().stream()
+                .map(row -> new PatronSearchIndex.Entry(row.getId(), row.getName(), row.getEmail(), row.getPhoneNumber()))
+                .collect(Collectors.toList()));
+        logger.info("Patron search index built with {} users in {} ms",
+                patronSearchIndex.size(PatronSearchIndex.Directory.USERS), System.currentTimeMillis() - start);
+    }
+    
+    private void indexForSearch(User user) {
+        patronSearchIndex.index(PatronSearchIndex.Directory.USERS,
+                new PatronSearchIndex.Entry(user.getId(), user.getName(), user.getEmail(), user.getPhoneNumber()));
+    }
+    
+    // Hash through the shared, bounded encoder; the entity's @PrePersist/@PreUpdate hook refuses raw passwords
+    private String encodeIfRaw(String password) {
+        if (password == null || password.isBlank()
+                || password.startsWith("$2a$") || password.startsWith("$2b$") || password.startsWith("$2y$")) {
+            return password;
+        }
+        return passwordEncoder.encode(password);
+    }
 }
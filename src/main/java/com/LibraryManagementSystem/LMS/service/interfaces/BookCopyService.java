@@ -4,6 +4,9 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import com.LibraryManagementSystem.LMS.entity.BookCopy;
 import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
@@ -15,6 +18,8 @@ public interface BookCopyService {
     BookCopy getById(Long id);
     List<BookCopy> getAll();
     Page<BookCopy> getAllPaginated(Pageable pageable);
+    
+    Window<BookCopy> scrollAll(ScrollPosition position, Sort sort, int size);
     BookCopy update(Long id, BookCopy bookCopy);
     void delete(Long id);
 
@@ -28,4 +33,10 @@ public interface BookCopyService {
     // Find by status
     List<BookCopy> findByStatus(BookCopyStatus status);
     Page<BookCopy> findByStatus(BookCopyStatus status, Pageable pageable);
+    
+    // Reloads the per-title availability counters from the database
+    void rebuildAvailabilityIndex();
+    
+    // Reloads the barcode -> copy index from the database
+    void rebuildBarcodeIndex();
 }
@@ -4,6 +4,9 @@ import com.LibraryManagementSystem.LMS.entity.Book;
 import com.LibraryManagementSystem.LMS.enums.BookStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,8 @@ public interface BookService {
     
     Page<Book> getAllPaginated(Pageable pageable);
     
+    Window<Book> scrollAll(ScrollPosition position, Sort sort, int size);
+    
     Book update(Long id, Book book);
     
     void delete(Long id);
@@ -39,4 +44,16 @@ public interface BookService {
     List<Book> findByAuthorName(String authorName);
     
     Page<Book> findByAuthorName(String authorName, Pageable pageable);
+    
+    // Full-text catalog search (title, description, authors, genres, publisher), best match first
+    List<Book> search(String query, int limit);
+    
+    // Books with catalog details, in the order of the given ids (e.g. a ranking from an in-memory index)
+    List<Book> findAllByIdInOrder(List<Long> ids);
+    
+    // Reloads the full-text, suggestion and facet indexes from the database
+    void rebuildSearchIndex();
+    
+    // Re-reads the books into the full-text index, e.g. after an author, genre or publisher they list was renamed
+    void reindexSearch(List<Long> bookIds);
 }
@@ -1,12 +1,17 @@
 package com.LibraryManagementSystem.LMS.service.interfaces;
 
 import com.LibraryManagementSystem.LMS.entity.Borrowed;
+import com.LibraryManagementSystem.LMS.enums.BatchItemStatus;
 import com.LibraryManagementSystem.LMS.enums.BorrowStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface BorrowedService {
     
@@ -19,6 +24,11 @@ public interface BorrowedService {
     
     Page<Borrowed> getAllPaginated(Pageable pageable);
     
+    Window<Borrowed> scrollAll(ScrollPosition position, Sort sort, int size);
+    
+    // Streams every record through the action inside one read-only transaction
+    void streamAll(Consumer<Borrowed> action);
+    
     Borrowed update(Long id, Borrowed borrowed);
     
     void delete(Long id);
@@ -40,4 +50,15 @@ public interface BorrowedService {
     
     // Business logic methods
     Borrowed returnBook(Long borrowedId, LocalDate returnDate);
+    
+    // Lends every copy that can be lent to the user in one transaction; one result per barcode, in order.
+    // A null dueDate means the default loan period.
+    List<BatchItem> checkoutBatch(Long userId, List<String> barcodes, LocalDate borrowDate, LocalDate dueDate);
+    
+    // Returns every copy with an open loan in one transaction; one result per barcode, in order
+    List<BatchItem> returnBatch(List<String> barcodes, LocalDate returnDate);
+    
+    // borrowed is the new or returned loan when status is OK
+    record BatchItem(String barcode, BatchItemStatus status, String message, Borrowed borrowed) {
+    }
 }
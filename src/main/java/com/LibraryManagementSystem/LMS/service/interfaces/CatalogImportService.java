@@ -0,0 +1,17 @@
+package com.LibraryManagementSystem.LMS.service.interfaces;
+
+import com.LibraryManagementSystem.LMS.entity.ImportJob;
+import com.LibraryManagementSystem.LMS.enums.ImportFormat;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface CatalogImportService {
+    
+    // Reads the stream to the end, committing in chunks; resumeJobId continues a failed job from its checkpoint
+    ImportJob importCatalog(ImportFormat format, InputStream input, Long resumeJobId);
+    
+    ImportJob getJob(Long id);
+    
+    List<ImportJob> getAllJobs();
+}
@@ -4,6 +4,9 @@ import com.LibraryManagementSystem.LMS.entity.Fine;
 import com.LibraryManagementSystem.LMS.enums.FineStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -18,6 +21,8 @@ public interface FineService {
     List<Fine> getAll();
 
     Page<Fine> getAllPaginated(Pageable pageable);
+    
+    Window<Fine> scrollAll(ScrollPosition position, Sort sort, int size);
 
     Fine update(Long id, Fine fine);
 
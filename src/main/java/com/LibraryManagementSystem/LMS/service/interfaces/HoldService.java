@@ -0,0 +1,35 @@
+package com.LibraryManagementSystem.LMS.service.interfaces;
+
+import com.LibraryManagementSystem.LMS.entity.BookCopy;
+import com.LibraryManagementSystem.LMS.entity.Hold;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface HoldService {
+    
+    // Queues the user for the title; a copy on the shelf is set aside at once
+    Hold place(Long bookId, Long userId, boolean priority);
+    
+    Hold cancel(Long id);
+    
+    Hold getById(Long id);
+    
+    List<Hold> findByUserId(Long userId);
+    
+    // WAITING holds of the title in the order copies will be assigned
+    List<Hold> getQueue(Long bookId);
+    
+    // 1-based place among the title's WAITING holds, 0 for holds no longer waiting
+    long queuePosition(Hold hold);
+    
+    // Puts a copy coming back into circulation on hold for the head of its title's queue, or back on the shelf
+    // when nobody is waiting. Runs in the caller's transaction and sets the copy's new status.
+    void releaseCopy(BookCopy bookCopy);
+    
+    // Marks the READY hold on the copy fulfilled if it belongs to the user; false when the copy is not theirs
+    boolean fulfil(BookCopy bookCopy, Long userId);
+    
+    // Expires READY holds not picked up before the date and passes their copies on; returns how many expired
+    int expireReadyHolds(LocalDate today);
+}
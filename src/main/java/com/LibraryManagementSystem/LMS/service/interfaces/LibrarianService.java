@@ -6,6 +6,9 @@ import com.LibraryManagementSystem.LMS.enums.Role;
 import com.LibraryManagementSystem.LMS.enums.Status;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -19,6 +22,8 @@ public interface LibrarianService {
     List<Librarian> getAll();
 
     Page<Librarian> getAllPaginated(Pageable pageable);
+    
+    Window<Librarian> scrollAll(ScrollPosition position, Sort sort, int size);
 
     Librarian update(Long id, Librarian librarian);
 
@@ -39,6 +44,11 @@ public interface LibrarianService {
     
     Page<Librarian> findByStatus(Status status, Pageable pageable);
     
+    // Typo-tolerant search over name, email and phone number, best match first
+    List<Librarian> search(String query, int limit);
+    
+    void rebuildSearchIndex();
+    
     // Business logic methods
     Librarian changePassword(Long librarianId, String oldPassword, String newPassword);
 }
@@ -0,0 +1,10 @@
+package com.LibraryManagementSystem.LMS.service.interfaces;
+
+import java.time.LocalDate;
+
+public interface OverdueSweepService {
+    
+    // Flags unreturned loans past due as OVERDUE and brings their accruing fines up to date as of the given day.
+    // Safe to run on several nodes at once; returns the number of loans this node processed.
+    long sweep(LocalDate today);
+}
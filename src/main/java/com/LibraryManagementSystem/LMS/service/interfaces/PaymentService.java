@@ -5,8 +5,12 @@ import com.LibraryManagementSystem.LMS.enums.PaymentMethod;
 import com.LibraryManagementSystem.LMS.enums.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PaymentService {
     
@@ -18,6 +22,11 @@ public interface PaymentService {
     List<Payment> getAll();
 
     Page<Payment> getAllPaginated(Pageable pageable);
+    
+    Window<Payment> scrollAll(ScrollPosition position, Sort sort, int size);
+    
+    // Streams every record through the action inside one read-only transaction
+    void streamAll(Consumer<Payment> action);
 
     Payment update(Long id, Payment payment);
 
@@ -5,6 +5,9 @@ import com.LibraryManagementSystem.LMS.entity.User;
 import com.LibraryManagementSystem.LMS.enums.Status;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -18,6 +21,8 @@ public interface UserService {
     List<User> getAll();
 
     Page<User> getAllPaginated(Pageable pageable);
+    
+    Window<User> scrollAll(ScrollPosition position, Sort sort, int size);
 
     User update(Long id, User user);
 
@@ -38,6 +43,11 @@ public interface UserService {
     
     Page<User> findByNameContainingIgnoreCase(String name, Pageable pageable);
     
+    // Typo-tolerant search over name, email and phone number, best match first
+    List<User> search(String query, int limit);
+    
+    void rebuildSearchIndex();
+    
     // Business logic methods
     User changePassword(Long userId, String oldPassword, String newPassword);
 }
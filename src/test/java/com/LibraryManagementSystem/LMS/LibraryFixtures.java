@@ -0,0 +1,103 @@
+package com.LibraryManagementSystem.LMS;
+
+import com.LibraryManagementSystem.LMS.entity.Author;
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.BookCopy;
+import com.LibraryManagementSystem.LMS.entity.Borrowed;
+import com.LibraryManagementSystem.LMS.entity.Genre;
+import com.LibraryManagementSystem.LMS.entity.Publisher;
+import com.LibraryManagementSystem.LMS.entity.User;
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+import com.LibraryManagementSystem.LMS.enums.BorrowStatus;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Unsaved entities for the integration tests. Test classes share one application context and database,
+// so every unique column carries a running number
+public final class LibraryFixtures {
+
+    // Any value with a BCrypt prefix passes the entity check; nobody logs in with these
+    public static final String PASSWORD_HASH = "$2a$10$testtesttesttesttesttesttesttesttesttesttesttesttestt";
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private LibraryFixtures() {
+    }
+
+    public static Publisher publisher() {
+        int n = SEQUENCE.incrementAndGet();
+        Publisher publisher = new Publisher();
+        publisher.setName("Publisher " + n);
+        publisher.setAddress(n + " Press Street");
+        publisher.setEmail("contact" + n + "@publisher.example");
+        publisher.setCountry("Country " + n);
+        return publisher;
+    }
+
+    public static Author author() {
+        int n = SEQUENCE.incrementAndGet();
+        Author author = new Author();
+        author.setName("Author " + n);
+        author.setNationality("Nation " + n);
+        return author;
+    }
+
+    public static Genre genre() {
+        int n = SEQUENCE.incrementAndGet();
+        Genre genre = new Genre();
+        genre.setName("Genre " + n);
+        genre.setDescription("Books of kind " + n);
+        return genre;
+    }
+
+    public static Book book(Publisher publisher, Set<Author> authors, Set<Genre> genres) {
+        int n = SEQUENCE.incrementAndGet();
+        Book book = new Book();
+        book.setIsbn(String.format("979%010d", n));
+        book.setTitle("Title " + n);
+        book.setPublicationDate(LocalDate.of(2000, 1, 1));
+        book.setLanguage("English");
+        book.setPageCount(200);
+        book.setPublisher(publisher);
+        book.setAuthors(new HashSet<>(authors));
+        book.setGenres(new HashSet<>(genres));
+        return book;
+    }
+
+    public static BookCopy copy(Book book) {
+        int n = SEQUENCE.incrementAndGet();
+        BookCopy copy = new BookCopy();
+        copy.setBarcode(String.format("TC%010d", n));
+        copy.setCondition("GOOD");
+        copy.setStatus(BookCopyStatus.AVAILABLE);
+        copy.setAcquisitionDate(LocalDate.of(2020, 1, 1));
+        copy.setLocation("Shelf " + n);
+        copy.setBook(book);
+        return copy;
+    }
+
+    public static User user() {
+        int n = SEQUENCE.incrementAndGet();
+        User user = new User();
+        user.setName("Reader " + n);
+        user.setEmail("reader" + n + "@lms.example");
+        user.setPassword(PASSWORD_HASH);
+        user.setPhoneNumber(String.format("0300%07d", n));
+        user.setAddress(n + " Library Lane");
+        user.setMembershipDate(LocalDate.of(2022, 1, 1));
+        return user;
+    }
+
+    public static Borrowed loan(BookCopy copy, User user, LocalDate borrowDate) {
+        Borrowed loan = new Borrowed();
+        loan.setBookCopy(copy);
+        loan.setUser(user);
+        loan.setBorrowDate(borrowDate);
+        loan.setDueDate(borrowDate.plusDays(14));
+        loan.setStatus(BorrowStatus.BORROWED);
+        return loan;
+    }
+}
@@ -0,0 +1,185 @@
+package com.LibraryManagementSystem.LMS.importer;
+
+import com.LibraryManagementSystem.LMS.enums.ImportFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogRecordReaderTest {
+
+    private static final char SUBFIELD = '\u001F';
+    private static final byte FIELD_TERMINATOR = 0x1E;
+    private static final byte RECORD_TERMINATOR = 0x1D;
+
+    @Test
+    void csvQuotedFieldsKeepEmbeddedQuotesCommasAndLineBreaks() throws IOException {
+        String csv = "isbn,title,description\r\n"
+                + "9780306406157,\"The \"\"Best\"\" Book\",\"Line one\nLine two, with a comma\"\r\n"
+                + "9780306406158,Plain,\r\n";
+
+        List<CatalogRecord> records = readAll(ImportFormat.CSV, csv.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).title()).isEqualTo("The \"Best\" Book");
+        assertThat(records.get(0).description()).isEqualTo("Line one\nLine two, with a comma");
+        assertThat(records.get(0).problem()).isNull();
+        assertThat(records.get(1).isbn()).isEqualTo("9780306406158");
+        assertThat(records.get(1).description()).isNull();
+    }
+
+    @Test
+    void csvDamagedRowIsReturnedAsMalformedAndReadingContinues() throws IOException {
+        String csv = "isbn,title\n"
+                + "9780306406157,\"Closed\" early\n"
+                + "9780306406158,Too,many,fields\n"
+                + "9780306406159,Fine\n";
+
+        List<CatalogRecord> records = readAll(ImportFormat.CSV, csv.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(records).hasSize(3);
+        assertThat(records.get(0).problem()).contains("closing quote");
+        assertThat(records.get(1).problem()).contains("4 fields");
+        assertThat(records.get(2).problem()).isNull();
+        assertThat(records.get(2).title()).isEqualTo("Fine");
+    }
+
+    @Test
+    void csvQuoteLeftOpenStopsTheReader() throws IOException {
+        String csv = "isbn,title\n9780306406157,\"Never closed\n9780306406158,Lost\n";
+
+        try (CatalogRecordReader reader = open(ImportFormat.CSV, csv.getBytes(StandardCharsets.UTF_8))) {
+            assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unterminated");
+        }
+    }
+
+    @Test
+    void marcUnicodeRecordIsDecodedAsUtf8WithByteCountedOffsets() throws IOException {
+        byte[] record = marc(true,
+                "020  " + SUBFIELD + "a9780306406157",
+                "1001 " + SUBFIELD + "aMüller, Jörg.",
+                "24510" + SUBFIELD + "aÜber Bücher /");
+
+        CatalogRecord read = readAll(ImportFormat.MARC, record).get(0);
+
+        assertThat(read.authors()).containsExactly("Müller, Jörg");
+        assertThat(read.title()).isEqualTo("Über Bücher");
+    }
+
+    @Test
+    void marc8RecordIsDecodedByteForByte() throws IOException {
+        byte[] record = marc(false,
+                "020  " + SUBFIELD + "a9780306406157",
+                "1001 " + SUBFIELD + "aRamírez, Ana,",
+                "24510" + SUBFIELD + "aPlain title :" + SUBFIELD + "bwith a subtitle.");
+
+        CatalogRecord read = readAll(ImportFormat.MARC, record).get(0);
+
+        assertThat(read.authors()).containsExactly("Ramírez, Ana");
+        assertThat(read.title()).isEqualTo("Plain title: with a subtitle");
+    }
+
+    @Test
+    void marcIsbnQualifiersAreDropped() throws IOException {
+        byte[] qualified = marc(true,
+                "020  " + SUBFIELD + "a978-0-306-40615-7 (pbk.) :" + SUBFIELD + "c$12.00",
+                "24510" + SUBFIELD + "aQualified");
+        // A cancelled ISBN ($z) is not the book's ISBN; the next 020 with an $a is
+        byte[] cancelledFirst = marc(true,
+                "020  " + SUBFIELD + "z0306406150",
+                "020  " + SUBFIELD + "a0306406152 (v. 1)",
+                "24510" + SUBFIELD + "aCancelled first");
+
+        List<CatalogRecord> records = readAll(ImportFormat.MARC, concat(qualified, cancelledFirst));
+
+        assertThat(records.get(0).isbn()).isEqualTo("9780306406157");
+        assertThat(records.get(1).isbn()).isEqualTo("0306406152");
+    }
+
+    @Test
+    void marcMalformedDirectoryOrOverrunCostsOnlyThatRecord() throws IOException {
+        String[] fields = {"020  " + SUBFIELD + "a9780306406157", "24510" + SUBFIELD + "aGood"};
+
+        byte[] badDirectory = marc(true, fields);
+        // Field length of the first directory entry (bytes 27-30)
+        badDirectory[28] = 'x';
+        byte[] overrun = marc(true, fields);
+        overrun[27] = '9';
+
+        List<CatalogRecord> records = readAll(ImportFormat.MARC, concat(badDirectory, overrun, marc(true, fields)));
+
+        assertThat(records).hasSize(3);
+        assertThat(records.get(0).problem()).contains("directory");
+        assertThat(records.get(1).problem()).contains("overruns");
+        assertThat(records.get(2).problem()).isNull();
+        assertThat(records.get(2).title()).isEqualTo("Good");
+    }
+
+    @Test
+    void marcBrokenRecordLengthStopsTheReader() throws IOException {
+        byte[] record = marc(true, "24510" + SUBFIELD + "aGood");
+        record[2] = 'x';
+
+        try (CatalogRecordReader reader = open(ImportFormat.MARC, record)) {
+            assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static CatalogRecordReader open(ImportFormat format, byte[] bytes) throws IOException {
+        return CatalogRecordReader.open(format, new ByteArrayInputStream(bytes));
+    }
+
+    private static List<CatalogRecord> readAll(ImportFormat format, byte[] bytes) throws IOException {
+        List<CatalogRecord> records = new ArrayList<>();
+        try (CatalogRecordReader reader = open(format, bytes)) {
+            CatalogRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    // ISO 2709 record from fields written as tag + indicators + subfields; leader/09 'a' marks it as UTF-8,
+    // blank as MARC-8
+    private static byte[] marc(boolean unicode, String... fields) {
+        Charset charset = unicode ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1;
+        ByteArrayOutputStream directory = new ByteArrayOutputStream();
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        for (String field : fields) {
+            byte[] value = field.substring(3).getBytes(charset);
+            String entry = String.format("%s%04d%05d", field.substring(0, 3), value.length + 1, data.size());
+            directory.writeBytes(entry.getBytes(StandardCharsets.US_ASCII));
+            data.writeBytes(value);
+            data.write(FIELD_TERMINATOR);
+        }
+        directory.write(FIELD_TERMINATOR);
+        data.write(RECORD_TERMINATOR);
+
+        int baseAddress = 24 + directory.size();
+        int length = baseAddress + data.size();
+        String leader = String.format("%05dnam %c22%05d   4500", length, unicode ? 'a' : ' ', baseAddress);
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        record.writeBytes(leader.getBytes(StandardCharsets.US_ASCII));
+        record.writeBytes(directory.toByteArray());
+        record.writeBytes(data.toByteArray());
+        return record.toByteArray();
+    }
+
+    private static byte[] concat(byte[]... records) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] record : records) {
+            out.writeBytes(record);
+        }
+        return out.toByteArray();
+    }
+}
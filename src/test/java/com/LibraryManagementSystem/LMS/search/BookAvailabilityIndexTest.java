@@ -0,0 +1,65 @@
+package com.LibraryManagementSystem.LMS.search;
+
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.BookCopy;
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Copies reported while a reload is reading the database: the snapshot may or may not already contain them,
+// and either way each copy must be counted once, in its latest status
+class BookAvailabilityIndexTest {
+
+    private static final long BOOK_ID = 42L;
+
+    @Test
+    void copiesReportedDuringAReloadAreCountedOnceInTheirLatestStatus() {
+        BookAvailabilityIndex index = new BookAvailabilityIndex();
+
+        index.reload(() -> {
+            // Committed before the snapshot was read: the snapshot already has copy 1 out
+            index.index(copy(1L, BookCopyStatus.BORROWED));
+            // Committed after the snapshot was read: the snapshot still has copy 2 on the shelf
+            List<BookAvailabilityIndex.Row> snapshot = List.of(
+                    new BookAvailabilityIndex.Row(1L, BOOK_ID, BookCopyStatus.BORROWED),
+                    new BookAvailabilityIndex.Row(2L, BOOK_ID, BookCopyStatus.AVAILABLE),
+                    new BookAvailabilityIndex.Row(3L, BOOK_ID, BookCopyStatus.AVAILABLE));
+            index.index(copy(2L, BookCopyStatus.BORROWED));
+            return snapshot;
+        });
+
+        BookAvailabilityIndex.Availability availability = index.get(BOOK_ID);
+        assertThat(availability.total()).isEqualTo(3);
+        assertThat(availability.borrowed()).isEqualTo(2);
+        assertThat(availability.available()).isEqualTo(1);
+    }
+
+    @Test
+    void reportingTheSameStateTwiceCountsTheCopyOnce() {
+        BookAvailabilityIndex index = new BookAvailabilityIndex();
+
+        index.index(copy(1L, BookCopyStatus.AVAILABLE));
+        index.index(copy(1L, BookCopyStatus.AVAILABLE));
+        index.index(copy(2L, BookCopyStatus.ON_HOLD));
+        index.removeCopy(2L);
+        index.removeCopy(2L);
+
+        BookAvailabilityIndex.Availability availability = index.get(BOOK_ID);
+        assertThat(availability.total()).isEqualTo(1);
+        assertThat(availability.available()).isEqualTo(1);
+        assertThat(availability.onHold()).isZero();
+    }
+
+    private static BookCopy copy(Long id, BookCopyStatus status) {
+        Book book = new Book();
+        book.setId(BOOK_ID);
+        BookCopy copy = new BookCopy();
+        copy.setId(id);
+        copy.setBook(book);
+        copy.setStatus(status);
+        return copy;
+    }
+}
@@ -0,0 +1,152 @@
+package com.LibraryManagementSystem.LMS.service;
+
+import com.LibraryManagementSystem.LMS.LibraryFixtures;
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.BookCopy;
+import com.LibraryManagementSystem.LMS.entity.Borrowed;
+import com.LibraryManagementSystem.LMS.entity.User;
+import com.LibraryManagementSystem.LMS.enums.BatchItemStatus;
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+import com.LibraryManagementSystem.LMS.repository.AuthorRepository;
+import com.LibraryManagementSystem.LMS.repository.BookCopyRepository;
+import com.LibraryManagementSystem.LMS.repository.BookRepository;
+import com.LibraryManagementSystem.LMS.repository.BorrowedRepository;
+import com.LibraryManagementSystem.LMS.repository.GenreRepository;
+import com.LibraryManagementSystem.LMS.repository.PublisherRepository;
+import com.LibraryManagementSystem.LMS.repository.UserRepository;
+import com.LibraryManagementSystem.LMS.service.interfaces.BorrowedService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Many desks lending the same copy at the same moment: exactly one loan may come out of it, whether the
+// copy is claimed by the conditional update in create() or by the version check in checkoutBatch()
+@SpringBootTest
+@ActiveProfiles("test")
+class BorrowedConcurrencyTest {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private BorrowedService borrowedService;
+
+    @Autowired
+    private BorrowedRepository borrowedRepository;
+
+    @Autowired
+    private BookCopyRepository bookCopyRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentCreateLendsTheCopyOnce() throws Exception {
+        BookCopy copy = saveCopy();
+        List<User> users = saveUsers();
+        LocalDate today = LocalDate.now();
+
+        List<Object> outcomes = race(i -> {
+            BookCopy reference = new BookCopy();
+            reference.setId(copy.getId());
+            return borrowedService.create(LibraryFixtures.loan(reference, users.get(i), today));
+        });
+
+        assertThat(outcomes).filteredOn(Borrowed.class::isInstance).hasSize(1);
+        assertThat(outcomes).filteredOn(IllegalStateException.class::isInstance).hasSize(THREADS - 1);
+        assertLentOnce(copy);
+    }
+
+    @Test
+    void concurrentCheckoutBatchLendsTheCopyOnce() throws Exception {
+        BookCopy copy = saveCopy();
+        List<User> users = saveUsers();
+        LocalDate today = LocalDate.now();
+
+        List<Object> outcomes = race(i -> borrowedService.checkoutBatch(
+                users.get(i).getId(), List.of(copy.getBarcode()), today, today.plusDays(14)).get(0).status());
+
+        assertThat(outcomes).filteredOn(BatchItemStatus.OK::equals).hasSize(1);
+        assertThat(outcomes).filteredOn(BatchItemStatus.NOT_AVAILABLE::equals).hasSize(THREADS - 1);
+        assertLentOnce(copy);
+    }
+
+    private void assertLentOnce(BookCopy copy) {
+        assertThat(borrowedRepository.findOpenByBookCopyIdIn(List.of(copy.getId()))).hasSize(1);
+        assertThat(bookCopyRepository.findById(copy.getId()).orElseThrow().getStatus())
+                .isEqualTo(BookCopyStatus.BORROWED);
+    }
+
+    // Runs the attempt on THREADS threads released together; each outcome is the result or the exception thrown
+    private List<Object> race(IntFunction<Object> attempt) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch ready = new CountDownLatch(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Object>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        return attempt.apply(index);
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            List<Object> outcomes = new ArrayList<>(THREADS);
+            for (Future<Object> future : futures) {
+                outcomes.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private BookCopy saveCopy() {
+        Book book = bookRepository.save(LibraryFixtures.book(
+                publisherRepository.save(LibraryFixtures.publisher()),
+                Set.of(authorRepository.save(LibraryFixtures.author())),
+                Set.of(genreRepository.save(LibraryFixtures.genre()))));
+        return bookCopyRepository.save(LibraryFixtures.copy(book));
+    }
+
+    private List<User> saveUsers() {
+        List<User> users = new ArrayList<>(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            users.add(LibraryFixtures.user());
+        }
+        return userRepository.saveAll(users);
+    }
+}
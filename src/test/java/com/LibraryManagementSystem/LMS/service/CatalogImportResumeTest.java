@@ -0,0 +1,77 @@
+package com.LibraryManagementSystem.LMS.service;
+
+import com.LibraryManagementSystem.LMS.entity.ImportJob;
+import com.LibraryManagementSystem.LMS.enums.ImportFormat;
+import com.LibraryManagementSystem.LMS.enums.ImportJobStatus;
+import com.LibraryManagementSystem.LMS.repository.BookRepository;
+import com.LibraryManagementSystem.LMS.service.interfaces.CatalogImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// A file whose last row loses the CSV framing fails after the first chunk has committed. Resuming the job
+// with the repaired file skips what was committed and finishes the rest; the malformed row in the first
+// chunk stays counted as rejected and creates nothing.
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogImportResumeTest {
+
+    // One more than CatalogImportServiceImpl's chunk size, so the first chunk commits before the failure
+    private static final int ROWS = 501;
+    private static final int MALFORMED_ROW = 10;
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Test
+    void resumedJobContinuesFromItsCheckpoint() {
+        List<String> isbns = new ArrayList<>();
+        StringBuilder rows = new StringBuilder("isbn,title,authors\n");
+        for (int i = 1; i < ROWS; i++) {
+            String isbn = String.format("977%010d", i);
+            isbns.add(isbn);
+            rows.append(isbn).append(",Imported title ").append(i)
+                    .append(i == MALFORMED_ROW ? ",Author,stray" : ",Import Author " + (i % 7)).append('\n');
+        }
+        String lastIsbn = String.format("977%010d", ROWS);
+        isbns.add(lastIsbn);
+
+        String broken = rows + lastIsbn + ",\"Last title\n";
+        assertThatThrownBy(() -> catalogImportService.importCatalog(ImportFormat.CSV, stream(broken), null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        ImportJob failed = catalogImportService.getAllJobs().get(0);
+        assertThat(failed.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(failed.getRecordsRead()).isEqualTo(500);
+        assertThat(failed.getRecordsRejected()).isEqualTo(1);
+        assertThat(failed.getBooksCreated()).isEqualTo(499);
+
+        String repaired = rows + lastIsbn + ",\"Last title\"\n";
+        ImportJob resumed = catalogImportService.importCatalog(ImportFormat.CSV, stream(repaired), failed.getId());
+
+        assertThat(resumed.getId()).isEqualTo(failed.getId());
+        assertThat(resumed.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(resumed.getRecordsRead()).isEqualTo(ROWS);
+        assertThat(resumed.getRecordsRejected()).isEqualTo(1);
+        assertThat(resumed.getDuplicatesSkipped()).isZero();
+        assertThat(resumed.getBooksCreated()).isEqualTo(ROWS - 1);
+        assertThat(bookRepository.findExistingIsbns(isbns)).hasSize(ROWS - 1)
+                .doesNotContain(String.format("977%010d", MALFORMED_ROW));
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
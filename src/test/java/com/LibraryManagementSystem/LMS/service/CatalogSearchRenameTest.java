@@ -0,0 +1,96 @@
+package com.LibraryManagementSystem.LMS.service;
+
+import com.LibraryManagementSystem.LMS.LibraryFixtures;
+import com.LibraryManagementSystem.LMS.entity.Author;
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.Genre;
+import com.LibraryManagementSystem.LMS.entity.Publisher;
+import com.LibraryManagementSystem.LMS.repository.AuthorRepository;
+import com.LibraryManagementSystem.LMS.repository.GenreRepository;
+import com.LibraryManagementSystem.LMS.repository.PublisherRepository;
+import com.LibraryManagementSystem.LMS.search.CatalogSearchIndex;
+import com.LibraryManagementSystem.LMS.service.interfaces.AuthorService;
+import com.LibraryManagementSystem.LMS.service.interfaces.BookService;
+import com.LibraryManagementSystem.LMS.service.interfaces.GenreService;
+import com.LibraryManagementSystem.LMS.service.interfaces.PublisherService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Books carry their authors', genres' and publisher's names in the full-text index, so renaming one of those
+// must re-index every book that lists it
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogSearchRenameTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private GenreService genreService;
+
+    @Autowired
+    private PublisherService publisherService;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    @Autowired
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @Test
+    void renamingAnAuthorReindexesItsBooks() {
+        Author author = authorRepository.save(LibraryFixtures.author());
+        Book book = saveBook(author, genreRepository.save(LibraryFixtures.genre()), publisherRepository.save(LibraryFixtures.publisher()));
+        String oldName = author.getName();
+
+        Author renamed = LibraryFixtures.author();
+        renamed.setName("Marguerite Quillfeather");
+        authorService.update(author.getId(), renamed);
+
+        assertThat(catalogSearchIndex.search("quillfeather", 10)).contains(book.getId());
+        assertThat(catalogSearchIndex.search(oldName, 10)).doesNotContain(book.getId());
+    }
+
+    @Test
+    void renamingAGenreReindexesItsBooks() {
+        Genre genre = genreRepository.save(LibraryFixtures.genre());
+        Book book = saveBook(authorRepository.save(LibraryFixtures.author()), genre, publisherRepository.save(LibraryFixtures.publisher()));
+
+        Genre renamed = LibraryFixtures.genre();
+        renamed.setName("Palimpsests");
+        genreService.update(genre.getId(), renamed);
+
+        assertThat(catalogSearchIndex.search("palimpsests", 10)).contains(book.getId());
+    }
+
+    @Test
+    void renamingAPublisherReindexesItsBooks() {
+        Publisher publisher = publisherRepository.save(LibraryFixtures.publisher());
+        Book book = saveBook(authorRepository.save(LibraryFixtures.author()), genreRepository.save(LibraryFixtures.genre()), publisher);
+
+        Publisher renamed = LibraryFixtures.publisher();
+        renamed.setName("Wexcombe House");
+        publisherService.update(publisher.getId(), renamed);
+
+        assertThat(catalogSearchIndex.search("wexcombe", 10)).contains(book.getId());
+    }
+
+    private Book saveBook(Author author, Genre genre, Publisher publisher) {
+        return bookService.create(LibraryFixtures.book(publisher, Set.of(author), Set.of(genre)));
+    }
+}
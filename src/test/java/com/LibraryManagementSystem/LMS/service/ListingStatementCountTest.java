@@ -0,0 +1,205 @@
+package com.LibraryManagementSystem.LMS.service;
+
+import com.LibraryManagementSystem.LMS.LibraryFixtures;
+import com.LibraryManagementSystem.LMS.entity.Author;
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.BookCopy;
+import com.LibraryManagementSystem.LMS.entity.Borrowed;
+import com.LibraryManagementSystem.LMS.entity.Fine;
+import com.LibraryManagementSystem.LMS.entity.Genre;
+import com.LibraryManagementSystem.LMS.entity.Payment;
+import com.LibraryManagementSystem.LMS.entity.Publisher;
+import com.LibraryManagementSystem.LMS.entity.User;
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+import com.LibraryManagementSystem.LMS.enums.PaymentMethod;
+import com.LibraryManagementSystem.LMS.mapper.BookMapper;
+import com.LibraryManagementSystem.LMS.mapper.BorrowedMapper;
+import com.LibraryManagementSystem.LMS.mapper.FineMapper;
+import com.LibraryManagementSystem.LMS.mapper.PaymentMapper;
+import com.LibraryManagementSystem.LMS.repository.AuthorRepository;
+import com.LibraryManagementSystem.LMS.repository.BookCopyRepository;
+import com.LibraryManagementSystem.LMS.repository.BookRepository;
+import com.LibraryManagementSystem.LMS.repository.BorrowedRepository;
+import com.LibraryManagementSystem.LMS.repository.FineRepository;
+import com.LibraryManagementSystem.LMS.repository.GenreRepository;
+import com.LibraryManagementSystem.LMS.repository.PaymentRepository;
+import com.LibraryManagementSystem.LMS.repository.PublisherRepository;
+import com.LibraryManagementSystem.LMS.repository.UserRepository;
+import com.LibraryManagementSystem.LMS.service.interfaces.BookService;
+import com.LibraryManagementSystem.LMS.service.interfaces.BorrowedService;
+import com.LibraryManagementSystem.LMS.service.interfaces.FineService;
+import com.LibraryManagementSystem.LMS.service.interfaces.PaymentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A listing page, mapped to its response DTOs as the controllers do, must cost the same number of statements
+// whatever its size: anything that grows with the page is a lazy association loaded row by row
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListingStatementCountTest {
+
+    private static final int ROWS = 40;
+    private static final int SMALL_PAGE = 5;
+    private static final int LARGE_PAGE = 30;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BorrowedService borrowedService;
+
+    @Autowired
+    private FineService fineService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private BookMapper bookMapper;
+
+    @Autowired
+    private BorrowedMapper borrowedMapper;
+
+    @Autowired
+    private FineMapper fineMapper;
+
+    @Autowired
+    private PaymentMapper paymentMapper;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookCopyRepository bookCopyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BorrowedRepository borrowedRepository;
+
+    @Autowired
+    private FineRepository fineRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Every book gets its own publisher, authors and genres, and every loan its own patron, so nothing
+    // the mappers walk is shared between rows of a page
+    @BeforeAll
+    void seed() {
+        LocalDate today = LocalDate.now();
+        for (int n = 0; n < ROWS; n++) {
+            Publisher publisher = publisherRepository.save(LibraryFixtures.publisher());
+            Set<Author> authors = Set.copyOf(authorRepository.saveAll(
+                    List.of(LibraryFixtures.author(), LibraryFixtures.author())));
+            Set<Genre> genres = Set.copyOf(genreRepository.saveAll(
+                    List.of(LibraryFixtures.genre(), LibraryFixtures.genre())));
+            Book book = bookRepository.save(LibraryFixtures.book(publisher, authors, genres));
+
+            BookCopy copy = LibraryFixtures.copy(book);
+            copy.setStatus(BookCopyStatus.BORROWED);
+            copy = bookCopyRepository.save(copy);
+            User user = userRepository.save(LibraryFixtures.user());
+            Borrowed loan = borrowedRepository.save(LibraryFixtures.loan(copy, user, today.minusDays(30)));
+
+            Fine fine = new Fine();
+            fine.setAmount(new BigDecimal("1.50"));
+            fine.setAssessedDate(today);
+            fine.setReason("Overdue");
+            fine.setBorrowed(loan);
+            fine = fineRepository.save(fine);
+
+            Payment payment = new Payment();
+            payment.setAmount(fine.getAmount());
+            payment.setPaymentDate(today);
+            payment.setPaymentMethod(PaymentMethod.values()[0]);
+            payment.setTransactionId("TXN-" + loan.getId());
+            payment.setFine(fine);
+            paymentRepository.save(payment);
+        }
+    }
+
+    @Test
+    void bookPageStatementsDoNotGrowWithPageSize() {
+        assertConstantPerPage(pageable -> bookService.getAllPaginated(pageable).map(bookMapper::toResponseDTO));
+    }
+
+    @Test
+    void borrowedPageStatementsDoNotGrowWithPageSize() {
+        assertConstantPerPage(pageable -> borrowedService.getAllPaginated(pageable).map(borrowedMapper::toResponseDTO));
+    }
+
+    @Test
+    void finePageStatementsDoNotGrowWithPageSize() {
+        assertConstantPerPage(pageable -> fineService.getAllPaginated(pageable).map(fineMapper::toResponseDTO));
+    }
+
+    @Test
+    void paymentPageStatementsDoNotGrowWithPageSize() {
+        assertConstantPerPage(pageable -> paymentService.getAllPaginated(pageable).map(paymentMapper::toResponseDTO));
+    }
+
+    private void assertConstantPerPage(Function<Pageable, Page<?>> listing) {
+        long small = statements(listing, SMALL_PAGE);
+        long large = statements(listing, LARGE_PAGE);
+        assertThat(large)
+                .as("statements for a page of %d vs a page of %d", LARGE_PAGE, SMALL_PAGE)
+                .isEqualTo(small);
+    }
+
+    // Statements prepared for one page, read and mapped in one read-only transaction as a request does
+    private long statements(Function<Pageable, Page<?>> listing, int size) {
+        // Cold second-level cache for both sizes, so the first run does not warm it for the second. JPA's
+        // evictAll() only drops entities; cached collections would then load their elements one id at a time
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Page<?> page = readOnly.execute(status -> listing.apply(PageRequest.of(0, size, Sort.by("id"))));
+
+        assertThat(page.getContent()).hasSize(size);
+        return statistics.getPrepareStatementCount();
+    }
+}
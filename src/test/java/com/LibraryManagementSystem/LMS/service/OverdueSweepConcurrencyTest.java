@@ -0,0 +1,150 @@
+package com.LibraryManagementSystem.LMS.service;
+
+import com.LibraryManagementSystem.LMS.LibraryFixtures;
+import com.LibraryManagementSystem.LMS.config.FineConfig;
+import com.LibraryManagementSystem.LMS.entity.Book;
+import com.LibraryManagementSystem.LMS.entity.BookCopy;
+import com.LibraryManagementSystem.LMS.entity.Borrowed;
+import com.LibraryManagementSystem.LMS.entity.Fine;
+import com.LibraryManagementSystem.LMS.enums.BookCopyStatus;
+import com.LibraryManagementSystem.LMS.enums.BorrowStatus;
+import com.LibraryManagementSystem.LMS.enums.FineStatus;
+import com.LibraryManagementSystem.LMS.repository.AuthorRepository;
+import com.LibraryManagementSystem.LMS.repository.BookCopyRepository;
+import com.LibraryManagementSystem.LMS.repository.BookRepository;
+import com.LibraryManagementSystem.LMS.repository.BorrowedRepository;
+import com.LibraryManagementSystem.LMS.repository.FineRepository;
+import com.LibraryManagementSystem.LMS.repository.GenreRepository;
+import com.LibraryManagementSystem.LMS.repository.PublisherRepository;
+import com.LibraryManagementSystem.LMS.repository.UserRepository;
+import com.LibraryManagementSystem.LMS.service.interfaces.BorrowedService;
+import com.LibraryManagementSystem.LMS.service.interfaces.OverdueSweepService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A return settling a fine while a sweep chunk is rewriting the same accruing fine. The loan is already
+// OVERDUE (a later night), so the sweep never writes the loan and only the fine's own version can stop it
+@SpringBootTest
+@ActiveProfiles("test")
+class OverdueSweepConcurrencyTest {
+
+    @Autowired
+    private OverdueSweepService overdueSweepService;
+
+    @Autowired
+    private BorrowedService borrowedService;
+
+    @Autowired
+    private FineConfig fineConfig;
+
+    @Autowired
+    private FineRepository fineRepository;
+
+    @Autowired
+    private BorrowedRepository borrowedRepository;
+
+    @Autowired
+    private BookCopyRepository bookCopyRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void sweepDoesNotOverwriteAFineSettledByAConcurrentReturn() throws Exception {
+        LocalDate today = LocalDate.now();
+        LocalDate dueDate = today.minusDays(10);
+        LocalDate returnDate = today.minusDays(1);
+        Borrowed loan = saveOverdueLoanWithAccruingFine(dueDate);
+
+        // The return flushes its fine update and keeps the row locked until it commits; the sweep reads the
+        // old fine meanwhile and then waits on that lock
+        CompletableFuture<Long> sweep = new TransactionTemplate(transactionManager).execute(status -> {
+            borrowedService.returnBook(loan.getId(), returnDate);
+            entityManager.flush();
+            CompletableFuture<Long> running = CompletableFuture.supplyAsync(() -> overdueSweepService.sweep(today));
+            awaitBlockedSession();
+            return running;
+        });
+        sweep.get(30, TimeUnit.SECONDS);
+
+        Fine fine = fineRepository.findByBorrowed(loan).orElseThrow();
+        BigDecimal settled = fineConfig.amountFor(fineConfig.chargeableDays(dueDate, returnDate));
+        assertThat(fine.getAmount()).isEqualByComparingTo(settled);
+        assertThat(fine.getAssessedDate()).isEqualTo(returnDate);
+        assertThat(fine.getReason()).startsWith("Overdue return");
+        assertThat(borrowedRepository.findById(loan.getId()).orElseThrow().getReturnDate()).isEqualTo(returnDate);
+    }
+
+    private Borrowed saveOverdueLoanWithAccruingFine(LocalDate dueDate) {
+        Book book = bookRepository.save(LibraryFixtures.book(
+                publisherRepository.save(LibraryFixtures.publisher()),
+                Set.of(authorRepository.save(LibraryFixtures.author())),
+                Set.of(genreRepository.save(LibraryFixtures.genre()))));
+        BookCopy copy = LibraryFixtures.copy(book);
+        copy.setStatus(BookCopyStatus.BORROWED);
+        copy = bookCopyRepository.save(copy);
+
+        Borrowed loan = LibraryFixtures.loan(copy, userRepository.save(LibraryFixtures.user()), dueDate.minusDays(14));
+        loan.setDueDate(dueDate);
+        loan.setStatus(BorrowStatus.OVERDUE);
+        loan = borrowedRepository.save(loan);
+
+        // As the previous night's sweep left it
+        Fine fine = new Fine();
+        fine.setBorrowed(loan);
+        fine.setAmount(fineConfig.amountFor(fineConfig.chargeableDays(dueDate, LocalDate.now().minusDays(1))).add(BigDecimal.ONE));
+        fine.setAssessedDate(LocalDate.now().minusDays(1));
+        fine.setStatus(FineStatus.PENDING);
+        fine.setReason("Overdue: accruing");
+        fineRepository.save(fine);
+        return loan;
+    }
+
+    private void awaitBlockedSession() {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            Integer blocked = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS WHERE BLOCKER_ID IS NOT NULL", Integer.class);
+            if (blocked != null && blocked > 0) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("The sweep never waited on the returned loan's fine");
+    }
+}